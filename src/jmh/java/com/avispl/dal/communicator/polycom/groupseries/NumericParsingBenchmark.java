@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * NumericParsingBenchmark - {@link StringUtils} number conversion of the values, as reported by the device: plain numbers,
+ * numbers with units, and the values that are not numbers at all.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericParsingBenchmark {
+	@Param({ "1920", "29.97", "1856 K", "---", "H.264High" })
+	public String value;
+
+	@Benchmark
+	public Integer convertToInteger() {
+		return StringUtils.convertToInteger(value);
+	}
+
+	@Benchmark
+	public Float convertToFloat() {
+		return StringUtils.convertToFloat(value);
+	}
+
+	@Benchmark
+	public Double convertToDouble() {
+		return StringUtils.convertToDouble(value);
+	}
+
+	@Benchmark
+	public int parseInteger() {
+		return StringUtils.parseInteger(value, 0, value.length(), false);
+	}
+}
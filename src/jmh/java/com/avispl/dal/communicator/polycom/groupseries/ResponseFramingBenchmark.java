@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ResponseFramingBenchmark - end of response detection: {@link PolycomGroupSeries#doneReading(String, String)} check of a complete
+ * response, and incremental {@link ResponseFramer} framing of a single response and of a batch of poll responses, as they
+ * arrive in read chunks of the given size.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFramingBenchmark {
+	private static final List<String> BATCH_COMMANDS = Arrays.asList("status", "whoami", "mute near get", "volume get",
+			"systemsetting get sipregistrarserver", "gatekeeperip get", "callinfo all");
+
+	@Param({ "64", "1024" })
+	public int chunkSize;
+
+	private PolycomGroupSeries device;
+	private TerminatorMatcher errorMatcher;
+	private TerminatorMatcher successMatcher;
+	private String batchResponse;
+
+	@Setup
+	public void setUp() {
+		device = new PolycomGroupSeries();
+		errorMatcher = TerminatorMatcher.compile(device.getCommandErrorList());
+		successMatcher = TerminatorMatcher.compile(device.getCommandSuccessList());
+		StringBuilder batch = new StringBuilder();
+		for (String command : BATCH_COMMANDS) {
+			batch.append(Transcripts.respond(command));
+		}
+		batchResponse = batch.toString();
+	}
+
+	@Benchmark
+	public boolean doneReading() throws Exception {
+		return device.doneReading("status", Transcripts.STATUS);
+	}
+
+	@Benchmark
+	public boolean frameResponse() {
+		return frame(new ResponseFramer(errorMatcher, successMatcher, null), Transcripts.STATUS);
+	}
+
+	@Benchmark
+	public boolean frameBatch() {
+		return frame(new ResponseFramer(errorMatcher, successMatcher, BATCH_COMMANDS), batchResponse);
+	}
+
+	private boolean frame(ResponseFramer framer, String response) {
+		StringBuilder received = new StringBuilder(response.length());
+		for (int position = 0; position < response.length(); position += chunkSize) {
+			received.append(response, position, Math.min(response.length(), position + chunkSize));
+			if (framer.append(received)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
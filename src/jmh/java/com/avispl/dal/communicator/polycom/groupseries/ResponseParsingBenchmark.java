@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils;
+import com.avispl.symphony.api.dal.dto.monitor.AudioChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.CallStats;
+import com.avispl.symphony.api.dal.dto.monitor.ContentChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.VideoChannelStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ResponseParsingBenchmark - parsing of captured command responses: netstats and advnetstats by {@link CallStatisticsParser}
+ * (and by the StringTokenizer based parsing it has replaced, see {@link LegacyCallStatisticsParser}), status and whoami
+ * by the adapter line parsers, and single value extraction by {@link StringUtils#getDataBetween(String, String, String)}.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+	@Benchmark
+	public CallStats callStatistics() {
+		CallStats callStats = new CallStats();
+		CallStatisticsParser parser = new CallStatisticsParser(callStats, new AudioChannelStats(), new VideoChannelStats(), new ContentChannelStats());
+		parser.parseNetworkStats(Transcripts.NETWORK_STATS);
+		parser.parseAdvancedStats(Transcripts.ADVANCED_STATS);
+		return callStats;
+	}
+
+	@Benchmark
+	public int[] callStatisticsLegacy() {
+		return LegacyCallStatisticsParser.parse(Transcripts.NETWORK_STATS, Transcripts.ADVANCED_STATS, new CallStats(), new AudioChannelStats(),
+				new VideoChannelStats(), new ContentChannelStats());
+	}
+
+	@Benchmark
+	public Map<String, String> status() {
+		Map<String, String> statistics = new HashMap<>();
+		PolycomGroupSeries.STATUS_PARSER.populate(PolycomGroupSeries.STATUS_PARSER.parse(Transcripts.STATUS), statistics, true);
+		return statistics;
+	}
+
+	@Benchmark
+	public Map<String, String> whoami() {
+		Map<String, String> statistics = new HashMap<>();
+		PolycomGroupSeries.WHOAMI_PARSER.populate(PolycomGroupSeries.WHOAMI_PARSER.parse(Transcripts.WHOAMI), statistics, false);
+		return statistics;
+	}
+
+	@Benchmark
+	public String volume() {
+		return StringUtils.getDataBetween(Transcripts.VOLUME, "get\r\nvolume ", Transcripts.LINE_BREAKER);
+	}
+}
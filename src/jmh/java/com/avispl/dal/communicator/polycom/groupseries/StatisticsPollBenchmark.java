@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StatisticsPollBenchmark - complete {@link PolycomGroupSeries#getMultipleStatistics()} of a device in a call, with commands
+ * answered from {@link Transcripts} in memory, so only the adapter own processing is measured, with no I/O or command pacing.
+ * <p>
+ * With {@code cached} set, polling groups keep their default intervals, so the static and slow groups are collected once and then
+ * served from cache, as during the regular polls. Otherwise every group is collected again with every poll.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsPollBenchmark {
+	@Param({ "true", "false" })
+	public boolean cached;
+
+	private PolycomGroupSeries device;
+
+	@Setup
+	public void setUp() {
+		device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) {
+				return Transcripts.respond(command);
+			}
+		};
+		if (!cached) {
+			device.setStaticPollingInterval(0);
+			device.setSlowPollingInterval(0);
+			device.setFastPollingInterval(0);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		device.destroy();
+	}
+
+	@Benchmark
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		return device.getMultipleStatistics();
+	}
+}
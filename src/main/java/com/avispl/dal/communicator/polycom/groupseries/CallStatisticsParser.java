@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils;
+import com.avispl.symphony.api.dal.dto.monitor.AudioChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.CallStats;
+import com.avispl.symphony.api.dal.dto.monitor.ContentChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.VideoChannelStats;
+
+import java.util.Arrays;
+
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.parseFloat;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.parseInteger;
+
+/**
+ * Single-pass parser of {@code netstats} and {@code advnetstats} responses.
+ * <p>
+ * The response is walked once, char by char. Every whitespace separated "key:value" token is looked up in a precomputed table
+ * of statistics codes (keys are packed into a long, so the lookup is a binary search over primitives), and the value is parsed
+ * in place, with no intermediate Strings, regular expressions or exceptions. Strings are only created for textual statistics
+ * (codecs, protocol, frame sizes), and numeric values are only boxed when they are passed to the statistics DTOs.
+ * <p>
+ * Values are converted in {@link StringUtils} lenient mode, same as {@link StringUtils#convertToInteger(String)} and
+ * {@link StringUtils#convertToFloat(String)} do: a value that is not a number is stripped of everything but digits and dots, and
+ * a value that is still not a number (e.g. "---") is reported as null.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class CallStatisticsParser {
+    private static final int NONE = StringUtils.NULL_INTEGER;
+    private static final char LOWER_CASE_P = 'p';
+    private static final char X_CHARACTER = 'x';
+
+    /**
+     * Codes reported by {@code netstats}, indexes of the codes are used as statistic ids
+     */
+    private static final String[] NETWORK_STATS_CODES = {"tvp", "tap", "rctp", "tcp", "%pktloss", "pktloss", "rvf", "tvf"};
+    private static final int VIDEO_CODEC = 0;
+    private static final int AUDIO_CODEC = 1;
+    private static final int CONTENT_RX_CODEC = 2;
+    private static final int PROTOCOL = 3;
+    private static final int PERCENT_TX_PACKETLOSS = 4;
+    private static final int TOTAL_TX_PACKETLOSS = 5;
+    private static final int VIDEO_RX_FRAME_SIZE = 6;
+    private static final int VIDEO_TX_FRAME_SIZE = 7;
+
+    /**
+     * Codes reported by {@code advnetstats}, indexes of the codes are used as statistic ids
+     */
+    private static final String[] ADVANCED_STATS_CODES = {"tar", "rar", "tvr", "rvr", "tcr", "rcr", "taj", "raj", "tapl", "rapl", "tvj",
+            "rvj", "tvpl", "rvpl", "tvru", "rvru", "tvfr", "rvfr", "tcpl", "rcpl", "tcru", "rcru", "tcfr", "rcfr"};
+    private static final int AUDIO_TX_RATE = 0;
+    private static final int AUDIO_RX_RATE = 1;
+    private static final int VIDEO_TX_RATE = 2;
+    private static final int VIDEO_RX_RATE = 3;
+    private static final int CONTENT_TX_RATE = 4;
+    private static final int CONTENT_RX_RATE = 5;
+    private static final int AUDIO_TX_JITTER = 6;
+    private static final int AUDIO_RX_JITTER = 7;
+    private static final int AUDIO_TX_PACKETLOSS = 8;
+    private static final int AUDIO_RX_PACKETLOSS = 9;
+    private static final int VIDEO_TX_JITTER = 10;
+    private static final int VIDEO_RX_JITTER = 11;
+    private static final int VIDEO_TX_PACKETLOSS = 12;
+    private static final int VIDEO_RX_PACKETLOSS = 13;
+    private static final int VIDEO_TX_BITRATE = 14;
+    private static final int VIDEO_RX_BITRATE = 15;
+    private static final int VIDEO_TX_FRAMERATE = 16;
+    private static final int VIDEO_RX_FRAMERATE = 17;
+    private static final int CONTENT_TX_PACKETLOSS = 18;
+    private static final int CONTENT_RX_PACKETLOSS = 19;
+    private static final int CONTENT_TX_RATE_USED = 20;
+    private static final int CONTENT_RX_RATE_USED = 21;
+    private static final int CONTENT_TX_FRAMERATE = 22;
+    private static final int CONTENT_RX_FRAMERATE = 23;
+
+    private static final KeyTable NETWORK_STATS_KEYS = new KeyTable(NETWORK_STATS_CODES);
+    private static final KeyTable ADVANCED_STATS_KEYS = new KeyTable(ADVANCED_STATS_CODES);
+
+    private final CallStats callStats;
+    private final AudioChannelStats audioChannelStats;
+    private final VideoChannelStats videoChannelStats;
+    private final ContentChannelStats contentChannelStats;
+
+    /**
+     * Call rates reported by {@code advnetstats}, {@link #NONE} if not reported
+     */
+    private int audioTxRate = NONE;
+    private int audioRxRate = NONE;
+    private int videoTxRate = NONE;
+    private int videoRxRate = NONE;
+    private int contentTxRate = NONE;
+    private int contentRxRate = NONE;
+
+    /**
+     * CallStatisticsParser constructor
+     *
+     * @param callStats           call statistics to populate
+     * @param audioChannelStats   audio channel statistics to populate
+     * @param videoChannelStats   video channel statistics to populate
+     * @param contentChannelStats content channel statistics to populate
+     */
+    CallStatisticsParser(CallStats callStats, AudioChannelStats audioChannelStats, VideoChannelStats videoChannelStats,
+            ContentChannelStats contentChannelStats) {
+        this.callStats = callStats;
+        this.audioChannelStats = audioChannelStats;
+        this.videoChannelStats = videoChannelStats;
+        this.contentChannelStats = contentChannelStats;
+    }
+
+    /**
+     * Parse {@code netstats} response: codecs, protocol, transmit packet loss and frame sizes
+     *
+     * @param response command response
+     */
+    void parseNetworkStats(CharSequence response) {
+        int length = response.length();
+        int position = 0;
+        while (position < length) {
+            while (position < length && isDelimiter(response.charAt(position))) {
+                position++;
+            }
+            int tokenStart = position;
+            int separator = -1;
+            while (position < length && !isDelimiter(response.charAt(position))) {
+                if (separator < 0 && response.charAt(position) == ':') {
+                    separator = position;
+                }
+                position++;
+            }
+            int valueEnd = valueEnd(response, separator, position);
+            if (valueEnd < 0) {
+                continue;
+            }
+            int valueStart = separator + 1;
+            switch (NETWORK_STATS_KEYS.find(response, tokenStart, separator)) {
+                case VIDEO_CODEC:
+                    videoChannelStats.setCodec(response.subSequence(valueStart, valueEnd).toString());
+                    break;
+                case AUDIO_CODEC:
+                    audioChannelStats.setCodec(response.subSequence(valueStart, valueEnd).toString());
+                    break;
+                case CONTENT_RX_CODEC:
+                    contentChannelStats.setCodec(response.subSequence(valueStart, valueEnd).toString());
+                    break;
+                case PROTOCOL:
+                    callStats.setProtocol(response.subSequence(valueStart, valueEnd).toString());
+                    break;
+                case PERCENT_TX_PACKETLOSS:
+                    callStats.setPercentPacketLossTx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case TOTAL_TX_PACKETLOSS:
+                    callStats.setTotalPacketLossTx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_RX_FRAME_SIZE:
+                    videoChannelStats.setFrameSizeRx(frameSize(response, valueStart, valueEnd));
+                    break;
+                case VIDEO_TX_FRAME_SIZE:
+                    videoChannelStats.setFrameSizeTx(frameSize(response, valueStart, valueEnd));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Parse {@code advnetstats} response: call rates, jitter, packet loss, bit rates and frame rates
+     *
+     * @param response command response
+     */
+    void parseAdvancedStats(CharSequence response) {
+        int length = response.length();
+        int position = 0;
+        while (position < length) {
+            while (position < length && isDelimiter(response.charAt(position))) {
+                position++;
+            }
+            int tokenStart = position;
+            int separator = -1;
+            while (position < length && !isDelimiter(response.charAt(position))) {
+                if (separator < 0 && response.charAt(position) == ':') {
+                    separator = position;
+                }
+                position++;
+            }
+            int valueEnd = valueEnd(response, separator, position);
+            if (valueEnd < 0) {
+                continue;
+            }
+            int valueStart = separator + 1;
+            switch (ADVANCED_STATS_KEYS.find(response, tokenStart, separator)) {
+                case AUDIO_TX_RATE:
+                    audioTxRate = parseInteger(response, valueStart, valueEnd, true);
+                    break;
+                case AUDIO_RX_RATE:
+                    audioRxRate = parseInteger(response, valueStart, valueEnd, true);
+                    break;
+                case VIDEO_TX_RATE:
+                    videoTxRate = parseInteger(response, valueStart, valueEnd, true);
+                    break;
+                case VIDEO_RX_RATE:
+                    videoRxRate = parseInteger(response, valueStart, valueEnd, true);
+                    break;
+                case CONTENT_TX_RATE:
+                    contentTxRate = parseInteger(response, valueStart, valueEnd, true);
+                    break;
+                case CONTENT_RX_RATE:
+                    contentRxRate = parseInteger(response, valueStart, valueEnd, true);
+                    break;
+                case AUDIO_TX_JITTER:
+                    audioChannelStats.setJitterTx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case AUDIO_RX_JITTER:
+                    audioChannelStats.setJitterRx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case AUDIO_TX_PACKETLOSS:
+                    audioChannelStats.setPacketLossTx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case AUDIO_RX_PACKETLOSS:
+                    audioChannelStats.setPacketLossRx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_TX_JITTER:
+                    videoChannelStats.setJitterTx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_RX_JITTER:
+                    videoChannelStats.setJitterRx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_TX_PACKETLOSS:
+                    videoChannelStats.setPacketLossTx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_RX_PACKETLOSS:
+                    videoChannelStats.setPacketLossRx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_TX_BITRATE:
+                    videoChannelStats.setBitRateTx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_RX_BITRATE:
+                    videoChannelStats.setBitRateRx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_TX_FRAMERATE:
+                    videoChannelStats.setFrameRateTx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case VIDEO_RX_FRAMERATE:
+                    videoChannelStats.setFrameRateRx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case CONTENT_TX_PACKETLOSS:
+                    contentChannelStats.setPacketLossTx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case CONTENT_RX_PACKETLOSS:
+                    contentChannelStats.setPacketLossRx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case CONTENT_TX_RATE_USED:
+                    contentChannelStats.setBitRateTx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case CONTENT_RX_RATE_USED:
+                    contentChannelStats.setBitRateRx(toInteger(parseInteger(response, valueStart, valueEnd, true)));
+                    break;
+                case CONTENT_TX_FRAMERATE:
+                    contentChannelStats.setFrameRateTx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                case CONTENT_RX_FRAMERATE:
+                    contentChannelStats.setFrameRateRx(toFloat(parseFloat(response, valueStart, valueEnd, true)));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Retrieves transmit audio rate
+     *
+     * @return rate reported by {@code advnetstats}, or null if not reported
+     */
+    Integer getAudioTxRate() {
+        return toInteger(audioTxRate);
+    }
+
+    /**
+     * Retrieves receive audio rate
+     *
+     * @return rate reported by {@code advnetstats}, or null if not reported
+     */
+    Integer getAudioRxRate() {
+        return toInteger(audioRxRate);
+    }
+
+    /**
+     * Retrieves transmit video rate
+     *
+     * @return rate reported by {@code advnetstats}, or null if not reported
+     */
+    Integer getVideoTxRate() {
+        return toInteger(videoTxRate);
+    }
+
+    /**
+     * Retrieves receive video rate
+     *
+     * @return rate reported by {@code advnetstats}, or null if not reported
+     */
+    Integer getVideoRxRate() {
+        return toInteger(videoRxRate);
+    }
+
+    /**
+     * Retrieves transmit content rate
+     *
+     * @return rate reported by {@code advnetstats}, or null if not reported
+     */
+    Integer getContentTxRate() {
+        return toInteger(contentTxRate);
+    }
+
+    /**
+     * Retrieves receive content rate
+     *
+     * @return rate reported by {@code advnetstats}, or null if not reported
+     */
+    Integer getContentRxRate() {
+        return toInteger(contentRxRate);
+    }
+
+    /**
+     * Total transmit rate of all the channels
+     *
+     * @return sum of the reported transmit rates, unreported rates are counted as 0
+     */
+    int getCallRateTx() {
+        return rateOrZero(audioTxRate) + rateOrZero(videoTxRate) + rateOrZero(contentTxRate);
+    }
+
+    /**
+     * Total receive rate of all the channels
+     *
+     * @return sum of the reported receive rates, unreported rates are counted as 0
+     */
+    int getCallRateRx() {
+        return rateOrZero(audioRxRate) + rateOrZero(videoRxRate) + rateOrZero(contentRxRate);
+    }
+
+    /**
+     * Find the end of the value of a "key:value" token. The value ends at the next ':' character (and may be empty), and the
+     * token is skipped if there's nothing but ':' characters after the key, same as {@code token.split(":").length > 1} does.
+     *
+     * @return end of the value, or -1 if the token has no value
+     */
+    private static int valueEnd(CharSequence source, int separator, int tokenEnd) {
+        if (separator < 0) {
+            return -1;
+        }
+        int valueEnd = -1;
+        for (int i = separator + 1; i < tokenEnd; i++) {
+            if (source.charAt(i) != ':') {
+                return valueEnd < 0 ? nextSeparator(source, i, tokenEnd) : valueEnd;
+            }
+            if (valueEnd < 0) {
+                valueEnd = i;
+            }
+        }
+        return -1;
+    }
+
+    private static int nextSeparator(CharSequence source, int from, int tokenEnd) {
+        int i = from;
+        while (i < tokenEnd && source.charAt(i) != ':') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Frame size value, with 'p' characters removed from resolutions (e.g. "1280x720p")
+     */
+    private static String frameSize(CharSequence source, int from, int to) {
+        boolean resolution = false;
+        for (int i = from; i < to && !resolution; i++) {
+            resolution = source.charAt(i) == X_CHARACTER;
+        }
+        if (!resolution) {
+            return source.subSequence(from, to).toString();
+        }
+        StringBuilder frameSize = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            if (c != LOWER_CASE_P) {
+                frameSize.append(c);
+            }
+        }
+        return frameSize.toString();
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    private static Integer toInteger(int value) {
+        return value == NONE ? null : value;
+    }
+
+    private static Float toFloat(float value) {
+        return Float.isNaN(value) ? null : value;
+    }
+
+    private static int rateOrZero(int value) {
+        return value == NONE ? 0 : value;
+    }
+
+    /**
+     * Lookup table of statistics codes. Codes are packed into longs, 7 bits per character, so a key is found with no
+     * String created for it.
+     */
+    private static final class KeyTable {
+        private static final int MAX_KEY_LENGTH = 9;
+
+        private final long[] packedKeys;
+        private final int[] ids;
+
+        private KeyTable(String[] codes) {
+            long[][] entries = new long[codes.length][];
+            for (int i = 0; i < codes.length; i++) {
+                entries[i] = new long[]{pack(codes[i], 0, codes[i].length()), i};
+            }
+            Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+            packedKeys = new long[codes.length];
+            ids = new int[codes.length];
+            for (int i = 0; i < entries.length; i++) {
+                packedKeys[i] = entries[i][0];
+                ids[i] = (int) entries[i][1];
+            }
+        }
+
+        /**
+         * Find the key within the table
+         *
+         * @return id of the key (index of the code), or -1 if the key is not known
+         */
+        private int find(CharSequence source, int from, int to) {
+            long packed = pack(source, from, to);
+            if (packed < 0) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(packedKeys, packed);
+            return index < 0 ? -1 : ids[index];
+        }
+
+        /**
+         * Pack ASCII characters into a long, 7 bits per character, with a leading 1 bit to distinguish keys of different length
+         *
+         * @return packed key, or -1 if the key is too long or contains non-ASCII characters
+         */
+        private static long pack(CharSequence source, int from, int to) {
+            if (to - from > MAX_KEY_LENGTH || to < from) {
+                return -1;
+            }
+            long packed = 1;
+            for (int i = from; i < to; i++) {
+                char c = source.charAt(i);
+                if (c >= 128) {
+                    return -1;
+                }
+                packed = packed << 7 | c;
+            }
+            return packed;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.NULL_INTEGER;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.parseInteger;
+
+/**
+ * Pan, tilt and zoom of the near camera, as reported by {@code camera near getposition} command or set by
+ * {@code camera near setposition} command, along with the time it has been known at. Values are signed, between -50000 and 50000.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class CameraPosition {
+    private static final Pattern POSITION_PATTERN = Pattern.compile("(\\S?\\d{1,5})\\s(\\S?\\d{1,5})\\s(\\S?\\d{1,5})");
+
+    private final int pan;
+    private final int tilt;
+    private final int zoom;
+    private final long timestamp;
+
+    /**
+     * CameraPosition constructor
+     *
+     * @param pan       camera pan
+     * @param tilt      camera tilt
+     * @param zoom      camera zoom
+     * @param timestamp time the position has been known at, in milliseconds
+     */
+    CameraPosition(int pan, int tilt, int zoom, long timestamp) {
+        this.pan = pan;
+        this.tilt = tilt;
+        this.zoom = zoom;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Parse {@code camera near getposition} command response
+     *
+     * @param response  command response
+     * @param timestamp time the response has been received at, in milliseconds
+     * @return camera position, or null if the response does not contain one
+     */
+    static CameraPosition parse(String response, long timestamp) {
+        if (response == null) {
+            return null;
+        }
+        Matcher matcher = POSITION_PATTERN.matcher(response);
+        if (!matcher.find()) {
+            return null;
+        }
+        int pan = parseInteger(response, matcher.start(1), matcher.end(1), false);
+        int tilt = parseInteger(response, matcher.start(2), matcher.end(2), false);
+        int zoom = parseInteger(response, matcher.start(3), matcher.end(3), false);
+        if (pan == NULL_INTEGER || tilt == NULL_INTEGER || zoom == NULL_INTEGER) {
+            return null;
+        }
+        return new CameraPosition(pan, tilt, zoom, timestamp);
+    }
+
+    /**
+     * Create a copy of the position with some of the values changed
+     *
+     * @param pan       new camera pan, or null to keep the current one
+     * @param tilt      new camera tilt, or null to keep the current one
+     * @param zoom      new camera zoom, or null to keep the current one
+     * @param timestamp time the new position has been set at, in milliseconds
+     * @return new position
+     */
+    CameraPosition with(Integer pan, Integer tilt, Integer zoom, long timestamp) {
+        return new CameraPosition(pan == null ? this.pan : pan, tilt == null ? this.tilt : tilt, zoom == null ? this.zoom : zoom, timestamp);
+    }
+
+    /**
+     * Retrieves {@link #pan}
+     *
+     * @return value of {@link #pan}
+     */
+    int getPan() {
+        return pan;
+    }
+
+    /**
+     * Retrieves {@link #tilt}
+     *
+     * @return value of {@link #tilt}
+     */
+    int getTilt() {
+        return tilt;
+    }
+
+    /**
+     * Retrieves {@link #zoom}
+     *
+     * @return value of {@link #zoom}
+     */
+    int getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Retrieves {@link #timestamp}
+     *
+     * @return value of {@link #timestamp}
+     */
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return pan + " " + tilt + " " + zoom;
+    }
+}
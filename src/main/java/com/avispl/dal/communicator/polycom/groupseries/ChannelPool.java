@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.jcraft.jsch.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group of shell channels, opened on a single SSH session, used to send independent groups of commands concurrently.
+ * <p>
+ * Every channel has its own thread and its own {@link CommandPacer}, so the commands of a group are still sent one by one
+ * (and paced), while the groups themselves do not wait for each other. The time it takes to collect all the groups is
+ * bounded by the slowest channel, rather than by the sum of all the groups.
+ * <p>
+ * The channels are opened on a session of their own, rather than on the main session: the main session is established and
+ * owned by the communicator, which does not expose it. The device counts this session against its limit of concurrent SSH
+ * sessions, along with the main, notification and control sessions, so the session is counted against the limit of
+ * additional sessions of the adapter, see {@link PolycomGroupSeries#setMaxAdditionalSessions(int)}. The pool is closed once
+ * parallel collection fails, and the commands are sent over the main session then.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ChannelPool {
+    private final ConnectionGovernor governor;
+    private final Session session;
+    private final List<ShellChannel> channels = new ArrayList<>();
+    private final List<CommandPacer> pacers = new ArrayList<>();
+    private final ExecutorService executor;
+    private final TerminatorMatcher commandErrorMatcher;
+    private final TerminatorMatcher commandSuccessMatcher;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Establish SSH session and open shell channels on it
+     *
+     * @param governor              governor of the SSH sessions, the session is opened and closed through
+     * @param host                  device hostname
+     * @param port                  SSH port
+     * @param login                 SSH login
+     * @param password              SSH password
+     * @param timeout               connection and read timeout, in milliseconds
+     * @param size                  number of channels to open
+     * @param loginErrorMatcher     compiled login error terminators
+     * @param loginSuccessMatcher   compiled login success terminators
+     * @param commandErrorMatcher   compiled command error terminators
+     * @param commandSuccessMatcher compiled command success terminators
+     * @param minGap                minimal inter-command gap of a channel, in milliseconds
+     * @param maxGap                maximal inter-command gap of a channel, in milliseconds
+     * @param adaptive              whether the gap should be adjusted based on the device feedback, see {@link CommandPacer}
+     * @throws Exception if the session or any of the channels cannot be established
+     */
+    ChannelPool(ConnectionGovernor governor, String host, int port, String login, String password, int timeout, int size, TerminatorMatcher loginErrorMatcher,
+            TerminatorMatcher loginSuccessMatcher, TerminatorMatcher commandErrorMatcher, TerminatorMatcher commandSuccessMatcher,
+            long minGap, long maxGap, boolean adaptive) throws Exception {
+        this.governor = governor;
+        this.commandErrorMatcher = commandErrorMatcher;
+        this.commandSuccessMatcher = commandSuccessMatcher;
+        session = governor.openSession(host, port, login, password, timeout);
+        try {
+            for (int i = 0; i < size; i++) {
+                channels.add(new ShellChannel(session, host, timeout, loginErrorMatcher, loginSuccessMatcher));
+                pacers.add(new CommandPacer(minGap, maxGap, adaptive));
+            }
+        } catch (Exception e) {
+            governor.closeSession(session);
+            throw e;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "PolycomGroupSeries channel " + host + " #" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Send groups of commands concurrently. Groups are assigned to the channels in a round-robin manner, commands of a group
+     * are sent sequentially over the same channel.
+     *
+     * @param groups    groups of commands to send
+     * @param responses map to put the responses to, keyed by command. Must be safe for concurrent updates
+     * @param failed    set to put the commands that have been responded with an error terminator to. Must be safe for concurrent updates
+     * @throws Exception if any of the channels has failed, e.g. due to a timeout or a connection error
+     */
+    void execute(List<List<String>> groups, Map<String, String> responses, Set<String> failed) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < channels.size() && i < groups.size(); i++) {
+            List<String> commands = new ArrayList<>();
+            for (int j = i; j < groups.size(); j += channels.size()) {
+                commands.addAll(groups.get(j));
+            }
+            ShellChannel channel = channels.get(i);
+            CommandPacer pacer = pacers.get(i);
+            futures.add(executor.submit(() -> {
+                for (String command : commands) {
+                    pacer.acquire();
+                    long commandTimestamp = System.currentTimeMillis();
+                    boolean responded = false;
+                    try {
+                        responses.put(command, channel.send(command, commandErrorMatcher, commandSuccessMatcher));
+                        responded = true;
+                    } catch (CommandFailureException e) {
+                        responded = true;
+                        responses.put(command, e.getResponse());
+                        failed.add(command);
+                    } finally {
+                        pacer.onResponse(System.currentTimeMillis() - commandTimestamp, responded);
+                    }
+                }
+                return null;
+            }));
+        }
+        Exception failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Check whether the session and all the channels are still open
+     *
+     * @return true if the pool may be used, false otherwise
+     */
+    boolean isConnected() {
+        if (!session.isConnected()) {
+            return false;
+        }
+        for (ShellChannel channel : channels) {
+            if (!channel.isConnected()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop the channel threads, and close all the channels along with the session. The pool may be closed while the commands
+     * are being sent, these fail then. Subsequent calls have no effect.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        executor.shutdownNow();
+        for (ShellChannel channel : channels) {
+            channel.close();
+        }
+        governor.closeSession(session);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-command latency histograms, along with the cost breakdown of the latest statistics poll, reported as adapter statistics.
+ * <p>
+ * Commands are grouped by their name, with the arguments dropped (e.g. "volume set 30" is reported as "VolumeSet"), and the
+ * number of the command names tracked is limited by {@link #MAX_COMMANDS}, so control commands with arbitrary arguments do not
+ * grow the statistics unbounded.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class CommandMetrics {
+    private static final int MAX_COMMANDS = 32;
+    private static final int MAX_NAME_TOKENS = 4;
+    private static final String OTHER_COMMANDS = "Other";
+    private static final String LABEL_COUNT = "AdapterMetrics#%sCount";
+    private static final String LABEL_PERCENTILE = "AdapterMetrics#%sLatencyP%s(ms)";
+    private static final String LABEL_POLL_DURATION = "AdapterMetrics#LastPollDuration(ms)";
+    private static final String LABEL_POLL_COMMANDS = "AdapterMetrics#LastPollCommands";
+    private static final String LABEL_POLL_BYTES_READ = "AdapterMetrics#LastPollBytesRead";
+    private static final String LABEL_POLL_RESPONSE_CHECKS = "AdapterMetrics#LastPollResponseChecks";
+    private static final String LABEL_POLL_COOLDOWN = "AdapterMetrics#LastPollCooldownTime(ms)";
+    private static final String LABEL_POLL_LOCK_WAIT = "AdapterMetrics#LastPollLockWaitTime(ms)";
+    private static final int[] PERCENTILES = { 50, 95, 99 };
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private volatile PollCost lastPollCost;
+
+    /**
+     * Record latency of the command
+     *
+     * @param command command sent
+     * @param latency time between sending the command and receiving the complete response, in milliseconds
+     */
+    void record(String command, long latency) {
+        String name = nameOf(command);
+        LatencyHistogram histogram = latencies.get(name);
+        if (histogram == null) {
+            histogram = latencies.size() < MAX_COMMANDS ? latencies.computeIfAbsent(name, key -> new LatencyHistogram())
+                    : latencies.computeIfAbsent(OTHER_COMMANDS, key -> new LatencyHistogram());
+        }
+        histogram.record(latency);
+    }
+
+    /**
+     * Sets {@link #lastPollCost} value
+     *
+     * @param pollCost cost breakdown of the statistics poll that has just completed
+     */
+    void setLastPollCost(PollCost pollCost) {
+        lastPollCost = pollCost;
+    }
+
+    /**
+     * Put command counts and latency percentiles, along with the cost breakdown of the latest statistics poll, to the statistics
+     *
+     * @param statistics ExtendedStatistics map, that contains all the statistics properties
+     */
+    void populate(Map<String, String> statistics) {
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(latencies).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            statistics.put(String.format(LABEL_COUNT, entry.getKey()), String.valueOf(histogram.getCount()));
+            for (int percentile : PERCENTILES) {
+                statistics.put(String.format(LABEL_PERCENTILE, entry.getKey(), percentile), String.valueOf(histogram.getPercentile(percentile)));
+            }
+        }
+        PollCost pollCost = lastPollCost;
+        if (pollCost != null) {
+            statistics.put(LABEL_POLL_DURATION, String.valueOf(TimeUnit.NANOSECONDS.toMillis(pollCost.duration)));
+            statistics.put(LABEL_POLL_COMMANDS, String.valueOf(pollCost.commands));
+            statistics.put(LABEL_POLL_BYTES_READ, String.valueOf(pollCost.bytesRead));
+            statistics.put(LABEL_POLL_RESPONSE_CHECKS, String.valueOf(pollCost.responseChecks));
+            statistics.put(LABEL_POLL_COOLDOWN, String.valueOf(pollCost.cooldownTime));
+            statistics.put(LABEL_POLL_LOCK_WAIT, String.valueOf(TimeUnit.NANOSECONDS.toMillis(pollCost.lockWaitTime)));
+        }
+    }
+
+    /**
+     * Build statistic name of the command: leading words of the command, up to the first argument, in camel case
+     *
+     * @param command command sent
+     * @return command name, e.g. "MuteNearGet" for "mute near get"
+     */
+    static String nameOf(String command) {
+        StringBuilder name = new StringBuilder();
+        int tokens = 0;
+        for (String token : command.trim().split("\\s+")) {
+            if (token.isEmpty() || tokens == MAX_NAME_TOKENS || !isWord(token)) {
+                break;
+            }
+            name.append(Character.toUpperCase(token.charAt(0))).append(token, 1, token.length());
+            tokens++;
+        }
+        return name.length() == 0 ? OTHER_COMMANDS : name.toString();
+    }
+
+    private static boolean isWord(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isLetter(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cost breakdown of a single statistics poll. Updated by the polling thread only.
+     */
+    static final class PollCost {
+        private final long startTimestamp = System.nanoTime();
+        private long duration;
+        private int commands;
+        private long bytesRead;
+        private int responseChecks;
+        private long cooldownTime;
+        private long lockWaitTime;
+
+        /**
+         * Record a command sent to the device
+         *
+         * @param count        number of commands sent at once
+         * @param cooldownTime time spent waiting for the inter-command gap, in milliseconds
+         */
+        void onCommand(int count, long cooldownTime) {
+            commands += count;
+            this.cooldownTime += cooldownTime;
+        }
+
+        /**
+         * Record a chunk of the response read from the device
+         *
+         * @param bytes number of bytes read
+         */
+        void onRead(int bytes) {
+            bytesRead += bytes;
+        }
+
+        /**
+         * Record a check of the response read so far for the end of the response
+         */
+        void onResponseCheck() {
+            responseChecks++;
+        }
+
+        /**
+         * Record time spent waiting for the statistics poll or the command channel
+         *
+         * @param nanos wait time, in nanoseconds
+         */
+        void onLockWait(long nanos) {
+            lockWaitTime += nanos;
+        }
+
+        /**
+         * Mark the poll as complete
+         *
+         * @return this instance
+         */
+        PollCost complete() {
+            duration = System.nanoTime() - startTimestamp;
+            return this;
+        }
+    }
+}
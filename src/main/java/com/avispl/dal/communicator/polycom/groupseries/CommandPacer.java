@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+/**
+ * Paces commands sent to a single device.
+ * <p>
+ * The pacer works as a token bucket with a capacity of one command, refilled once per inter-command gap, so a command
+ * waits only for the remaining part of the gap since the previous command. When adaptive pacing is enabled, the gap is
+ * adjusted based on the device feedback: it is decreased multiplicatively while the device responds in time, and increased
+ * on response latency spikes and on failures (timeouts, connection errors), never leaving the
+ * [{@link #minGap}, {@link #maxGap}] range. The recent failure rate additionally raises the lower bound of the gap, so
+ * unstable devices are not pushed to the minimum again right after recovering.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class CommandPacer {
+    private static final double GAP_DECREASE_FACTOR = 0.8;
+    private static final double GAP_INCREASE_FACTOR = 1.5;
+    private static final double FAILURE_GAP_FACTOR = 2.0;
+    private static final double LATENCY_SPIKE_FACTOR = 2.0;
+    private static final double AVERAGE_WEIGHT = 0.2;
+
+    private volatile long minGap;
+    private volatile long maxGap;
+    private volatile boolean adaptive;
+
+    private double gap;
+    private double averageLatency = -1;
+    private double failureRate;
+    private long nextCommandTimestamp;
+
+    /**
+     * CommandPacer constructor
+     *
+     * @param minGap   minimal inter-command gap, in milliseconds, used when adaptive pacing is enabled. Capped by maxGap.
+     * @param maxGap   maximal inter-command gap, in milliseconds. The gap is fixed to this value when adaptive pacing is disabled
+     * @param adaptive whether the gap should be adjusted based on the device feedback
+     */
+    CommandPacer(long minGap, long maxGap, boolean adaptive) {
+        this.minGap = minGap;
+        this.maxGap = maxGap;
+        this.adaptive = adaptive;
+        this.gap = maxGap;
+    }
+
+    /**
+     * Wait for the remaining part of the current gap since the previous command, and take the slot for the next command
+     *
+     * @return time spent waiting, in milliseconds
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    long acquire() throws InterruptedException {
+        long delay = reserve();
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+        return delay;
+    }
+
+    /**
+     * Take the slot for the next command, without waiting
+     *
+     * @return time to wait before sending the command, in milliseconds
+     */
+    synchronized long reserve() {
+        long now = System.currentTimeMillis();
+        long delay = Math.max(0, nextCommandTimestamp - now);
+        nextCommandTimestamp = now + delay + getGap();
+        return delay;
+    }
+
+    /**
+     * Report the device response to a command
+     *
+     * @param latency time between sending the command and receiving the complete response, in milliseconds
+     * @param success false if the command has failed due to a timeout or a connection error, true otherwise
+     * (including responses matching error terminators, since the device has still responded)
+     */
+    synchronized void onResponse(long latency, boolean success) {
+        failureRate = failureRate * (1 - AVERAGE_WEIGHT) + (success ? 0 : AVERAGE_WEIGHT);
+        if (!success) {
+            gap = Math.min(maxGap, Math.max(gap, Math.min(minGap, maxGap)) * FAILURE_GAP_FACTOR);
+            return;
+        }
+        boolean latencySpike = averageLatency >= 0 && latency > averageLatency * LATENCY_SPIKE_FACTOR;
+        averageLatency = averageLatency < 0 ? latency : averageLatency * (1 - AVERAGE_WEIGHT) + latency * AVERAGE_WEIGHT;
+        gap = latencySpike ? Math.min(maxGap, gap * GAP_INCREASE_FACTOR) : Math.max(getFloor(), gap * GAP_DECREASE_FACTOR);
+    }
+
+    /**
+     * Retrieves current inter-command gap
+     *
+     * @return current gap, in milliseconds
+     */
+    synchronized long getGap() {
+        if (!adaptive) {
+            return maxGap;
+        }
+        return Math.round(Math.min(maxGap, Math.max(getFloor(), gap)));
+    }
+
+    /**
+     * Retrieves average response latency
+     *
+     * @return exponentially weighted average of the response latency, in milliseconds, or 0 if no responses have been received yet
+     */
+    synchronized long getAverageLatency() {
+        return Math.round(Math.max(0, averageLatency));
+    }
+
+    /**
+     * Retrieves recent failure rate
+     *
+     * @return exponentially weighted average of failures, between 0 and 1
+     */
+    synchronized double getFailureRate() {
+        return failureRate;
+    }
+
+    /**
+     * Sets minimal and maximal gap values. The values are kept as is, and the minimal gap is capped by the maximal one when the
+     * gap is calculated, so the result does not depend on the order the values are set in.
+     *
+     * @param minGap minimal inter-command gap, in milliseconds
+     * @param maxGap maximal inter-command gap, in milliseconds
+     */
+    void setGapRange(long minGap, long maxGap) {
+        this.minGap = minGap;
+        this.maxGap = maxGap;
+    }
+
+    /**
+     * Sets whether the gap should be adjusted based on the device feedback
+     *
+     * @param adaptive true to enable adaptive pacing, false to use the maximal gap for all commands
+     */
+    void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    private double getFloor() {
+        long max = maxGap;
+        long min = Math.min(minGap, max);
+        return min + failureRate * (max - min);
+    }
+}
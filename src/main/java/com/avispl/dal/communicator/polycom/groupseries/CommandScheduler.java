@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dispatches commands to a single device channel, one command at a time, in the order of command priority.
+ * <p>
+ * Every command (or a group of commands that has to be sent without interruption) is sent between {@link #acquire(Priority)}
+ * and {@link #release()} calls. Once the channel is released, the longest waiting command of the highest priority class is
+ * dispatched next, so control operations that arrive while a statistics poll is in progress are sent at the next command
+ * boundary, ahead of the remaining poll commands. Commands of the same class are dispatched in arrival order.
+ * <p>
+ * The scheduler is reentrant: a thread that already holds the channel is not queued again.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class CommandScheduler {
+    /**
+     * Command priority classes, from the highest to the lowest
+     */
+    enum Priority {
+        /**
+         * Dialing, hanging up and call status checks
+         */
+        CALL_CONTROL("CallControl"),
+        /**
+         * Controllable properties, mute and unmute
+         */
+        CONTROL("Control"),
+        /**
+         * Statistics poll commands
+         */
+        MONITORING("Monitoring");
+
+        private final String label;
+
+        Priority(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Retrieves {@link #label}
+         *
+         * @return name of the priority class, as reported in statistics
+         */
+        String getLabel() {
+            return label;
+        }
+    }
+
+    private static final double AVERAGE_WEIGHT = 0.2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<Priority, CommandQueue> queues = new EnumMap<>(Priority.class);
+
+    private Thread owner;
+    private int holdCount;
+
+    /**
+     * CommandScheduler constructor
+     */
+    CommandScheduler() {
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new CommandQueue());
+        }
+    }
+
+    /**
+     * Wait for the turn of the current thread to use the channel. The thread that already holds the channel proceeds right away.
+     *
+     * @param priority priority class of the command
+     */
+    void acquire(Priority priority) {
+        Thread current = Thread.currentThread();
+        lock.lock();
+        try {
+            if (owner == current) {
+                holdCount++;
+                return;
+            }
+            CommandQueue queue = queues.get(priority);
+            long queuedTimestamp = System.nanoTime();
+            queue.waiting.addLast(current);
+            while (owner != null || queue.waiting.peekFirst() != current || isHigherPriorityWaiting(priority)) {
+                released.awaitUninterruptibly();
+            }
+            queue.waiting.removeFirst();
+            owner = current;
+            holdCount = 1;
+            queue.onDispatch(System.nanoTime() - queuedTimestamp);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the channel, acquired with {@link #acquire(Priority)}, so the next command is dispatched
+     *
+     * @throws IllegalMonitorStateException if the current thread does not hold the channel
+     */
+    void release() {
+        lock.lock();
+        try {
+            if (owner != Thread.currentThread()) {
+                throw new IllegalMonitorStateException("Command channel is not held by the current thread");
+            }
+            holdCount--;
+            if (holdCount == 0) {
+                owner = null;
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves number of commands of the priority class, waiting for the channel
+     *
+     * @param priority priority class
+     * @return queue depth
+     */
+    int getQueueDepth(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves average time commands of the priority class have waited for the channel
+     *
+     * @param priority priority class
+     * @return exponentially weighted average of the wait time, in milliseconds, or 0 if no commands have been dispatched yet
+     */
+    long getAverageWaitTime(Priority priority) {
+        lock.lock();
+        try {
+            return Math.round(Math.max(0, queues.get(priority).averageWait));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves number of commands of the priority class, dispatched so far
+     *
+     * @param priority priority class
+     * @return number of dispatched commands
+     */
+    long getDispatchedCount(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).dispatched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isHigherPriorityWaiting(Priority priority) {
+        for (Priority higherPriority : Priority.values()) {
+            if (higherPriority == priority) {
+                return false;
+            }
+            if (!queues.get(higherPriority).waiting.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Threads waiting for the channel, along with the wait time statistics of a single priority class. Guarded by {@link #lock}.
+     */
+    private static final class CommandQueue {
+        private final Deque<Thread> waiting = new ArrayDeque<>();
+        private double averageWait = -1;
+        private long dispatched;
+
+        private void onDispatch(long waitNanos) {
+            double wait = (double) waitNanos / TimeUnit.MILLISECONDS.toNanos(1);
+            averageWait = averageWait < 0 ? wait : averageWait * (1 - AVERAGE_WEIGHT) + wait * AVERAGE_WEIGHT;
+            dispatched++;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.jcraft.jsch.Session;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of SSH sessions that are open at the same time, and the number of SSH handshakes in progress.
+ * <p>
+ * A session slot is taken before the session is established, and returned once it's closed. A handshake slot is only held while
+ * the session is being established (key exchange and authentication being the most CPU and memory intensive part of it),
+ * so a burst of reconnects (e.g. after a network outage) is spread over time rather than handled all at once.
+ * Slots that are not available within the connection timeout fail the connection attempt, it's retried with the next command.
+ * <p>
+ * {@link #getShared()} governor is shared by all the adapter instances of the JVM, its limits are
+ * {@code polycom.groupseries.maxSessions} and {@code polycom.groupseries.maxHandshakes} system properties.
+ * <p>
+ * A governor may have a parent, e.g. a governor of the sessions of a single device within the shared one. Slots are taken from
+ * both of them then. Slots of the child governor are not waited for: sessions of a device are long-lived, so a slot that is
+ * not available right away is unlikely to be returned within the timeout.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ConnectionGovernor {
+    private static final ConnectionGovernor SHARED = new ConnectionGovernor(Integer.getInteger("polycom.groupseries.maxSessions", Integer.MAX_VALUE),
+            Integer.getInteger("polycom.groupseries.maxHandshakes", 8));
+
+    private final int maxSessions;
+    private final int maxHandshakes;
+    private final Semaphore sessions;
+    private final Semaphore handshakes;
+    private final ConnectionGovernor parent;
+
+    /**
+     * ConnectionGovernor constructor
+     *
+     * @param maxSessions   maximal number of open sessions
+     * @param maxHandshakes maximal number of sessions being established at the same time
+     */
+    ConnectionGovernor(int maxSessions, int maxHandshakes) {
+        this(maxSessions, maxHandshakes, null);
+    }
+
+    /**
+     * ConnectionGovernor constructor
+     *
+     * @param maxSessions   maximal number of open sessions
+     * @param maxHandshakes maximal number of sessions being established at the same time
+     * @param parent        governor to take the slots from as well, null if there's none
+     */
+    ConnectionGovernor(int maxSessions, int maxHandshakes, ConnectionGovernor parent) {
+        this.maxSessions = Math.max(1, maxSessions);
+        this.maxHandshakes = Math.max(1, maxHandshakes);
+        this.parent = parent;
+        sessions = new Semaphore(this.maxSessions, true);
+        handshakes = new Semaphore(this.maxHandshakes, true);
+    }
+
+    /**
+     * Retrieves {@link #SHARED}
+     *
+     * @return governor, shared by all the adapter instances of the JVM
+     */
+    static ConnectionGovernor getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Take a session slot and a handshake slot, and create and connect an SSH session, see
+     * {@link ShellChannel#openSession(String, int, String, String, int)}. The session must be closed with
+     * {@link #closeSession(Session)}.
+     *
+     * @param host     device hostname
+     * @param port     SSH port
+     * @param login    SSH login
+     * @param password SSH password
+     * @param timeout  connection timeout, in milliseconds
+     * @return connected session
+     * @throws Exception if no slots are available within the timeout, or the session cannot be established
+     */
+    Session openSession(String host, int port, String login, String password, int timeout) throws Exception {
+        acquireSession(host, timeout);
+        try {
+            acquireHandshake(host, timeout);
+            try {
+                return ShellChannel.openSession(host, port, login, password, timeout);
+            } finally {
+                releaseHandshake();
+            }
+        } catch (Exception e) {
+            releaseSession();
+            throw e;
+        }
+    }
+
+    /**
+     * Close the session, opened by {@link #openSession(String, int, String, String, int)}, and return its slot
+     *
+     * @param session session to close
+     */
+    void closeSession(Session session) {
+        try {
+            session.disconnect();
+        } finally {
+            releaseSession();
+        }
+    }
+
+    /**
+     * Take a session slot, waiting for it to be available no longer than the timeout
+     *
+     * @param host    device hostname, reported if no slots are available
+     * @param timeout time to wait for the slot, in milliseconds
+     * @throws IOException          if no slots are available within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void acquireSession(String host, long timeout) throws IOException, InterruptedException {
+        if (!(parent == null ? sessions.tryAcquire(timeout, TimeUnit.MILLISECONDS) : sessions.tryAcquire())) {
+            throw new IOException(String.format("Unable to connect to %s: all %s SSH sessions are in use", host, maxSessions));
+        }
+        if (parent != null) {
+            try {
+                parent.acquireSession(host, timeout);
+            } catch (IOException | InterruptedException e) {
+                sessions.release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Return the session slot, taken by {@link #acquireSession(String, long)}
+     */
+    void releaseSession() {
+        sessions.release();
+        if (parent != null) {
+            parent.releaseSession();
+        }
+    }
+
+    /**
+     * Take a handshake slot, waiting for it to be available no longer than the timeout
+     *
+     * @param host    device hostname, reported if no slots are available
+     * @param timeout time to wait for the slot, in milliseconds
+     * @throws IOException          if no slots are available within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void acquireHandshake(String host, long timeout) throws IOException, InterruptedException {
+        if (!handshakes.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new IOException(String.format("Unable to connect to %s: all %s SSH handshake slots are in use", host, maxHandshakes));
+        }
+        if (parent != null) {
+            try {
+                parent.acquireHandshake(host, timeout);
+            } catch (IOException | InterruptedException e) {
+                handshakes.release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Return the handshake slot, taken by {@link #acquireHandshake(String, long)}
+     */
+    void releaseHandshake() {
+        handshakes.release();
+        if (parent != null) {
+            parent.releaseHandshake();
+        }
+    }
+
+    /**
+     * Retrieves number of sessions that are currently open
+     *
+     * @return number of taken session slots
+     */
+    int getOpenSessions() {
+        return maxSessions - sessions.availablePermits();
+    }
+
+    /**
+     * Retrieves number of sessions that are currently being established
+     *
+     * @return number of taken handshake slots
+     */
+    int getActiveHandshakes() {
+        return maxHandshakes - handshakes.availablePermits();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.jcraft.jsch.Session;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Persistent SSH session, reserved for control operations (controllable properties, mute, dial and hangup), so they are not
+ * queued behind the statistics poll commands, sent over the main session.
+ * <p>
+ * The session is established with the first command, and established again with the next command once it's lost. If the
+ * session cannot be established, the channel is not available for the retry interval, so the control operations are sent over
+ * the main session meanwhile, without waiting for the connection timeout every time. The channel has its own
+ * {@link CommandPacer}, and its own {@link CommandScheduler}, so call control operations still take precedence over the other
+ * control operations, waiting for the channel.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ControlChannel {
+    private static final int KEEP_ALIVE_INTERVAL_MS = 15000;
+    private static final int KEEP_ALIVE_COUNT_MAX = 3;
+
+    private final ConnectionGovernor governor;
+    private final String host;
+    private final int port;
+    private final String login;
+    private final String password;
+    private final int timeout;
+    private final TerminatorMatcher loginErrorMatcher;
+    private final TerminatorMatcher loginSuccessMatcher;
+    private final TerminatorMatcher commandErrorMatcher;
+    private final TerminatorMatcher commandSuccessMatcher;
+    private final CommandPacer pacer;
+    private final long retryInterval;
+    private final CommandScheduler scheduler = new CommandScheduler();
+    /**
+     * Time the session may be established again at, after it has failed to establish, in milliseconds
+     */
+    private volatile long retryTimestamp;
+    /**
+     * Current session. Taken with {@link AtomicReference#getAndSet(Object)} by whoever closes it, so it's closed once, even if the
+     * channel is closed while a command is in progress.
+     */
+    private final AtomicReference<Session> session = new AtomicReference<>();
+    /**
+     * Shell channel of {@link #session}. Updated under this lock.
+     */
+    private volatile ShellChannel channel;
+    private volatile boolean closed;
+
+    /**
+     * ControlChannel constructor
+     *
+     * @param governor              governor of the SSH sessions, the session is opened and closed through
+     * @param host                  device hostname
+     * @param port                  SSH port
+     * @param login                 SSH login
+     * @param password              SSH password
+     * @param timeout               connection and read timeout, in milliseconds
+     * @param loginErrorMatcher     compiled login error terminators
+     * @param loginSuccessMatcher   compiled login success terminators
+     * @param commandErrorMatcher   compiled command error terminators
+     * @param commandSuccessMatcher compiled command success terminators
+     * @param minGap                minimal inter-command gap, in milliseconds
+     * @param maxGap                maximal inter-command gap, in milliseconds
+     * @param adaptive              whether the gap should be adjusted based on the device feedback, see {@link CommandPacer}
+     * @param retryInterval         time the session is not established again for, once it has failed to establish, in milliseconds
+     */
+    ControlChannel(ConnectionGovernor governor, String host, int port, String login, String password, int timeout, TerminatorMatcher loginErrorMatcher,
+            TerminatorMatcher loginSuccessMatcher, TerminatorMatcher commandErrorMatcher, TerminatorMatcher commandSuccessMatcher,
+            long minGap, long maxGap, boolean adaptive, long retryInterval) {
+        this.governor = governor;
+        this.host = host;
+        this.port = port;
+        this.login = login;
+        this.password = password;
+        this.timeout = timeout;
+        this.loginErrorMatcher = loginErrorMatcher;
+        this.loginSuccessMatcher = loginSuccessMatcher;
+        this.commandErrorMatcher = commandErrorMatcher;
+        this.commandSuccessMatcher = commandSuccessMatcher;
+        this.retryInterval = retryInterval;
+        pacer = new CommandPacer(minGap, maxGap, adaptive);
+    }
+
+    /**
+     * Retrieves {@link #scheduler}
+     *
+     * @return scheduler of the control operations, sent over the channel
+     */
+    CommandScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Check whether the channel may be used: the session is established, or it has not failed to establish within the retry interval
+     *
+     * @return true if the commands may be sent over the channel, false if the main session should be used instead
+     */
+    boolean isAvailable() {
+        return System.currentTimeMillis() >= retryTimestamp;
+    }
+
+    /**
+     * Establish the session, unless it's established already. If the session cannot be established, the channel is not
+     * available for the retry interval.
+     *
+     * @throws Exception if the session or the channel cannot be established, or the channel is closed
+     */
+    synchronized void connect() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Control channel is closed");
+        }
+        if (isConnected()) {
+            return;
+        }
+        disconnect();
+        try {
+            Session newSession = governor.openSession(host, port, login, password, timeout);
+            try {
+                newSession.setServerAliveInterval(KEEP_ALIVE_INTERVAL_MS);
+                newSession.setServerAliveCountMax(KEEP_ALIVE_COUNT_MAX);
+                channel = new ShellChannel(newSession, host, timeout, loginErrorMatcher, loginSuccessMatcher);
+            } catch (Exception e) {
+                governor.closeSession(newSession);
+                throw e;
+            }
+            session.set(newSession);
+        } catch (Exception e) {
+            retryTimestamp = System.currentTimeMillis() + retryInterval;
+            throw e;
+        }
+        if (closed) {
+            // The channel has been closed while the session was being established
+            disconnect();
+            throw new IllegalStateException("Control channel is closed");
+        }
+    }
+
+    /**
+     * Send the command, establishing the session if necessary, and wait for the complete response.
+     * The session is closed if the command has not been responded, so it's established again with the next command.
+     *
+     * @param command command to send
+     * @return command response
+     * @throws CommandFailureException if the response has matched an error terminator
+     * @throws Exception               if the session cannot be established, or the response is not complete within the timeout
+     */
+    synchronized String send(String command) throws Exception {
+        connect();
+        ShellChannel currentChannel = channel;
+        pacer.acquire();
+        long commandTimestamp = System.currentTimeMillis();
+        boolean responded = false;
+        try {
+            String response = currentChannel.send(command, commandErrorMatcher, commandSuccessMatcher);
+            responded = true;
+            return response;
+        } catch (CommandFailureException e) {
+            // The device has responded, the command itself is not supported or has failed
+            responded = true;
+            throw e;
+        } catch (Exception e) {
+            disconnect();
+            throw e;
+        } finally {
+            pacer.onResponse(System.currentTimeMillis() - commandTimestamp, responded);
+        }
+    }
+
+    /**
+     * Check whether the session is established
+     *
+     * @return true if the channel is connected, false otherwise
+     */
+    boolean isConnected() {
+        Session currentSession = session.get();
+        ShellChannel currentChannel = channel;
+        return currentSession != null && currentChannel != null && currentSession.isConnected() && currentChannel.isConnected();
+    }
+
+    /**
+     * Close the session. The channel may not be used anymore.
+     * <p>
+     * The send lock is not taken, so the channel is closed right away, even if a command is in progress: the command fails once
+     * the session is closed, instead of holding the caller until the read timeout.
+     */
+    void close() {
+        closed = true;
+        closeSession();
+    }
+
+    /**
+     * Close the channel along with the session. Called under this lock.
+     */
+    private void disconnect() {
+        ShellChannel currentChannel = channel;
+        if (currentChannel != null) {
+            currentChannel.close();
+            channel = null;
+        }
+        closeSession();
+    }
+
+    private void closeSession() {
+        Session currentSession = session.getAndSet(null);
+        if (currentSession != null) {
+            governor.closeSession(currentSession);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses bursts of control operations on the same property (e.g. produced by dragging a slider) to the latest value.
+ * <p>
+ * The first value submitted for a property is not sent right away, but after a short window. Values submitted for the same
+ * property within the window replace the pending one, so only the latest value is sent once the window ends. Windows are timed
+ * by a background thread of the coalescer, or by the shared scheduler, if one is provided. Values are sent by the worker, so
+ * the threads of the shared scheduler are not held by the control operations, that may wait for the device up to the timeouts.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ControlCoalescer {
+    private static final Log LOG = LogFactory.getLog(ControlCoalescer.class);
+
+    /**
+     * Sends the control operation to the device
+     */
+    interface ControlSender {
+        /**
+         * Send the control operation
+         *
+         * @param property name of the controllable property
+         * @param value    value of the controllable property
+         * @throws Exception if the operation has failed
+         */
+        void send(String property, String value) throws Exception;
+    }
+
+    private final String threadName;
+    private final ScheduledExecutorService sharedExecutor;
+    private final Executor worker;
+    private final ControlSender sender;
+    private final Map<String, String> pendingValues = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    /**
+     * ControlCoalescer constructor
+     *
+     * @param threadName     name of the thread the values are sent from
+     * @param sharedExecutor scheduler to time the windows with, instead of a thread of the coalescer, null to create a thread.
+     *                       The scheduler is not shut down once the coalescer is closed.
+     * @param worker         executor to send the values from once the window ends
+     * @param sender         sender of the control operations
+     */
+    ControlCoalescer(String threadName, ScheduledExecutorService sharedExecutor, Executor worker, ControlSender sender) {
+        this.threadName = threadName;
+        this.sharedExecutor = sharedExecutor;
+        this.worker = worker;
+        this.sender = sender;
+    }
+
+    /**
+     * Submit the value of the controllable property, to be sent once the window ends
+     *
+     * @param property name of the controllable property
+     * @param value    value of the controllable property
+     * @param window   time to wait for the next values of the same property, in milliseconds
+     * @return true if the value has replaced a pending value of the same property, false if a new window has been started
+     */
+    synchronized boolean submit(String property, String value, long window) {
+        if (pendingValues.put(property, value) != null) {
+            return true;
+        }
+        if (executor == null) {
+            executor = sharedExecutor != null ? sharedExecutor : Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        executor.schedule(() -> worker.execute(() -> flush(property)), window, TimeUnit.MILLISECONDS);
+        return false;
+    }
+
+    /**
+     * Retrieves number of properties with values waiting to be sent
+     *
+     * @return number of pending properties
+     */
+    int getPendingCount() {
+        return pendingValues.size();
+    }
+
+    /**
+     * Stop the background thread of the coalescer, if it has one. Values that have not been sent yet are dropped.
+     */
+    synchronized void close() {
+        if (executor != null) {
+            if (executor != sharedExecutor) {
+                executor.shutdownNow();
+            }
+            executor = null;
+        }
+        pendingValues.clear();
+    }
+
+    private void flush(String property) {
+        String value = pendingValues.remove(property);
+        if (value == null) {
+            return;
+        }
+        try {
+            sender.send(property, value);
+        } catch (Exception e) {
+            LOG.warn(String.format("Unable to set %s to %s", property, value), e);
+        }
+    }
+}
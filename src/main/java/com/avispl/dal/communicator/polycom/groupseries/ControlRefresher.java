@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks groups of controllable properties (e.g. audio or camera), that have been changed by control operations, and reads
+ * each of them from the device again once the burst of control operations on the group has ended.
+ * <p>
+ * A group is dirty from the first control operation on it until it has been refreshed. The refresh is debounced: it runs once
+ * no control operation on the group has been made for the refresh delay, so a burst of operations (e.g. produced by dragging
+ * a slider) ends up with a single refresh. Refreshes are timed by a background thread of the refresher, or by the shared
+ * scheduler, if one is provided, and are run by the worker, so the threads of the shared scheduler are not held by the reads.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ControlRefresher {
+    private static final Log LOG = LogFactory.getLog(ControlRefresher.class);
+
+    /**
+     * Reads the group of controllable properties from the device
+     */
+    interface GroupReader {
+        /**
+         * Read the group and apply the values to the statistics
+         *
+         * @param group name of the group
+         * @param since timestamp of the refresh start. Properties changed by control operations since then keep their values.
+         * @throws Exception if the group cannot be read
+         */
+        void refresh(String group, long since) throws Exception;
+    }
+
+    private final String threadName;
+    private final ScheduledExecutorService sharedExecutor;
+    private final Executor worker;
+    private final GroupReader reader;
+    /**
+     * Dirty groups, mapped to the timestamp of the latest control operation on the group
+     */
+    private final Map<String, Long> dirtyGroups = new ConcurrentHashMap<>();
+    /**
+     * Dirty groups, that have a refresh scheduled. Guarded by this.
+     */
+    private final Set<String> scheduledGroups = new HashSet<>();
+    private ScheduledExecutorService executor;
+
+    /**
+     * ControlRefresher constructor
+     *
+     * @param threadName     name of the thread the groups are refreshed from
+     * @param sharedExecutor scheduler to time the refreshes with, instead of a thread of the refresher, null to create a thread.
+     *                       The scheduler is not shut down once the refresher is closed.
+     * @param worker         executor to refresh the groups from once the delay has passed
+     * @param reader         reader of the groups
+     */
+    ControlRefresher(String threadName, ScheduledExecutorService sharedExecutor, Executor worker, GroupReader reader) {
+        this.threadName = threadName;
+        this.sharedExecutor = sharedExecutor;
+        this.worker = worker;
+        this.reader = reader;
+    }
+
+    /**
+     * Mark the group as changed by a control operation, and schedule its refresh
+     *
+     * @param group name of the group
+     * @param delay time to wait for the next control operations on the group before refreshing it, in milliseconds
+     */
+    synchronized void markDirty(String group, long delay) {
+        dirtyGroups.put(group, System.currentTimeMillis());
+        if (!scheduledGroups.add(group)) {
+            return;
+        }
+        if (executor == null) {
+            executor = sharedExecutor != null ? sharedExecutor : Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        schedule(group, delay, delay);
+    }
+
+    /**
+     * Check whether the group has been changed by a control operation and has not been refreshed since
+     *
+     * @param group name of the group
+     * @return true if the group is dirty
+     */
+    boolean isDirty(String group) {
+        return dirtyGroups.containsKey(group);
+    }
+
+    /**
+     * Stop the background thread of the refresher, if it has one. Groups that have not been refreshed yet are dropped.
+     */
+    synchronized void close() {
+        if (executor != null) {
+            if (executor != sharedExecutor) {
+                executor.shutdownNow();
+            }
+            executor = null;
+        }
+        scheduledGroups.clear();
+        dirtyGroups.clear();
+    }
+
+    /**
+     * Schedule the refresh of the group. Called under this lock.
+     *
+     * @param group     name of the group
+     * @param delay     time to wait for the next control operations on the group, in milliseconds
+     * @param remaining time to run the refresh in, in milliseconds
+     */
+    private void schedule(String group, long delay, long remaining) {
+        executor.schedule(() -> worker.execute(() -> refresh(group, delay)), remaining, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(String group, long delay) {
+        Long changed;
+        synchronized (this) {
+            changed = dirtyGroups.get(group);
+            if (changed == null || executor == null) {
+                scheduledGroups.remove(group);
+                return;
+            }
+            long remaining = changed + delay - System.currentTimeMillis();
+            if (remaining > 0) {
+                // The group has been changed since the refresh has been scheduled
+                schedule(group, delay, remaining);
+                return;
+            }
+            scheduledGroups.remove(group);
+        }
+        try {
+            reader.refresh(group, System.currentTimeMillis());
+        } catch (Exception e) {
+            LOG.warn(String.format("Unable to refresh %s after control operations", group), e);
+        }
+        // The group stays dirty if it has been changed while being refreshed, another refresh is scheduled for it then
+        dirtyGroups.remove(group, changed);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latency values, in milliseconds, with a fixed memory footprint.
+ * <p>
+ * Values below {@link #LINEAR_LIMIT} are counted exactly. Larger values are counted in log-linear buckets: every power of two
+ * range is split into {@link #SUB_BUCKETS} equal buckets, so a value is reported with no more than ~6% error. Values above
+ * {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}. Recording a value is a single atomic increment, so the histogram is
+ * updated from any number of threads with no locking.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    private static final int LINEAR_LIMIT = 1 << LINEAR_BITS;
+    private static final int MAX_EXPONENT = 30;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = LINEAR_LIMIT + (MAX_EXPONENT - LINEAR_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Record the value
+     *
+     * @param value latency, in milliseconds. Negative values are counted as 0.
+     */
+    void record(long value) {
+        counts.incrementAndGet(indexOf(Math.min(MAX_VALUE, Math.max(0, value))));
+    }
+
+    /**
+     * Retrieves number of the values recorded
+     *
+     * @return number of values
+     */
+    long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the value, that the given share of the recorded values does not exceed
+     *
+     * @param percentile share of the values, from 0 to 100
+     * @return highest value of the bucket the percentile falls into, in milliseconds, or 0 if no values have been recorded
+     */
+    long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
+import com.jcraft.jsch.Session;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background listener of Polycom Group Series notifications.
+ * <p>
+ * The listener keeps its own SSH session (and shell channel) to the device, so it never interferes with the commands sent by
+ * the adapter. Once logged in, it registers for call status, mute status and volume notifications, and requests the current
+ * call/mute/volume state, so the state is known right away rather than after the first change. Lines, pushed by the device,
+ * are parsed as they arrive, and the {@link #onUpdate} callback is triggered on every state change.
+ * <p>
+ * If the session is lost - the state is reset to unknown (so the adapter falls back to polling) and the listener reconnects
+ * after {@link #RECONNECT_INTERVAL_MS}.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class NotificationListener implements Runnable {
+    private static final Log LOG = LogFactory.getLog(NotificationListener.class);
+
+    private static final long RECONNECT_INTERVAL_MS = 30000;
+    private static final int KEEP_ALIVE_INTERVAL_MS = 15000;
+    private static final int KEEP_ALIVE_COUNT_MAX = 3;
+    private static final String PROMPT = "->";
+    private static final String TOKEN_SEPARATOR = ":";
+    private static final String CALL_STATUS_NOTIFICATION = "notification:callstatus:";
+    private static final String MUTE_STATUS_NOTIFICATION = "notification:mutestatus:";
+    private static final String CALL_INFO = "callinfo:";
+    private static final String CALL_INFO_BEGIN = "callinfo begin";
+    private static final String CALL_INFO_END = "callinfo end";
+    private static final String NOT_IN_A_CALL = "system is not in a call";
+    private static final String MUTE_NEAR = "mute near ";
+    private static final String VOLUME = "volume ";
+    private static final String CONNECTED = "connected";
+    private static final String MUTED = "muted";
+    private static final String NEAR = "near";
+    private static final String NULL_STATISTIC = "---";
+
+    /**
+     * Registration commands, followed by the commands that report current state
+     */
+    private static final List<String> SUBSCRIBE_COMMANDS = Arrays.asList("notify callstatus", "notify mutestatus", "volume register",
+            "callinfo all", "mute near get", "volume get");
+
+    private final ConnectionGovernor governor;
+    private final String host;
+    private final int port;
+    private final String login;
+    private final String password;
+    private final int timeout;
+    private final TerminatorMatcher loginErrorMatcher;
+    private final TerminatorMatcher loginSuccessMatcher;
+    private final Runnable onUpdate;
+
+    private volatile boolean running;
+    private volatile boolean subscribed;
+    private Thread thread;
+    private Session session;
+
+    /**
+     * Calls reported by the device, in the {@code callinfo} format, keyed by call id
+     */
+    private final Map<String, String[]> calls = new LinkedHashMap<>();
+    /**
+     * Calls collected between {@link #CALL_INFO_BEGIN} and {@link #CALL_INFO_END} lines, null if no callinfo output is in progress
+     */
+    private Map<String, String[]> pendingCalls;
+    private boolean callStateKnown;
+    private Boolean nearMute;
+    private Integer volume;
+
+    /**
+     * NotificationListener constructor
+     *
+     * @param governor            governor of the SSH sessions, the session is opened and closed through
+     * @param host                device hostname
+     * @param port                SSH port
+     * @param login               SSH login
+     * @param password            SSH password
+     * @param timeout             connection timeout, in milliseconds
+     * @param loginErrorMatcher   compiled login error terminators
+     * @param loginSuccessMatcher compiled login success terminators
+     * @param onUpdate            callback, triggered from the listener thread whenever call, mute or volume state changes
+     */
+    NotificationListener(ConnectionGovernor governor, String host, int port, String login, String password, int timeout,
+            TerminatorMatcher loginErrorMatcher, TerminatorMatcher loginSuccessMatcher, Runnable onUpdate) {
+        this.governor = governor;
+        this.host = host;
+        this.port = port;
+        this.login = login;
+        this.password = password;
+        this.timeout = timeout;
+        this.loginErrorMatcher = loginErrorMatcher;
+        this.loginSuccessMatcher = loginSuccessMatcher;
+        this.onUpdate = onUpdate;
+    }
+
+    /**
+     * Start the listener thread
+     */
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "PolycomGroupSeries notifications " + host);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop the listener thread and close the session
+     */
+    synchronized void stop() {
+        running = false;
+        disconnect();
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                InputStream in = connect();
+                listen(in);
+            } catch (Exception e) {
+                if (running) {
+                    LOG.warn("Notification session to " + host + " has failed, reconnecting in " + RECONNECT_INTERVAL_MS + "ms", e);
+                }
+            } finally {
+                disconnect();
+                reset();
+            }
+            try {
+                Thread.sleep(RECONNECT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Check whether the listener is subscribed for notifications
+     *
+     * @return true if the session is established and notifications are registered, false otherwise
+     */
+    boolean isSubscribed() {
+        return subscribed;
+    }
+
+    /**
+     * Check whether the call state has been reported by the device within the current session
+     *
+     * @return true if {@link #getActiveCall()} reflects the device state, false otherwise
+     */
+    synchronized boolean isCallStateKnown() {
+        return callStateKnown;
+    }
+
+    /**
+     * Retrieves the first connected call
+     *
+     * @return call details, in the {@code callinfo} format (callinfo:callid:name:number:speed:status:mute:direction:type),
+     * or null if there are no connected calls
+     */
+    synchronized String[] getActiveCall() {
+        for (String[] call : calls.values()) {
+            if (CONNECTED.equals(call[5])) {
+                return call.clone();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves near end microphones mute state
+     *
+     * @return true if muted, false if unmuted, null if not known
+     */
+    synchronized Boolean getNearMute() {
+        return nearMute;
+    }
+
+    /**
+     * Retrieves volume level
+     *
+     * @return volume level, null if not known
+     */
+    synchronized Integer getVolume() {
+        return volume;
+    }
+
+    /**
+     * Parse a single line, pushed by the device, and update the state accordingly
+     *
+     * @param line line of the device output, without line breakers
+     * @return true if the state has changed, false otherwise
+     */
+    synchronized boolean processLine(String line) {
+        String value = line.trim();
+        if (value.startsWith(PROMPT)) {
+            value = value.substring(PROMPT.length()).trim();
+        }
+        if (value.startsWith(CALL_STATUS_NOTIFICATION)) {
+            // notification:callstatus:<direction>:<callid>:<name>:<number>:<status>:<speed>:<cause>:<type>
+            String[] tokens = value.split(TOKEN_SEPARATOR, -1);
+            if (tokens.length < 8) {
+                return false;
+            }
+            String[] call = {CALL_INFO, tokens[3], tokens[4], tokens[5], tokens[7], tokens[6], NULL_STATISTIC, tokens[2],
+                    tokens.length > 9 ? tokens[9] : NULL_STATISTIC};
+            updateCall(call);
+            return callStateKnown;
+        }
+        if (value.startsWith(MUTE_STATUS_NOTIFICATION)) {
+            // notification:mutestatus:<near|far>:<callid>:<name>:<number>:<muted|unmuted>
+            String[] tokens = value.split(TOKEN_SEPARATOR, -1);
+            if (tokens.length < 7 || !NEAR.equals(tokens[2])) {
+                return false;
+            }
+            return updateMute(MUTED.equals(tokens[tokens.length - 1]));
+        }
+        if (value.equals(CALL_INFO_BEGIN)) {
+            pendingCalls = new LinkedHashMap<>();
+            return false;
+        }
+        if (value.startsWith(CALL_INFO)) {
+            // callinfo:<callid>:<name>:<number>:<speed>:<status>:<mute>:<direction>:<type>
+            String[] call = value.split(TOKEN_SEPARATOR, -1);
+            if (call.length < 6 || pendingCalls == null) {
+                return false;
+            }
+            pendingCalls.put(call[1], call);
+            return false;
+        }
+        if (value.equals(CALL_INFO_END) || value.equals(NOT_IN_A_CALL)) {
+            calls.clear();
+            if (pendingCalls != null && value.equals(CALL_INFO_END)) {
+                calls.putAll(pendingCalls);
+            }
+            pendingCalls = null;
+            callStateKnown = true;
+            return true;
+        }
+        if (value.startsWith(MUTE_NEAR)) {
+            String state = value.substring(MUTE_NEAR.length());
+            if ("on".equals(state) || "off".equals(state)) {
+                return updateMute("on".equals(state));
+            }
+            return false;
+        }
+        if (value.startsWith(VOLUME)) {
+            String level = value.substring(VOLUME.length());
+            if (!level.isEmpty() && level.chars().allMatch(Character::isDigit)) {
+                Integer newVolume = Integer.valueOf(level);
+                boolean changed = !newVolume.equals(volume);
+                volume = newVolume;
+                return changed;
+            }
+        }
+        return false;
+    }
+
+    private void updateCall(String[] call) {
+        String status = call[5];
+        if ("disconnected".equals(status) || "inactive".equals(status)) {
+            calls.remove(call[1]);
+        } else {
+            calls.put(call[1], call);
+        }
+    }
+
+    private boolean updateMute(boolean muted) {
+        boolean changed = !Boolean.valueOf(muted).equals(nearMute);
+        nearMute = muted;
+        return changed;
+    }
+
+    /**
+     * Clear the state, once the session is lost
+     */
+    private void reset() {
+        subscribed = false;
+        synchronized (this) {
+            calls.clear();
+            pendingCalls = null;
+            callStateKnown = false;
+            nearMute = null;
+            volume = null;
+        }
+        onUpdate.run();
+    }
+
+    /**
+     * Establish SSH session and shell channel, wait for the login banner to complete, and write subscription commands
+     *
+     * @return channel input stream, positioned right after the login banner
+     */
+    private InputStream connect() throws Exception {
+        Session newSession = governor.openSession(host, port, login, password, timeout);
+        synchronized (this) {
+            if (!running) {
+                governor.closeSession(newSession);
+                throw new IOException("Notification listener is stopped");
+            }
+            session = newSession;
+        }
+        newSession.setServerAliveInterval(KEEP_ALIVE_INTERVAL_MS);
+        newSession.setServerAliveCountMax(KEEP_ALIVE_COUNT_MAX);
+        ShellChannel channel = new ShellChannel(newSession, host, timeout, loginErrorMatcher, loginSuccessMatcher);
+        // Once logged in, the session is kept open indefinitely, notifications may not arrive for hours
+        newSession.setTimeout(0);
+
+        for (String command : SUBSCRIBE_COMMANDS) {
+            channel.write(command);
+        }
+        subscribed = true;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Subscribed for notifications from " + host + ": " + SUBSCRIBE_COMMANDS);
+        }
+        return channel.getInputStream();
+    }
+
+    /**
+     * Read device output line by line, until the channel is closed
+     */
+    private void listen(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        byte[] buffer = new byte[1024];
+        int count;
+        while (running && (count = in.read(buffer)) >= 0) {
+            boolean changed = false;
+            for (int i = 0; i < count; i++) {
+                char c = (char) (buffer[i] & 0xFF);
+                if (c == '\n') {
+                    changed |= processLine(line.toString());
+                    line.setLength(0);
+                } else if (c != '\r') {
+                    line.append(c);
+                }
+            }
+            if (changed) {
+                onUpdate.run();
+            }
+        }
+    }
+
+    private synchronized void disconnect() {
+        if (session != null) {
+            governor.closeSession(session);
+            session = null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.symphony.api.dal.dto.monitor.CallStats;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Call, dialed by the adapter, that has not been verified to be connected yet.
+ * <p>
+ * The call is verified by matching remote address of the connected call against the dial string, either once a call status
+ * notification is received, or by the verifier, that checks the call status with increasing intervals until the deadline.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class PendingDial {
+    private static final int BACKOFF_FACTOR = 2;
+
+    private final String dialString;
+    private final long deadline;
+    private final long maxInterval;
+    private final CompletableFuture<String> future = new CompletableFuture<>();
+    private long interval;
+
+    /**
+     * PendingDial constructor
+     *
+     * @param dialString  dial string of the call
+     * @param deadline    time to stop verifying the call at, in milliseconds
+     * @param interval    interval before the first verification, in milliseconds
+     * @param maxInterval maximal interval in between of the verifications, in milliseconds
+     */
+    PendingDial(String dialString, long deadline, long interval, long maxInterval) {
+        this.dialString = dialString == null ? "" : dialString.trim();
+        this.deadline = deadline;
+        this.interval = interval;
+        this.maxInterval = Math.max(interval, maxInterval);
+    }
+
+    /**
+     * Retrieves {@link #future}
+     *
+     * @return future, completed with the call id once the call is verified, or with null if the call is not verified until the deadline
+     */
+    CompletableFuture<String> getFuture() {
+        return future;
+    }
+
+    /**
+     * Complete the dial, if the connected call is the one that has been dialed
+     *
+     * @param callStats details of the connected call, null if there are no connected calls
+     * @return true if the dial is completed, false otherwise
+     */
+    boolean verify(CallStats callStats) {
+        if (callStats == null || callStats.getRemoteAddress() == null) {
+            return false;
+        }
+        String remoteAddress = callStats.getRemoteAddress().trim();
+        if (remoteAddress.isEmpty() || !remoteAddress.equals(dialString)) {
+            return false;
+        }
+        return future.complete(callStats.getCallId());
+    }
+
+    /**
+     * Calculate the delay of the next verification, and increase the interval for the verification after it
+     *
+     * @param now current time, in milliseconds
+     * @return delay of the next verification, in milliseconds, or -1 if the deadline has been reached
+     */
+    synchronized long nextDelay(long now) {
+        if (now >= deadline) {
+            return -1;
+        }
+        long delay = Math.min(interval, deadline - now);
+        interval = Math.min(maxInterval, interval * BACKOFF_FACTOR);
+        return delay;
+    }
+}
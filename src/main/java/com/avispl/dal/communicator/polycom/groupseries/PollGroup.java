@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+/**
+ * Cached result of a group of statistics commands, that is refreshed according to its own polling interval.
+ * <p>
+ * The group keeps the latest value along with the time it was collected, so statistics requests in between of the refreshes
+ * are served from the cache, and the age of the data can be reported.
+ *
+ * @param <T> type of the cached value
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class PollGroup<T> {
+    private final String name;
+    private volatile long interval;
+
+    private T value;
+    private long timestamp;
+
+    /**
+     * PollGroup constructor
+     *
+     * @param name     name of the group, used for logging and reporting
+     * @param interval refresh interval, in milliseconds. 0 or less to refresh the group on every poll
+     */
+    PollGroup(String name, long interval) {
+        this.name = name;
+        this.interval = interval;
+    }
+
+    /**
+     * Check whether the cached value may be used instead of collecting the data again
+     *
+     * @param now current timestamp, in milliseconds
+     * @return true if the value is present and the refresh interval has not elapsed yet, false otherwise
+     */
+    synchronized boolean isFresh(long now) {
+        return value != null && now - timestamp < interval;
+    }
+
+    /**
+     * Retrieves cached value, unless it has expired. The check and the read are done at once, so the value cannot be
+     * invalidated in between of these.
+     *
+     * @param now current timestamp, in milliseconds
+     * @return cached value if it's fresh, see {@link #isFresh(long)}, null otherwise
+     */
+    synchronized T getIfFresh(long now) {
+        return isFresh(now) ? value : null;
+    }
+
+    /**
+     * Store newly collected value
+     *
+     * @param value     collected value
+     * @param timestamp time the value has been collected at, in milliseconds
+     */
+    synchronized void update(T value, long timestamp) {
+        this.value = value;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Drop the cached value, so the group is refreshed during the next poll
+     */
+    synchronized void invalidate() {
+        value = null;
+        timestamp = 0;
+    }
+
+    /**
+     * Retrieves cached value
+     *
+     * @return cached value, or null if the group has not been collected yet
+     */
+    synchronized T getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves time the cached value has been collected at
+     *
+     * @return timestamp, in milliseconds, or 0 if the group has not been collected yet
+     */
+    synchronized long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Sets {@link #interval} value
+     *
+     * @param interval refresh interval, in milliseconds. 0 or less to refresh the group on every poll
+     */
+    void setInterval(long interval) {
+        this.interval = interval;
+    }
+}
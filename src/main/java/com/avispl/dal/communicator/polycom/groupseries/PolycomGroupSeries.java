@@ -4,6 +4,7 @@
 package com.avispl.dal.communicator.polycom.groupseries;
 
 import com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils;
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
 import com.avispl.symphony.api.common.error.NotImplementedException;
 import com.avispl.symphony.api.dal.control.Controller;
 import com.avispl.symphony.api.dal.control.call.CallController;
@@ -22,12 +23,29 @@ import com.avispl.symphony.dal.communicator.SshCommunicator;
 import org.springframework.util.CollectionUtils;
 
 import javax.security.auth.login.FailedLoginException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.convertToFloat;
 import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.convertToInteger;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.nonNull;
@@ -46,7 +64,6 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      */
     private static final String REGEX_MATCH_ADDRESS = "([^\\s:]+\\.[^\\s:]+)+";
     private static final String HANGUP_ALL = "hangup all";
-    private static final String LOWER_CASE_P = "p";
     private static final String GATEKEEPERIP_GET = "gatekeeperip get";
     private static final String SYSTEMSETTING_GET_SIPREGISTRARSERVER = "systemsetting get sipregistrarserver";
     private static final String MUTE_NEAR_ON = "mute near on";
@@ -56,9 +73,6 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     private static final String MUTE_STATUS = MUTE_NEAR_ON;
     private static final String GET_ADVANCED_STATS = "advnetstats";
     private static final String GET_NETWORK_STATS = "netstats";
-    private static final String VIDEO_CODEC_CODE = "tvp";
-    private static final String AUDIO_CODEC_CODE = "tap";
-    private static final String PROTOCOL_CODE = "tcp";
 
     private static final String STATUS = "status";
     private static final String WHOAMI = "whoami";
@@ -97,75 +111,496 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     private static final String CAMERA_LABEL_TRACKING_WAKE = "Camera#TrackingWake";
     private static final String CAMERA_LABEL_TRACKING_SPEED = "Camera#TrackingSpeed";
     private static final String DEVICE_LABEL_REBOOT = "Device#Reboot";
+    private static final String DEVICE_LABEL_MODEL = "Device#Model";
+    private static final String DEVICE_LABEL_SOFTWARE_VERSION = "Device#SoftwareVersion";
+    private static final String ADAPTER_METRICS_LABEL_COMMANDS_COOLDOWN = "AdapterMetrics#CommandsCooldownDelay(ms)";
+    private static final String ADAPTER_METRICS_LABEL_COMMAND_LATENCY = "AdapterMetrics#CommandLatencyAverage(ms)";
+    private static final String ADAPTER_METRICS_LABEL_LAST_UPDATED = "AdapterMetrics#%sLastUpdated";
+    private static final String ADAPTER_METRICS_LABEL_QUEUE_DEPTH = "AdapterMetrics#%sQueueDepth";
+    private static final String ADAPTER_METRICS_LABEL_QUEUE_WAIT = "AdapterMetrics#%sQueueWaitAverage(ms)";
+    private static final String ADAPTER_METRICS_LABEL_QUEUE_DISPATCHED = "AdapterMetrics#%sDispatchedCommands";
+    private static final String ADAPTER_METRICS_LABEL_SHARED_SESSIONS = "AdapterMetrics#SharedOpenSessions";
+    private static final String ADAPTER_METRICS_LABEL_SHARED_SCHEDULER_QUEUE = "AdapterMetrics#SharedSchedulerQueueDepth";
+    private static final String ADAPTER_METRICS_LABEL_POLL_BUDGET_OVERRUNS = "AdapterMetrics#PollTimeBudgetOverruns";
+    private static final String ADAPTER_METRICS_LABEL_RESPONSE_CACHE_HITS = "AdapterMetrics#ResponseCacheHits";
+    private static final String ADAPTER_METRICS_LABEL_RESPONSE_CACHE_MISSES = "AdapterMetrics#ResponseCacheMisses";
 
-    private static final String AUDIO_TX_RATE_CODE = "tar";
-    private static final String AUDIO_RX_RATE_CODE = "rar";
-    private static final String VIDEO_RX_RATE_CODE = "rvr";
-    private static final String VIDEO_TX_RATE_CODE = "tvr";
-    private static final String AUDIO_TX_JITER_CODE = "taj";
-    private static final String AUDIO_RX_JITTER_CODE = "raj";
-    private static final String AUDIO_TX_PACKETLOSS_CODE = "tapl";
-    private static final String AUDIO_RX_PACKETLOSS_CODE = "rapl";
     private static final String CONNECTED = "connected";
-    private static final String VIDEO_TX_JITTER_CODE = "tvj";
-    private static final String VIDEO_RX_JITTER_CODE = "rvj";
-    private static final String VIDEO_TX_PACKETLOSS_CODE = "tvpl";
-    private static final String VIDEO_RX_PACKETLOSS_CODE = "rvpl";
-    private static final String VIDEO_TX_BITRATE_CODE = "tvru";
-    private static final String VIDEO_RX_BITRATE_CODE = "rvru";
-    private static final String VIDEO_TX_FRAMERATE_CODE = "tvfr";
-    private static final String VIDEO_RX_FRAMERATE_CODE = "rvfr";
-    private static final String VIDEO_TX_FRAME_SIZE_CODE = "tvf";
-    private static final String VIDEO_RX_FRAME_SIZE_CODE = "rvf";
-
-    private static final String CONTENT_TX_RATE_CODE = "tcr";
-    private static final String CONTENT_RX_RATE_CODE = "rcr";
-    private static final String CONTENT_TX_RATE_USED_CODE = "tcru";
-    private static final String CONTENT_RX_RATE_USED_CODE = "rcru";
-    private static final String CONTENT_TX_FRAMERATE_CODE = "tcfr";
-    private static final String CONTENT_RX_FRAMERATE_CODE = "rcfr";
-    private static final String CONTENT_TX_PACKETLOSS_CODE = "tcpl";
-    private static final String CONTENT_RX_PACKETLOSS_CODE = "rcpl";
-    private static final String CONTENT_RX_CODEC_CODE = "rctp";
-
-    private static final String TOTAL_TX_PACKETLOSS_CODE = "pktloss";
-    private static final String PERCENT_TX_PACKETLOSS_CODE = "%pktloss";
+
+    private static final String CONTROL_GROUP_AUDIO = "Audio";
+    private static final String CONTROL_GROUP_CAMERA = "Camera";
+
     private static final String TOKEN_SEPERATOR = ":";
-    private static final String WILDCARD_TOKEN = "*";
-    private static final String WILDCARD_CHARACTER = "\\*";
     private static final String LINE_BREAKER = "\r\r\n";
-    private static final String X_CHARACTER = "x";
     private static final String NULL_STATISTIC = "---";
-    private static final int MAX_STATUS_POLL_ATTEMPT = 20; // TODO extract into configurable property
-    private static final int RETRY_INTERVAL_MILLISEC = 1000; // TODO extract into configurable property
+    private static final String UNSUPPORTED_FEATURE = "only supported";
+    private static final int MAX_BATCH_FAILURES = 3;
+    private static final String BATCH_COMMAND_SEPARATOR = "\n";
+    private static final String BATCH_METRICS_NAME = "batch";
+    private static final int MAX_PARALLEL_CHANNELS = 4;
+    private static final int MAX_PARALLEL_FAILURES = 3;
+    private static final long CONTROL_SESSION_RETRY_INTERVAL_MS = 30000;
+    private static final long CONTROL_WORKER_KEEP_ALIVE_MS = 60000;
+
+    /**
+     * Time, {@link #cameraPosition} is used for, before it is requested from the device again. The camera may be moved by other
+     * means (e.g. a remote control), so the position, that has not been refreshed for a while, is not trusted.
+     */
+    private static final long CAMERA_POSITION_MAX_AGE_MS = 60000;
+
+    /**
+     * Statistics reported by {@link #STATUS} command, keyed by the device status names
+     */
+    static final ResponseLineParser STATUS_PARSER = new ResponseLineParser(' ', "SystemStatus#")
+            .map("ipnetwork", "SystemStatus#IPNetwork")
+            .map("trackablecamera", "SystemStatus#TrackableCamera")
+            .map("autoanswerp2p", "SystemStatus#AutoAnswerP2P")
+            .map("sipserver", "SystemStatus#SIPServer")
+            .map("camera", "SystemStatus#Camera")
+            .map("provisioning", "SystemStatus#Provisioning")
+            .map("audio", "SystemStatus#Audio")
+            .map("remotecontrol", "SystemStatus#RemoteControl")
+            .map("logthreshold", "SystemStatus#LogThreshold")
+            .map("globaldirectory", "SystemStatus#GlobalDirectory")
+            .map("calendar", "SystemStatus#Calendar")
+            .ignore(STATUS);
+
+    /**
+     * Statistics reported by {@link #WHOAMI} command, keyed by the device information names
+     */
+    static final ResponseLineParser WHOAMI_PARSER = new ResponseLineParser(':', null)
+            .map("Hi, my name is", "Device#Name")
+            .map("Model", DEVICE_LABEL_MODEL)
+            .map("Software Version", DEVICE_LABEL_SOFTWARE_VERSION)
+            .map("Serial Number", "Device#SerialNumber")
+            .map("Build Information", "Device#Build")
+            .map("Time In Last Call", "Device#TimeInLastCall")
+            .map("Total Time In Calls", "Device#TimeInCallsTotal")
+            .map("Total Calls", "Device#TotalCalls")
+            .map("SNTP Time Service", "Device#SNTPTimeService")
+            .map("Local Time is", "Device#LocalTime")
+            .map("H323 Enabled", "Device#H323Enabled")
+            .map("HTTP Enabled", "Device#HTTPEnabled")
+            .map("SNMP Enabled", "Device#SNMPEnabled");
+
+    /**
+     * In-call statistics commands, sent ahead of all the other commands of the statistics poll along with {@link #GET_CALL_STATE},
+     * when the device has been in a call during the previous poll
+     */
+    private static final List<String> CALL_QUALITY_POLL_COMMANDS = Collections.unmodifiableList(Arrays.asList(GET_NETWORK_STATS, GET_ADVANCED_STATS));
+
+    /**
+     * Independent groups of {@link #GET_CALL_STATE} and {@link #CALL_QUALITY_POLL_COMMANDS}, that are sent concurrently if
+     * {@link #parallelChannels} is greater than 1
+     */
+    private static final List<List<String>> CALL_POLL_COMMAND_GROUPS = Collections.unmodifiableList(Arrays.asList(
+            singletonList(GET_CALL_STATE), CALL_QUALITY_POLL_COMMANDS));
+
+    /**
+     * Commands, sent during every statistics poll once the call state is known, that are written within a single batch if
+     * {@link #commandBatchingEnabled} is set
+     */
+    private static final List<String> POLL_COMMANDS = Collections.unmodifiableList(Arrays.asList(STATUS, WHOAMI, GET_MUTE_STATUS,
+            String.format(VOLUME, GET), SYSTEMSETTING_GET_SIPREGISTRARSERVER, GATEKEEPERIP_GET));
+
+    /**
+     * Camera commands, sent during statistics poll when the device is in a call, that are written within a single batch if
+     * {@link #commandBatchingEnabled} is set
+     */
+    private static final List<String> IN_CALL_POLL_COMMANDS = Collections.unmodifiableList(Arrays.asList(String.format(CAMERA_INVERT_NEAR, GET), String.format(CAMERA_NEAR_TRACKING, GET), String.format(CAMERA_NEAR_TRACKING_CALIBRATE, GET),
+            String.format(CAMERA_NEAR_TRACKING_FRAMING, GET), String.format(CAMERA_NEAR_TRACKING_MODE, GET), String.format(CAMERA_NEAR_TRACKING_PARTICIPANT, GET),
+            String.format(CAMERA_NEAR_TRACKING_PIP, GET), String.format(CAMERA_NEAR_TRACKING_WAKE, GET), String.format(CAMERA_NEAR_TRACKING_SPEED, GET),
+            String.format(VIDEOMUTE, GET), CAMERA_NEAR_GETPOSITION));
+
+    /**
+     * Independent groups of {@link #POLL_COMMANDS}, that are sent concurrently if {@link #parallelChannels} is greater than 1
+     */
+    private static final List<List<String>> POLL_COMMAND_GROUPS = Collections.unmodifiableList(Arrays.asList(
+            Arrays.asList(STATUS, SYSTEMSETTING_GET_SIPREGISTRARSERVER, GATEKEEPERIP_GET),
+            singletonList(WHOAMI),
+            Arrays.asList(GET_MUTE_STATUS, String.format(VOLUME, GET))));
+
+    /**
+     * Independent groups of {@link #IN_CALL_POLL_COMMANDS}, that are sent concurrently if {@link #parallelChannels} is greater than 1
+     */
+    private static final List<List<String>> IN_CALL_POLL_COMMAND_GROUPS = Collections.unmodifiableList(Arrays.asList(
+            Arrays.asList(String.format(VIDEOMUTE, GET), String.format(CAMERA_INVERT_NEAR, GET), String.format(CAMERA_NEAR_TRACKING, GET),
+                    CAMERA_NEAR_GETPOSITION),
+            Arrays.asList(String.format(CAMERA_NEAR_TRACKING_CALIBRATE, GET), String.format(CAMERA_NEAR_TRACKING_FRAMING, GET),
+                    String.format(CAMERA_NEAR_TRACKING_MODE, GET), String.format(CAMERA_NEAR_TRACKING_PARTICIPANT, GET),
+                    String.format(CAMERA_NEAR_TRACKING_PIP, GET), String.format(CAMERA_NEAR_TRACKING_WAKE, GET),
+                    String.format(CAMERA_NEAR_TRACKING_SPEED, GET))));
 
     /**
-     * Timestamp of the last control operation, used to determine whether we need to wait
-     * for {@link #CONTROL_OPERATION_COOLDOWN_MS} before collecting new statistics
+     * Read commands, cached by {@link #responseCache} if {@link #responseCacheEnabled} is set, mapped to the time to live of their
+     * responses, in milliseconds. Audio and camera settings are changed through the adapter most of the time, and the cached
+     * responses are dropped then. Registration servers are rarely changed at all.
      */
-    private long latestControlTimestamp;
+    static final Map<String, Long> RESPONSE_CACHE_TTLS = createResponseCacheTtls();
+
+    /**
+     * Prefixes of the control commands, mapped to the {@link #RESPONSE_CACHE_TTLS} command, that reads the value they change
+     */
+    static final Map<String, String> RESPONSE_CACHE_INVALIDATIONS = createResponseCacheInvalidations();
+
+    /**
+     * Slider based controllable properties, whose control operations come in bursts and are sent through {@link #controlCoalescer}
+     */
+    private static final Set<String> COALESCED_CONTROLS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(AUDIO_LABEL_VOLUME,
+            CAMERA_LABEL_PAN, CAMERA_LABEL_TILT, CAMERA_LABEL_ZOOM)));
+
+    /**
+     * Controllable properties of {@link #CONTROL_GROUP_AUDIO} group, refreshed together after control operations
+     */
+    private static final Set<String> AUDIO_CONTROLS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(AUDIO_LABEL_VOLUME,
+            AUDIO_LABEL_MUTE)));
+
+    /**
+     * Controllable properties of {@link #CONTROL_GROUP_CAMERA} group, refreshed together after control operations
+     */
+    private static final Set<String> CAMERA_CONTROLS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(CAMERA_LABEL_PAN,
+            CAMERA_LABEL_TILT, CAMERA_LABEL_ZOOM, CAMERA_LABEL_MUTE, CAMERA_LABEL_INVERT, CAMERA_LABEL_TRACKING, CAMERA_LABEL_TRACKING_CALIBRATE,
+            CAMERA_LABEL_TRACKING_FRAMING, CAMERA_LABEL_TRACKING_MODE, CAMERA_LABEL_TRACKING_PARTICIPANT, CAMERA_LABEL_TRACKING_PIP,
+            CAMERA_LABEL_TRACKING_WAKE, CAMERA_LABEL_TRACKING_SPEED)));
+
     /**
      * A default delay to apply in between of all the commands performed by the adapter.
+     * When {@link #adaptiveCommandPacing} is enabled - this is the maximal delay, used for slow or unstable devices.
      * */
     private long commandsCooldownDelay = 200;
 
     /**
-     * Cooldown period for control operation. Most control operations (toggle/slider based in this case) may be
-     * requested multiple times in a row. Normally, a control operation would trigger an emergency delivery action,
-     * which is not wanted in this case - such control operations will stack multiple statistics retrieval calls,
-     * while instead we can define a cooldown period, so multiple controls operations will be stacked within this
-     * period and the control states are modified within the {@link #localStatistics} variable.
+     * Minimal delay in between of the commands, used when {@link #adaptiveCommandPacing} is enabled. The delay never goes
+     * above {@link #commandsCooldownDelay}, whatever value is set.
+     */
+    private long minCommandsCooldownDelay = 20;
+
+    /**
+     * Whether the delay in between of the commands should be adjusted based on the device response latency and failures,
+     * within [{@link #minCommandsCooldownDelay}, {@link #commandsCooldownDelay}] range.
      */
-    private static final int CONTROL_OPERATION_COOLDOWN_MS = 5000;
+    private boolean adaptiveCommandPacing;
 
     /**
-     * Timestamp of the latest command sent to a device.
+     * Paces commands sent to the device, according to {@link #commandsCooldownDelay}, {@link #minCommandsCooldownDelay}
+     * and {@link #adaptiveCommandPacing} values.
      * */
-    private long lastCommandTimestamp;
+    private final CommandPacer commandPacer = new CommandPacer(minCommandsCooldownDelay, commandsCooldownDelay, adaptiveCommandPacing);
+
+    /**
+     * Whether statistics poll commands should be written to the device in groups, within a single write operation,
+     * instead of sending them one by one and waiting for each response (and cooldown) separately.
+     */
+    private boolean commandBatchingEnabled;
+
+    /**
+     * Number of consecutive batched writes that have failed. Once {@link #MAX_BATCH_FAILURES} is reached, batching is
+     * suspended until the adapter is re-initialized.
+     */
+    private int batchFailureCount;
+
+    /**
+     * Whether the device has echoed a batched write ahead of the responses (typeahead), so that the responses cannot be split.
+     * Batching is suspended until the adapter is re-initialized, if so.
+     */
+    private boolean batchTypeahead;
+
+    /**
+     * Number of shell channels, opened on a separate SSH session, to send independent groups of statistics poll commands
+     * concurrently. 1 to send all the commands over the main channel. Must be within [1, {@link #MAX_PARALLEL_CHANNELS}] range.
+     * The separate session counts against the limit of concurrent SSH sessions of the device, see {@link ChannelPool}.
+     */
+    private int parallelChannels = 1;
+
+    /**
+     * Channels used when {@link #parallelChannels} is greater than 1, created on demand. Updated under {@link #pollLock}.
+     */
+    private volatile ChannelPool channelPool;
+
+    /**
+     * Whether the adapter is destroyed, so the statistics poll in progress does not open {@link #channelPool} again
+     */
+    private volatile boolean channelPoolClosed;
+
+    /**
+     * Number of consecutive parallel collections that have failed. Once {@link #MAX_PARALLEL_FAILURES} is reached, parallel
+     * collection is suspended until the adapter is re-initialized.
+     */
+    private int parallelFailureCount;
+
+    /**
+     * Commands of the batched write that is currently in flight, null if no batched write is in progress.
+     */
+    private List<String> inFlightBatch;
+
+    /**
+     * Responses of the latest batched write (or parallel collection), as well as the responses of the commands sent one by one
+     * during the statistics poll, keyed by command. Populated and consumed during a single {@link #getMultipleStatistics()} call,
+     * and served to the polling thread only, so every command is sent once per poll at most. Guarded by {@link #pollLock}.
+     */
+    private final Map<String, String> batchedResponses = new HashMap<>();
+
+    /**
+     * Commands of the latest batched write that have been responded with one of the {@link #commandErrorList} entries
+     */
+    private final Set<String> failedBatchedCommands = new HashSet<>();
+
+    /**
+     * Refresh interval of static device information (model, serial number, software version, etc.), in milliseconds.
+     * Call counters and local time, reported along with it, are refreshed with the same interval and once a call has ended.
+     */
+    private long staticPollingInterval = 1800000;
+
+    /**
+     * Refresh interval of system and registration status, in milliseconds.
+     */
+    private long slowPollingInterval = 60000;
+
+    /**
+     * Refresh interval of in-call network statistics, in milliseconds. 0 to refresh on every statistics poll.
+     */
+    private long fastPollingInterval;
+
+    /**
+     * Polling groups, each of them is refreshed according to one of {@link #staticPollingInterval}, {@link #slowPollingInterval}
+     * and {@link #fastPollingInterval}
+     */
+    private final PollGroup<Map<String, String>> deviceInfoGroup = new PollGroup<>("DeviceInfo", staticPollingInterval);
+    private final PollGroup<Map<String, String>> systemStatusGroup = new PollGroup<>("SystemStatus", slowPollingInterval);
+    private final PollGroup<RegistrationStatus> registrationStatusGroup = new PollGroup<>("RegistrationStatus", slowPollingInterval);
+    private final PollGroup<EndpointStatistics> callStatisticsGroup = new PollGroup<>("CallStatistics", fastPollingInterval);
+
+    /**
+     * Call state, collected first thing during every statistics poll. Never cached, only kept to report the time it's been sampled at.
+     */
+    private final PollGroup<Boolean> callStateGroup = new PollGroup<>("CallState", 0);
+
+    /**
+     * Camera commands, mapped to whether they are supported by the device. Commands that are not supported (either not
+     * recognized, or require different camera model) are not sent again, until the device model or software version changes.
+     */
+    private final Map<String, Boolean> cameraCapabilities = new ConcurrentHashMap<>();
+
+    /**
+     * Last known position of the near camera, reported by the statistics poll or set by the adapter itself, null if not known.
+     * Used to build setposition commands for pan, tilt and zoom controls without requesting the current position first.
+     */
+    private final AtomicReference<CameraPosition> cameraPosition = new AtomicReference<>();
+
+    /**
+     * Model and software version of the device, {@link #cameraCapabilities} have been collected for
+     */
+    private volatile String cameraCapabilitiesKey;
+
+    /**
+     * Whether call, mute and volume state should be tracked through device notifications, received over a separate SSH session,
+     * instead of polling for it with every statistics request.
+     */
+    private boolean notificationsEnabled;
+
+    /**
+     * Whether all the lines of {@link #STATUS} command result should be reported, including the ones that have no dedicated
+     * statistic (e.g. "microphones" or "gatekeeper"). Such lines are reported as "SystemStatus#" followed by the device status name.
+     */
+    private boolean unknownStatusLinesEnabled;
+
+    /**
+     * Time to collect control operations on slider based properties ({@link #COALESCED_CONTROLS}) for, in milliseconds.
+     * Only the latest value of the property, set within this period, is sent to the device. 0 to send every value right away.
+     * Coalesced values are sent once the control operation has returned, and their failures are only logged, so the coalescing
+     * is off by default.
+     */
+    private long controlCoalescingWindow;
+
+    /**
+     * Sends the latest values of {@link #COALESCED_CONTROLS}, null if the adapter is not initialized
+     */
+    private volatile ControlCoalescer controlCoalescer;
+
+    /**
+     * Time since the latest control operation on a group of controllable properties ({@link #AUDIO_CONTROLS} or
+     * {@link #CAMERA_CONTROLS}), after which the group is read from the device again, in milliseconds. Until then, the statistics
+     * polls report the values set by the control operations for the group, while all the other statistics are polled as usual.
+     * {@link #controlCoalescingWindow} is added to the delay, so the coalesced values are sent before the group is read.
+     */
+    private long controlRefreshDelay = 1000;
+
+    /**
+     * Refreshes groups of controllable properties after control operations, null if the adapter is not initialized
+     */
+    private volatile ControlRefresher controlRefresher;
+
+    /**
+     * Time to verify the dialed call is connected for, in milliseconds. {@link #dialAsync(DialDevice)} result is completed
+     * with null if the call is not connected within this period.
+     */
+    private long dialTimeout = 20000;
+
+    /**
+     * Interval before the first dialed call status check, in milliseconds. The interval is doubled after every check, up to
+     * {@link #dialVerificationMaxInterval}. Call status notifications (see {@link #notificationsEnabled}) complete the dial
+     * right away, with no status checks.
+     */
+    private long dialVerificationInterval = 1000;
+
+    /**
+     * Maximal interval in between of the dialed call status checks, in milliseconds
+     */
+    private long dialVerificationMaxInterval = 4000;
 
-    ReentrantLock commandOperationLock = new ReentrantLock();
-    private ExtendedStatistics localStatistics;
-    private EndpointStatistics localEndpointStatistics;
+    /**
+     * Calls dialed by {@link #dialAsync(DialDevice)} that have not been verified yet
+     */
+    private final Set<PendingDial> pendingDials = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Runs dialed call status checks, created on demand
+     */
+    private ScheduledExecutorService dialScheduler;
+
+    /**
+     * Whether the adapter should use the resources, shared by all the adapter instances of the JVM: {@link SharedScheduler} to time
+     * coalesced control operations and dialed call status checks instead of the threads of its own, and the shared
+     * {@link ConnectionGovernor} to limit the number of open SSH sessions and concurrent SSH handshakes.
+     * Applied once the adapter is initialized.
+     */
+    private boolean sharedSchedulerEnabled;
+
+    /**
+     * Maximal number of SSH sessions the adapter opens to the device in addition to the main session: the notification session
+     * ({@link #notificationsEnabled}), the parallel channels session ({@link #parallelChannels}) and the control session
+     * ({@link #controlSessionEnabled}). The device limits the number of concurrent SSH sessions, so these are limited not to lock
+     * the main session out. A feature, whose session is not available within the limit, falls back to the main session.
+     * Applied once the adapter is initialized.
+     */
+    private int maxAdditionalSessions = 2;
+
+    /**
+     * Whether per-command latency percentiles and the cost breakdown of the latest statistics poll should be reported
+     * as adapter metrics, see {@link CommandMetrics}
+     */
+    private boolean commandMetricsEnabled;
+
+    /**
+     * Per-command latency histograms and the cost breakdown of the latest statistics poll
+     */
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    /**
+     * Cost breakdown of the statistics poll in progress, null if there's none or {@link #commandMetricsEnabled} is not set.
+     * Guarded by {@link #pollLock}.
+     */
+    private CommandMetrics.PollCost pollCost;
+
+    /**
+     * Whether responses of the read commands, that rarely change, should be cached across the statistics polls, according to
+     * {@link #RESPONSE_CACHE_TTLS}. Cached responses are dropped once the matching control command is sent.
+     */
+    private boolean responseCacheEnabled;
+
+    /**
+     * Responses of {@link #RESPONSE_CACHE_TTLS} commands, used if {@link #responseCacheEnabled} is set
+     */
+    private final ResponseCache responseCache = new ResponseCache(RESPONSE_CACHE_TTLS, RESPONSE_CACHE_INVALIDATIONS);
+
+    /**
+     * Time budget of the statistics poll, in milliseconds. Once it has elapsed, {@link #getMultipleStatistics()} reports the
+     * latest statistics available, while the poll is completed in the background, so its results are reported by the next
+     * statistics request. 0 to wait for the poll to complete, however long it takes.
+     */
+    private long pollTimeBudget;
+
+    /**
+     * Statistics poll, that is in progress in the background, null if there's none.
+     * Only used if {@link #pollTimeBudget} is set.
+     */
+    private final AtomicReference<CompletableFuture<List<Statistics>>> pendingPoll = new AtomicReference<>();
+
+    /**
+     * Statistics poll, that has exceeded {@link #pollTimeBudget}, and is still in progress, null if there's none.
+     * Its failure is logged once it's complete.
+     */
+    private final AtomicReference<CompletableFuture<List<Statistics>>> overrunPoll = new AtomicReference<>();
+
+    /**
+     * Runs statistics polls, when {@link #pollTimeBudget} is set, created on demand
+     */
+    private ExecutorService pollExecutor;
+
+    /**
+     * Number of statistics requests, that have been answered before the statistics poll has completed
+     */
+    private final AtomicLong pollBudgetOverruns = new AtomicLong();
+
+    /**
+     * {@link SharedScheduler}, if {@link #sharedSchedulerEnabled} is set, null otherwise
+     */
+    private volatile ScheduledExecutorService sharedScheduler;
+
+    /**
+     * Runs the work, timed by {@link #sharedScheduler}, that talks to the device: coalesced control operations, control group
+     * refreshes and dialed call status checks. These may wait for the device up to the connection and read timeouts, so the
+     * shared threads are only used for timing. The thread is stopped once idle. Null if {@link #sharedSchedulerEnabled} is not set.
+     */
+    private volatile ExecutorService controlWorker;
+
+    /**
+     * Governor of the SSH sessions opened by the adapter: the shared one if {@link #sharedSchedulerEnabled} is set,
+     * otherwise an unlimited governor of the adapter
+     */
+    private volatile ConnectionGovernor connectionGovernor = new ConnectionGovernor(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * Governor of the SSH sessions opened by the adapter in addition to the main session, limited to {@link #maxAdditionalSessions}
+     * within {@link #connectionGovernor}
+     */
+    private volatile ConnectionGovernor additionalSessionGovernor = new ConnectionGovernor(maxAdditionalSessions, Integer.MAX_VALUE, connectionGovernor);
+
+    /**
+     * Whether the main channel session holds a session slot of {@link #connectionGovernor}
+     */
+    private final AtomicBoolean channelSessionAcquired = new AtomicBoolean();
+
+    /**
+     * Listener of device notifications, null if {@link #notificationsEnabled} is not set or the adapter is not initialized
+     */
+    private volatile NotificationListener notificationListener;
+
+    /**
+     * Whether control operations (controllable properties, mute, dial and hangup) should be sent over a dedicated SSH session,
+     * with its own pacing, so they do not wait for the statistics poll commands, sent over the main session.
+     */
+    private boolean controlSessionEnabled;
+
+    /**
+     * Dedicated session of the control operations, null if {@link #controlSessionEnabled} is not set or the adapter is not initialized
+     */
+    private volatile ControlChannel controlChannel;
+
+    /**
+     * Precompiled {@link #commandSuccessList}, {@link #commandErrorList}, {@link #loginSuccessList} and {@link #loginErrorList}
+     */
+    private TerminatorMatcher commandSuccessMatcher;
+    private TerminatorMatcher commandErrorMatcher;
+    private TerminatorMatcher loginSuccessMatcher;
+    private TerminatorMatcher loginErrorMatcher;
+
+    /**
+     * Serializes command I/O over the main channel, one command or batch of commands at a time, dispatching call control
+     * and control commands ahead of the pending statistics poll commands
+     */
+    private final CommandScheduler commandScheduler = new CommandScheduler();
+
+    /**
+     * Serializes statistics polls. Control operations do not wait for it, only for the command that is currently in progress.
+     */
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    /**
+     * Latest statistics, published by {@link #getMultipleStatistics()} and updated by control operations and device notifications
+     * through copy-on-write, so they are read and updated without waiting for the statistics poll that is in progress
+     */
+    private final AtomicReference<StatisticsSnapshot> statisticsSnapshot = new AtomicReference<>(new StatisticsSnapshot(null, null));
 
     /**
      * Retrieves {@link #commandsCooldownDelay}
@@ -183,6 +618,374 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      */
     public void setCommandsCooldownDelay(long commandsCooldownDelay) {
         this.commandsCooldownDelay = Math.max(200, commandsCooldownDelay);
+        commandPacer.setGapRange(minCommandsCooldownDelay, this.commandsCooldownDelay);
+    }
+
+    /**
+     * Retrieves {@link #minCommandsCooldownDelay}
+     *
+     * @return value of {@link #minCommandsCooldownDelay}
+     */
+    public long getMinCommandsCooldownDelay() {
+        return minCommandsCooldownDelay;
+    }
+
+    /**
+     * Sets {@link #minCommandsCooldownDelay} value. Must not be negative, or greater than {@link #commandsCooldownDelay}
+     *
+     * @param minCommandsCooldownDelay new value of {@link #minCommandsCooldownDelay}
+     */
+    public void setMinCommandsCooldownDelay(long minCommandsCooldownDelay) {
+        this.minCommandsCooldownDelay = Math.max(0, minCommandsCooldownDelay);
+        commandPacer.setGapRange(this.minCommandsCooldownDelay, commandsCooldownDelay);
+    }
+
+    /**
+     * Retrieves {@link #adaptiveCommandPacing}
+     *
+     * @return value of {@link #adaptiveCommandPacing}
+     */
+    public boolean isAdaptiveCommandPacing() {
+        return adaptiveCommandPacing;
+    }
+
+    /**
+     * Sets {@link #adaptiveCommandPacing} value
+     *
+     * @param adaptiveCommandPacing new value of {@link #adaptiveCommandPacing}
+     */
+    public void setAdaptiveCommandPacing(boolean adaptiveCommandPacing) {
+        this.adaptiveCommandPacing = adaptiveCommandPacing;
+        commandPacer.setAdaptive(adaptiveCommandPacing);
+    }
+
+    /**
+     * Retrieves {@link #commandBatchingEnabled}
+     *
+     * @return value of {@link #commandBatchingEnabled}
+     */
+    public boolean isCommandBatchingEnabled() {
+        return commandBatchingEnabled;
+    }
+
+    /**
+     * Sets {@link #commandBatchingEnabled} value
+     *
+     * @param commandBatchingEnabled new value of {@link #commandBatchingEnabled}
+     */
+    public void setCommandBatchingEnabled(boolean commandBatchingEnabled) {
+        this.commandBatchingEnabled = commandBatchingEnabled;
+    }
+
+    /**
+     * Retrieves {@link #staticPollingInterval}
+     *
+     * @return value of {@link #staticPollingInterval}
+     */
+    public long getStaticPollingInterval() {
+        return staticPollingInterval;
+    }
+
+    /**
+     * Sets {@link #staticPollingInterval} value
+     *
+     * @param staticPollingInterval new value of {@link #staticPollingInterval}
+     */
+    public void setStaticPollingInterval(long staticPollingInterval) {
+        this.staticPollingInterval = staticPollingInterval;
+        deviceInfoGroup.setInterval(staticPollingInterval);
+    }
+
+    /**
+     * Retrieves {@link #slowPollingInterval}
+     *
+     * @return value of {@link #slowPollingInterval}
+     */
+    public long getSlowPollingInterval() {
+        return slowPollingInterval;
+    }
+
+    /**
+     * Sets {@link #slowPollingInterval} value
+     *
+     * @param slowPollingInterval new value of {@link #slowPollingInterval}
+     */
+    public void setSlowPollingInterval(long slowPollingInterval) {
+        this.slowPollingInterval = slowPollingInterval;
+        systemStatusGroup.setInterval(slowPollingInterval);
+        registrationStatusGroup.setInterval(slowPollingInterval);
+    }
+
+    /**
+     * Retrieves {@link #fastPollingInterval}
+     *
+     * @return value of {@link #fastPollingInterval}
+     */
+    public long getFastPollingInterval() {
+        return fastPollingInterval;
+    }
+
+    /**
+     * Sets {@link #fastPollingInterval} value
+     *
+     * @param fastPollingInterval new value of {@link #fastPollingInterval}
+     */
+    public void setFastPollingInterval(long fastPollingInterval) {
+        this.fastPollingInterval = fastPollingInterval;
+        callStatisticsGroup.setInterval(fastPollingInterval);
+    }
+
+    /**
+     * Retrieves {@link #parallelChannels}
+     *
+     * @return value of {@link #parallelChannels}
+     */
+    public int getParallelChannels() {
+        return parallelChannels;
+    }
+
+    /**
+     * Sets {@link #parallelChannels} value
+     *
+     * @param parallelChannels new value of {@link #parallelChannels}
+     */
+    public void setParallelChannels(int parallelChannels) {
+        this.parallelChannels = Math.min(Math.max(1, parallelChannels), MAX_PARALLEL_CHANNELS);
+    }
+
+    /**
+     * Retrieves {@link #notificationsEnabled}
+     *
+     * @return value of {@link #notificationsEnabled}
+     */
+    public boolean isNotificationsEnabled() {
+        return notificationsEnabled;
+    }
+
+    /**
+     * Sets {@link #notificationsEnabled} value
+     *
+     * @param notificationsEnabled new value of {@link #notificationsEnabled}
+     */
+    public void setNotificationsEnabled(boolean notificationsEnabled) {
+        this.notificationsEnabled = notificationsEnabled;
+    }
+
+    /**
+     * Retrieves {@link #unknownStatusLinesEnabled}
+     *
+     * @return value of {@link #unknownStatusLinesEnabled}
+     */
+    public boolean isUnknownStatusLinesEnabled() {
+        return unknownStatusLinesEnabled;
+    }
+
+    /**
+     * Sets {@link #unknownStatusLinesEnabled} value
+     *
+     * @param unknownStatusLinesEnabled new value of {@link #unknownStatusLinesEnabled}
+     */
+    public void setUnknownStatusLinesEnabled(boolean unknownStatusLinesEnabled) {
+        this.unknownStatusLinesEnabled = unknownStatusLinesEnabled;
+    }
+
+    /**
+     * Retrieves {@link #controlCoalescingWindow}
+     *
+     * @return value of {@link #controlCoalescingWindow}
+     */
+    public long getControlCoalescingWindow() {
+        return controlCoalescingWindow;
+    }
+
+    /**
+     * Sets {@link #controlCoalescingWindow} value
+     *
+     * @param controlCoalescingWindow new value of {@link #controlCoalescingWindow}
+     */
+    public void setControlCoalescingWindow(long controlCoalescingWindow) {
+        this.controlCoalescingWindow = Math.max(0, controlCoalescingWindow);
+    }
+
+    /**
+     * Retrieves {@link #controlRefreshDelay}
+     *
+     * @return value of {@link #controlRefreshDelay}
+     */
+    public long getControlRefreshDelay() {
+        return controlRefreshDelay;
+    }
+
+    /**
+     * Sets {@link #controlRefreshDelay} value. Negative values are counted as 0
+     *
+     * @param controlRefreshDelay new value of {@link #controlRefreshDelay}
+     */
+    public void setControlRefreshDelay(long controlRefreshDelay) {
+        this.controlRefreshDelay = Math.max(0, controlRefreshDelay);
+    }
+
+    /**
+     * Retrieves {@link #dialTimeout}
+     *
+     * @return value of {@link #dialTimeout}
+     */
+    public long getDialTimeout() {
+        return dialTimeout;
+    }
+
+    /**
+     * Sets {@link #dialTimeout} value
+     *
+     * @param dialTimeout new value of {@link #dialTimeout}
+     */
+    public void setDialTimeout(long dialTimeout) {
+        this.dialTimeout = Math.max(0, dialTimeout);
+    }
+
+    /**
+     * Retrieves {@link #dialVerificationInterval}
+     *
+     * @return value of {@link #dialVerificationInterval}
+     */
+    public long getDialVerificationInterval() {
+        return dialVerificationInterval;
+    }
+
+    /**
+     * Sets {@link #dialVerificationInterval} value
+     *
+     * @param dialVerificationInterval new value of {@link #dialVerificationInterval}
+     */
+    public void setDialVerificationInterval(long dialVerificationInterval) {
+        this.dialVerificationInterval = Math.max(1, dialVerificationInterval);
+    }
+
+    /**
+     * Retrieves {@link #dialVerificationMaxInterval}
+     *
+     * @return value of {@link #dialVerificationMaxInterval}
+     */
+    public long getDialVerificationMaxInterval() {
+        return dialVerificationMaxInterval;
+    }
+
+    /**
+     * Sets {@link #dialVerificationMaxInterval} value
+     *
+     * @param dialVerificationMaxInterval new value of {@link #dialVerificationMaxInterval}
+     */
+    public void setDialVerificationMaxInterval(long dialVerificationMaxInterval) {
+        this.dialVerificationMaxInterval = Math.max(1, dialVerificationMaxInterval);
+    }
+
+    /**
+     * Retrieves {@link #sharedSchedulerEnabled}
+     *
+     * @return value of {@link #sharedSchedulerEnabled}
+     */
+    public boolean isSharedSchedulerEnabled() {
+        return sharedSchedulerEnabled;
+    }
+
+    /**
+     * Sets {@link #sharedSchedulerEnabled} value
+     *
+     * @param sharedSchedulerEnabled new value of {@link #sharedSchedulerEnabled}
+     */
+    public void setSharedSchedulerEnabled(boolean sharedSchedulerEnabled) {
+        this.sharedSchedulerEnabled = sharedSchedulerEnabled;
+    }
+
+    /**
+     * Retrieves {@link #maxAdditionalSessions}
+     *
+     * @return value of {@link #maxAdditionalSessions}
+     */
+    public int getMaxAdditionalSessions() {
+        return maxAdditionalSessions;
+    }
+
+    /**
+     * Sets {@link #maxAdditionalSessions} value
+     *
+     * @param maxAdditionalSessions new value of {@link #maxAdditionalSessions}
+     */
+    public void setMaxAdditionalSessions(int maxAdditionalSessions) {
+        this.maxAdditionalSessions = Math.max(1, maxAdditionalSessions);
+    }
+
+    /**
+     * Retrieves {@link #commandMetricsEnabled}
+     *
+     * @return value of {@link #commandMetricsEnabled}
+     */
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    /**
+     * Sets {@link #commandMetricsEnabled} value
+     *
+     * @param commandMetricsEnabled new value of {@link #commandMetricsEnabled}
+     */
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
+    /**
+     * Retrieves {@link #responseCacheEnabled}
+     *
+     * @return value of {@link #responseCacheEnabled}
+     */
+    public boolean isResponseCacheEnabled() {
+        return responseCacheEnabled;
+    }
+
+    /**
+     * Sets {@link #responseCacheEnabled} value
+     *
+     * @param responseCacheEnabled new value of {@link #responseCacheEnabled}
+     */
+    public void setResponseCacheEnabled(boolean responseCacheEnabled) {
+        this.responseCacheEnabled = responseCacheEnabled;
+        responseCache.clear();
+    }
+
+    /**
+     * Retrieves {@link #controlSessionEnabled}
+     *
+     * @return value of {@link #controlSessionEnabled}
+     */
+    public boolean isControlSessionEnabled() {
+        return controlSessionEnabled;
+    }
+
+    /**
+     * Sets {@link #controlSessionEnabled} value
+     *
+     * @param controlSessionEnabled new value of {@link #controlSessionEnabled}
+     */
+    public void setControlSessionEnabled(boolean controlSessionEnabled) {
+        this.controlSessionEnabled = controlSessionEnabled;
+    }
+
+    /**
+     * Retrieves {@link #pollTimeBudget}
+     *
+     * @return value of {@link #pollTimeBudget}
+     */
+    public long getPollTimeBudget() {
+        return pollTimeBudget;
+    }
+
+    /**
+     * Sets {@link #pollTimeBudget} value. Negative values are counted as 0
+     *
+     * @param pollTimeBudget new value of {@link #pollTimeBudget}
+     */
+    public void setPollTimeBudget(long pollTimeBudget) {
+        this.pollTimeBudget = Math.max(0, pollTimeBudget);
     }
 
     private static void cleanDisabledStats(ContentChannelStats stats) {
@@ -226,43 +1029,28 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     /**
      * {@inheritDoc}
      * <p>
-     * commandSuccessList and commandErrorList may contain an entry that has a wildcard. This Override method has been built to look for this wildcard
-     * character. If a wildcard is found, split the entry and verify all segments are found (the last segment should match the end of the response string).
+     * commandSuccessList and commandErrorList may contain an entry that has a wildcard. If a wildcard is found, all segments of the entry
+     * must be found (the last segment should match the end of the response string). The lists are precompiled into
+     * {@link TerminatorMatcher} instances, so the response is scanned once for all the entries.
+     * <p>
+     * Responses read from the device are checked incrementally by {@link #read(String, InputStream)}, this method checks a complete response.
      */
     @Override
     protected boolean doneReading(String command, String response) throws CommandFailureException {
-        for (String string : commandErrorList) {
-            if (string.contains(WILDCARD_TOKEN)) {
-                if (allSegmentsFound(response, string)) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
-                    }
-                    throw new CommandFailureException(host, command, response);
-                }
-
-            } else if (response.endsWith(string)) {
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
-                }
-                throw new CommandFailureException(host, command, response);
+        String string = commandErrorMatcher.match(response);
+        if (string != null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
             }
+            throw new CommandFailureException(host, command, response);
         }
 
-        for (String string : commandSuccessList) {
-            if (string.contains(WILDCARD_TOKEN)) {
-                if (allSegmentsFound(response, string)) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Done reading, found success string: " + string + " from: " + host + " port: " + port);
-                    }
-                    return true;
-                }
-
-            } else if (response.endsWith(string)) {
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Done reading, found success string: " + string + " from: " + host + " port: " + port);
-                }
-                return true;
+        string = commandSuccessMatcher.match(response);
+        if (string != null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Done reading, found success string: " + string + " from: " + host + " port: " + port);
             }
+            return true;
         }
         return false;
     }
@@ -270,68 +1058,172 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     /**
      * {@inheritDoc}
      * <p>
-     * loginSuccessList and loginErrorList may contain an entry that has a wildcard. This Override method has been built to look for this wildcard character. If
-     * a wildcard is found, split the entry and verify all segments are found (the last segment should match the end of the response string).
+     * End of the response is detected by a {@link ResponseFramer}, created for the command (or for the batch of commands, when
+     * {@link #inFlightBatch} is set), which consumes only the newly read characters on every read chunk, rather than rescanning
+     * the whole accumulated response.
      */
     @Override
-    protected boolean doneReadingAfterConnect(String response) throws FailedLoginException {
-        // loop through loginErrorList and see if any of the errors are seen during login.
-        for (String string : loginErrorList) {
-            if (string.contains(WILDCARD_TOKEN)) {
-
-                if (allSegmentsFound(response, string)) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
-                    }
-                    throw new FailedLoginException("Wildcard Login failed: " + response);
+    protected String read(String command, InputStream in) throws Exception {
+        long startTime = System.currentTimeMillis();
+        ResponseFramer framer = command == null ? new ResponseFramer(loginErrorMatcher, loginSuccessMatcher, null)
+                : new ResponseFramer(commandErrorMatcher, commandSuccessMatcher, inFlightBatch);
+        StringBuilder response = new StringBuilder();
+        byte[] buffer = new byte[getBufferLength()];
+        int position = 0;
+        CommandMetrics.PollCost cost = getPollCost();
+        while (true) {
+            int count = 0;
+            if (in.available() > 0) {
+                count = in.read(buffer, position, buffer.length - position);
+            }
+            if (count < 0) {
+                throw new Exception("Connection was forcible closed");
+            }
+            position += count;
+            boolean moreData = in.available() > 0;
+            if ((!moreData && position > 0) || position == buffer.length) {
+                response.append(new String(buffer, 0, position));
+                if (cost != null) {
+                    cost.onRead(position);
                 }
-            } else if (response.endsWith(string)) {
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
+                position = 0;
+                if (!moreData) {
+                    if (cost != null) {
+                        cost.onResponseCheck();
+                    }
+                    if (framer.append(response)) {
+                        if (framer.isTypeahead()) {
+                            batchTypeahead = true;
+                            throw new IOException("Batch of commands has been echoed ahead of the responses, responses cannot be split. Data read so far: " + response);
+                        }
+                        return completeResponse(command, response.toString(), framer);
+                    }
                 }
-                throw new FailedLoginException("Login failed: " + response);
+            }
+            if (!moreData) {
+                Thread.sleep(100);
+            }
+            if (System.currentTimeMillis() - startTime >= timeout) {
+                throw new IOException("The read operation timed out. Command sent was (null if logging in): " + command + " Data read so far: " + response);
             }
         }
+    }
 
-        // loop through loginSuccessList and see if any of the success messages are seen during login.
-        for (String string : loginSuccessList) {
-            if (string.contains(WILDCARD_TOKEN)) {
-                // all segments for an entry in the loginSuccessList has been found. Login success.
-                if (allSegmentsFound(response, string)) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Done reading, found success string: " + string + " from: " + host + " port: " + port);
-                    }
-                    return true;
-                }
-            } else if (response.endsWith(string)) {
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Done reading, found success string: " + string + " from: " + host + " port: " + port);
-                }
-                return true;
+    /**
+     * Process a response, that has been framed by a {@link ResponseFramer}
+     *
+     * @param command  command sent, null if logging in
+     * @param response complete response
+     * @param framer   framer instance, that has detected the end of the response
+     * @return response, if it has matched a success terminator, or any terminator for a batch of commands
+     * @throws CommandFailureException if the command response has matched an error terminator
+     * @throws FailedLoginException    if the login response has matched an error terminator
+     */
+    private String completeResponse(String command, String response, ResponseFramer framer) throws CommandFailureException, FailedLoginException {
+        String string = framer.getErrorTerminator();
+        if (string != null && inFlightBatch == null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
+            }
+            if (command == null) {
+                throw new FailedLoginException((string.indexOf(TerminatorMatcher.WILDCARD) >= 0 ? "Wildcard Login failed: " : "Login failed: ") + response);
             }
+            throw new CommandFailureException(host, command, response);
         }
-        return false;
+        if (logger.isTraceEnabled()) {
+            logger.trace("Done reading, found success string: " + (string == null ? framer.getSuccessTerminator() : string) + " from: " + host + " port: " + port);
+        }
+        return response;
     }
 
     /**
-     * Take the parameter string and split it by our WILDCARD_CHARACTER "*". Check that our response ends with the last item in the array [created via the
-     * split] then check if all other items in the array are also contained within the response parameter.
+     * Split combined output of a batched write into per-command responses, see {@link ResponseFramer}
+     *
+     * @param commands commands of the batch, in the order they were written
+     * @param response combined output of the batched write
+     * @return list of per-command responses, in the order of commands, or null if the output is not complete yet (or has
+     * been echoed ahead of the responses)
      */
-    private static boolean allSegmentsFound(String response, String string) {
-        String[] parseCommand = string.split(WILDCARD_CHARACTER);
-        int commandLength = parseCommand.length - 1;
-        String lastSegment = parseCommand[commandLength];
-        if (response.endsWith(lastSegment)) {
-            for (int i = 0; i < commandLength; i++) {
-                if (!response.contains(parseCommand[i])) {
-                    return false;
-                }
+    List<String> splitBatchResponse(List<String> commands, String response) {
+        ResponseFramer framer = new ResponseFramer(commandErrorMatcher, commandSuccessMatcher, commands);
+        if (!framer.append(response) || framer.isTypeahead()) {
+            return null;
+        }
+        return framer.getResponses(response);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * loginSuccessList and loginErrorList may contain an entry that has a wildcard. If a wildcard is found, all segments of the entry
+     * must be found (the last segment should match the end of the response string).
+     */
+    @Override
+    protected boolean doneReadingAfterConnect(String response) throws FailedLoginException {
+        // check whether any of the errors are seen during login.
+        String string = loginErrorMatcher.match(response);
+        if (string != null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Done reading, found error string: " + string + " from: " + host + " port: " + port);
+            }
+            throw new FailedLoginException((string.indexOf(TerminatorMatcher.WILDCARD) >= 0 ? "Wildcard Login failed: " : "Login failed: ") + response);
+        }
+
+        // check whether any of the success messages are seen during login.
+        string = loginSuccessMatcher.match(response);
+        if (string != null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Done reading, found success string: " + string + " from: " + host + " port: " + port);
             }
             return true;
         }
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The list is compiled into {@link #commandSuccessMatcher}
+     */
+    @Override
+    public void setCommandSuccessList(List<String> commandSuccessList) {
+        super.setCommandSuccessList(commandSuccessList);
+        commandSuccessMatcher = TerminatorMatcher.compile(commandSuccessList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The list is compiled into {@link #commandErrorMatcher}
+     */
+    @Override
+    public void setCommandErrorList(List<String> commandErrorList) {
+        super.setCommandErrorList(commandErrorList);
+        commandErrorMatcher = TerminatorMatcher.compile(commandErrorList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The list is compiled into {@link #loginSuccessMatcher}
+     */
+    @Override
+    public void setLoginSuccessList(List<String> loginSuccessList) {
+        super.setLoginSuccessList(loginSuccessList);
+        loginSuccessMatcher = TerminatorMatcher.compile(loginSuccessList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The list is compiled into {@link #loginErrorMatcher}
+     */
+    @Override
+    public void setLoginErrorList(List<String> loginErrorList) {
+        super.setLoginErrorList(loginErrorList);
+        loginErrorMatcher = TerminatorMatcher.compile(loginErrorList);
+    }
+
     /**
      * Our class must know the expected response in order to communicate properly with the Polycom Group Series. So whenever adding new commands its imported to
      * update this method with the expected responses.
@@ -376,22 +1268,114 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
         loginSuccessList.add("SNMP Enabled:*\r\r\n");
         setLoginSuccessList(loginSuccessList);
 
-        loginErrorList = new ArrayList<String>();
-        loginErrorList.add("password:");
-        setLoginErrorList(loginErrorList);
+        loginErrorList = new ArrayList<String>();
+        loginErrorList.add("password:");
+        setLoginErrorList(loginErrorList);
+    }
+
+    /**
+     * Polycom Group Series constructor
+     */
+    public PolycomGroupSeries() {
+        super();
+        intializeCommunicationLists();
+    }
+
+    @Override
+    protected void internalInit() throws Exception {
+        batchFailureCount = 0;
+        batchTypeahead = false;
+        parallelFailureCount = 0;
+        channelPoolClosed = false;
+        invalidatePollGroups();
+        if (sharedSchedulerEnabled) {
+            sharedScheduler = SharedScheduler.get();
+            controlWorker = createControlWorker();
+            connectionGovernor = ConnectionGovernor.getShared();
+        } else {
+            sharedScheduler = null;
+            controlWorker = null;
+            connectionGovernor = new ConnectionGovernor(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+        additionalSessionGovernor = new ConnectionGovernor(maxAdditionalSessions, Integer.MAX_VALUE, connectionGovernor);
+        super.internalInit();
+        controlCoalescer = new ControlCoalescer("PolycomGroupSeries controls " + host, sharedScheduler, this::runControlWork, this::sendControl);
+        controlRefresher = new ControlRefresher("PolycomGroupSeries refresh " + host, sharedScheduler, this::runControlWork, this::refreshControlGroup);
+        if (notificationsEnabled) {
+            notificationListener = new NotificationListener(additionalSessionGovernor, host, getPort(), getLogin(), getPassword(), getTimeout(),
+                    loginErrorMatcher, loginSuccessMatcher, this::applyNotifications);
+            notificationListener.start();
+        }
+        if (controlSessionEnabled) {
+            controlChannel = new ControlChannel(additionalSessionGovernor, host, getPort(), getLogin(), getPassword(), getTimeout(), loginErrorMatcher,
+                    loginSuccessMatcher, commandErrorMatcher, commandSuccessMatcher, minCommandsCooldownDelay, commandsCooldownDelay, adaptiveCommandPacing,
+                    CONTROL_SESSION_RETRY_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Drop all the cached polling groups, so they are refreshed during the next statistics poll
+     */
+    private void invalidatePollGroups() {
+        cameraCapabilities.clear();
+        cameraPosition.set(null);
+        cameraCapabilitiesKey = null;
+        deviceInfoGroup.invalidate();
+        systemStatusGroup.invalidate();
+        registrationStatusGroup.invalidate();
+        callStatisticsGroup.invalidate();
+        callStateGroup.invalidate();
+        responseCache.clear();
     }
 
     /**
-     * Polycom Group Series constructor
+     * {@inheritDoc}
+     * <p>
+     * The device may have been rebooted (e.g. upgraded) while the adapter was disconnected, so device information is
+     * collected again with the next statistics poll, and camera capabilities are validated against it.
+     * <p>
+     * The session takes a session slot and, while being established, a handshake slot of {@link #connectionGovernor}.
      */
-    public PolycomGroupSeries() {
-        super();
-        intializeCommunicationLists();
+    @Override
+    protected void createChannel() throws Exception {
+        ConnectionGovernor governor = connectionGovernor;
+        if (channelSessionAcquired.compareAndSet(false, true)) {
+            try {
+                governor.acquireSession(host, getTimeout());
+            } catch (Exception e) {
+                channelSessionAcquired.set(false);
+                throw e;
+            }
+        }
+        try {
+            governor.acquireHandshake(host, getTimeout());
+            try {
+                super.createChannel();
+            } finally {
+                governor.releaseHandshake();
+            }
+        } catch (Exception e) {
+            destroyChannel();
+            throw e;
+        }
+        deviceInfoGroup.invalidate();
+        responseCache.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The session slot of {@link #connectionGovernor}, taken by {@link #createChannel()}, is returned.
+     */
     @Override
-    protected void internalInit() throws Exception {
-        super.internalInit();
+    protected void destroyChannel() {
+        try {
+            super.destroyChannel();
+        } finally {
+            if (channelSessionAcquired.compareAndSet(true, false)) {
+                connectionGovernor.releaseSession();
+            }
+        }
     }
 
     @Override
@@ -399,6 +1383,39 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
         if (logger.isDebugEnabled()) {
             logger.debug("Internal destroy was issued for the adapter!");
         }
+        NotificationListener listener = notificationListener;
+        if (listener != null) {
+            notificationListener = null;
+            listener.stop();
+        }
+        ControlCoalescer coalescer = controlCoalescer;
+        if (coalescer != null) {
+            controlCoalescer = null;
+            coalescer.close();
+        }
+        ControlRefresher refresher = controlRefresher;
+        if (refresher != null) {
+            controlRefresher = null;
+            refresher.close();
+        }
+        closeDialScheduler();
+        ExecutorService worker = controlWorker;
+        if (worker != null) {
+            controlWorker = null;
+            worker.shutdownNow();
+        }
+        ControlChannel channel = controlChannel;
+        if (channel != null) {
+            controlChannel = null;
+            channel.close();
+        }
+        closePollExecutor();
+        // The poll lock is not taken, so the poll in progress is not waited for: its parallel commands fail once the pool is closed
+        channelPoolClosed = true;
+        ChannelPool pool = channelPool;
+        if (pool != null) {
+            pool.close();
+        }
         super.internalDestroy();
     }
 
@@ -422,433 +1439,582 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      */
     @Override
     public List<Statistics> getMultipleStatistics() throws Exception {
+        long budget = pollTimeBudget;
+        if (budget <= 0) {
+            return collectStatistics();
+        }
+        long deadline = System.currentTimeMillis() + budget;
+        CompletableFuture<List<Statistics>> poll = retrievePendingPoll();
+        try {
+            if (!statisticsSnapshot.get().isComplete()) {
+                // Nothing to report instead, so the very first poll is waited for
+                return poll.get();
+            }
+            return poll.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            pollBudgetOverruns.incrementAndGet();
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Statistics poll has exceeded %sms time budget, it is completed in the background", budget));
+            }
+            if (overrunPoll.getAndSet(poll) != poll) {
+                // Nobody waits for the poll anymore, so its failure is not reported otherwise
+                poll.whenComplete((statistics, error) -> {
+                    overrunPoll.compareAndSet(poll, null);
+                    if (error != null) {
+                        logger.warn("Statistics poll, completed in the background, has failed", error);
+                    }
+                });
+            }
+            return retrievePartialStatistics();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Retrieves {@link #pendingPoll}, starting a new statistics poll in the background if there's none in progress
+     *
+     * @return statistics poll in progress
+     */
+    private CompletableFuture<List<Statistics>> retrievePendingPoll() {
+        while (true) {
+            CompletableFuture<List<Statistics>> poll = pendingPoll.get();
+            if (poll != null) {
+                return poll;
+            }
+            CompletableFuture<List<Statistics>> started = new CompletableFuture<>();
+            if (pendingPoll.compareAndSet(null, started)) {
+                Runnable task = () -> {
+                    try {
+                        List<Statistics> statistics = collectStatistics();
+                        pendingPoll.compareAndSet(started, null);
+                        started.complete(statistics);
+                    } catch (Exception e) {
+                        pendingPoll.compareAndSet(started, null);
+                        started.completeExceptionally(e);
+                    }
+                };
+                try {
+                    getPollExecutor().execute(task);
+                } catch (RejectedExecutionException e) {
+                    // The adapter is being destroyed
+                    task.run();
+                }
+                return started;
+            }
+        }
+    }
+
+    /**
+     * Create statistics to report while the statistics poll is still in progress: the latest published statistics, with the
+     * polling groups, that have been refreshed by the poll so far, taken from the cache. Call statistics are collected first
+     * thing during the poll, so these are normally up-to-date.
+     *
+     * @return list of endpoint statistics, followed by extended statistics
+     */
+    private List<Statistics> retrievePartialStatistics() {
+        Map<String, String> statistics = new HashMap<>();
+        Map<String, String> deviceInfo = deviceInfoGroup.getValue();
+        if (deviceInfo != null) {
+            statistics.putAll(deviceInfo);
+        }
+        Map<String, String> systemStatus = systemStatusGroup.getValue();
+        if (systemStatus != null) {
+            statistics.putAll(systemStatus);
+        }
+        populatePacingData(statistics);
+        populatePollingData(statistics);
+        return statisticsSnapshot.get().withStatistics(statistics, registrationStatusGroup.getValue())
+                .withCallStatistics(callStatisticsGroup.getValue()).toStatistics();
+    }
+
+    /**
+     * Retrieves {@link #pollExecutor}, creating it if necessary
+     *
+     * @return executor of the statistics polls
+     */
+    private synchronized ExecutorService getPollExecutor() {
+        if (pollExecutor == null) {
+            pollExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "PolycomGroupSeries poll " + host);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return pollExecutor;
+    }
+
+    /**
+     * Stop {@link #pollExecutor}. The statistics poll in progress, if any, is completed first.
+     */
+    private synchronized void closePollExecutor() {
+        if (pollExecutor != null) {
+            pollExecutor.shutdown();
+            pollExecutor = null;
+        }
+    }
+
+    /**
+     * Collect statistics from the device, and publish them as {@link #statisticsSnapshot}
+     *
+     * @return list of endpoint statistics, followed by extended statistics
+     * @throws Exception if any error occurs
+     */
+    private List<Statistics> collectStatistics() throws Exception {
         final EndpointStatistics blankEndpointStatistics = new EndpointStatistics();
         EndpointStatistics endpointStatistics = new EndpointStatistics();
         ExtendedStatistics extendedStatistics = new ExtendedStatistics();
         Map<String, String> extendedStatisticsData = new HashMap<>();
         List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
 
-        commandOperationLock.lock();
+        CommandMetrics.PollCost cost = commandMetricsEnabled ? new CommandMetrics.PollCost() : null;
+        long lockTimestamp = System.nanoTime();
+        pollLock.lock();
         try {
-            if (isValidControlCoolDown() && localStatistics != null && localEndpointStatistics != null) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Device is occupied. Skipping statistics refresh call.");
+            if (cost != null) {
+                cost.onLockWait(System.nanoTime() - lockTimestamp);
+            }
+            pollCost = cost;
+            long now = System.currentTimeMillis();
+            // Call state and in-call statistics are collected first, so they are the freshest part of the statistics,
+            // while slow-changing groups are filled in afterwards, or taken from cache
+            List<String> callPollCommands = retrieveCallPollCommands(now);
+            if (!sendParallel(callPollCommands, CALL_POLL_COMMAND_GROUPS)) {
+                sendBatch(callPollCommands);
+            }
+            String[] activeCallStatus = retrieveRawCallStatistics();
+            callStateGroup.update(activeCallStatus != null, System.currentTimeMillis());
+            EndpointStatistics callData = null;
+            if (activeCallStatus == null) {
+                EndpointStatistics previousEndpointStatistics = statisticsSnapshot.get().getEndpointStatistics();
+                if (previousEndpointStatistics != null && previousEndpointStatistics.isInCall()) {
+                    // Call counters, reported by whoami, have changed
+                    deviceInfoGroup.invalidate();
+                }
+                callStatisticsGroup.invalidate();
+            } else {
+                CallStats callStats = parseCallIdAndRemoteAddress(activeCallStatus);
+                callStats.setRequestedCallRate(convertToInteger(activeCallStatus[4]));
+
+                callData = callStatisticsGroup.getIfFresh(now);
+                if (callData == null || !Objects.equals(callData.getCallStats().getCallId(), callStats.getCallId())) {
+                    callData = retrieveCallData(callStats);
+                    if (callData == null) {
+                        callStatisticsGroup.invalidate();
+                        statisticsSnapshot.updateAndGet(previous -> previous.withEndpointStatistics(blankEndpointStatistics));
+                        return singletonList(blankEndpointStatistics);
+                    }
+                    callStatisticsGroup.update(callData, System.currentTimeMillis());
                 }
-                extendedStatistics.setStatistics(localStatistics.getStatistics());
-                extendedStatistics.setControllableProperties(localStatistics.getControllableProperties());
-
-                endpointStatistics.setInCall(localEndpointStatistics.isInCall());
-                endpointStatistics.setCallStats(localEndpointStatistics.getCallStats());
-                endpointStatistics.setVideoChannelStats(localEndpointStatistics.getVideoChannelStats());
-                endpointStatistics.setAudioChannelStats(localEndpointStatistics.getAudioChannelStats());
-
-                return Arrays.asList(extendedStatistics, endpointStatistics);
             }
 
-            String deviceStatus = retrieveStatus();
-
-            extractDeviceStatus(extendedStatisticsData, deviceStatus);
-            populateDeviceData(extendedStatisticsData, advancedControllableProperties);
+            List<String> pollCommands = removeCachedCommands(retrievePollCommands(now), now);
+            if (!sendParallel(pollCommands, POLL_COMMAND_GROUPS)) {
+                sendBatch(pollCommands);
+            }
+            // Groups may be invalidated by a control operation at any time, so the cached values are read once
+            Map<String, String> systemStatus = systemStatusGroup.getIfFresh(now);
+            RegistrationStatus registrationStats = registrationStatusGroup.getIfFresh(now);
+            if (systemStatus == null || registrationStats == null) {
+                String deviceStatus = retrieveStatus();
+                Map<String, String> statusLines = STATUS_PARSER.parse(deviceStatus);
+                systemStatus = new HashMap<>();
+                extractDeviceStatus(systemStatus, statusLines);
+                // Add code to return registration status
+                registrationStats = extractRegistrationStatus(deviceStatus, statusLines);
+                long timestamp = System.currentTimeMillis();
+                systemStatusGroup.update(systemStatus, timestamp);
+                registrationStatusGroup.update(registrationStats, timestamp);
+            }
+            extendedStatisticsData.putAll(systemStatus);
+            populateDeviceData(extendedStatisticsData, advancedControllableProperties, now);
 
             populateAudioData(extendedStatisticsData, advancedControllableProperties);
+            populatePacingData(extendedStatisticsData);
 
             extendedStatistics.setStatistics(extendedStatisticsData);
             extendedStatistics.setControllableProperties(advancedControllableProperties);
 
-            CallStats callStats = null;
-
-            // Add code to return registration status
-            RegistrationStatus registrationStats = extractRegistrationStatus(deviceStatus);
             endpointStatistics.setRegistrationStatus(registrationStats);
 
-            String[] activeCallStatus = retrieveRawCallStatistics();
-            if (null == activeCallStatus) {
+            if (callData == null) {
+                populatePollingData(extendedStatisticsData);
                 endpointStatistics.setInCall(false);
-                localEndpointStatistics = endpointStatistics;
-                localStatistics = extendedStatistics;
-                return Arrays.asList(endpointStatistics, extendedStatistics);
+                return publishStatistics(extendedStatistics, endpointStatistics, now).toStatistics();
             }
 
             endpointStatistics.setInCall(true);
-            populateCameraData(extendedStatisticsData, advancedControllableProperties);
-            callStats = parseCallIdAndRemoteAddress(activeCallStatus);
-            callStats.setRequestedCallRate(convertToInteger(activeCallStatus[4]));
-
-            AudioChannelStats audioChannelStats = new AudioChannelStats();
-            VideoChannelStats videoChannelStats = new VideoChannelStats();
-            ContentChannelStats contentChannelStats = new ContentChannelStats();
-
-            audioChannelStats.setMuteTx(send(GET_MUTE_STATUS).contains(MUTE_STATUS));
-
-            String networkStats = send(GET_NETWORK_STATS);
-            if (networkStats != null && networkStats.length() > 0) {
-                // StringTokenizer will create an "array" that is split on the Space character and End Of Line characters.
-                // We can loop through the array via "hasMoreTokens". If the entry contains a ":" character, it contains data
-                StringTokenizer networkTokenizer = new StringTokenizer(networkStats);
-                while (networkTokenizer.hasMoreTokens()) {
-                    String networkToken = networkTokenizer.nextToken();
-
-                    if (networkToken.contains(TOKEN_SEPERATOR)) {
-                        String[] tokenItems = networkToken.split(TOKEN_SEPERATOR);
-                        if (tokenItems.length > 1) { // check if we have key and value
-                            String tokenKey = tokenItems[0];
-                            String tokenValue = tokenItems[1];
-
-                            switch (tokenKey) {
-                                case VIDEO_CODEC_CODE:
-                                    videoChannelStats.setCodec(tokenValue);
-                                    break;
-
-                                case AUDIO_CODEC_CODE:
-                                    audioChannelStats.setCodec(tokenValue);
-                                    break;
-
-                                case CONTENT_RX_CODEC_CODE:
-                                    contentChannelStats.setCodec(tokenValue);
-                                    break;
-
-                                case PROTOCOL_CODE:
-                                    callStats.setProtocol(tokenValue);
-                                    break;
-
-                                case PERCENT_TX_PACKETLOSS_CODE:
-                                    callStats.setPercentPacketLossTx(convertToFloat(tokenValue));
-                                    break;
-
-                                case TOTAL_TX_PACKETLOSS_CODE:
-                                    callStats.setTotalPacketLossTx(convertToInteger(tokenValue));
-                                    break;
-
-                                case VIDEO_RX_FRAME_SIZE_CODE:
-                                    if (tokenValue.contains(X_CHARACTER)) {
-                                        videoChannelStats.setFrameSizeRx(tokenValue.replace(LOWER_CASE_P, ""));
-                                    } else {
-                                        videoChannelStats.setFrameSizeRx(tokenValue);
-                                    }
-                                    break;
-
-                                case VIDEO_TX_FRAME_SIZE_CODE:
-                                    if (tokenValue.contains(X_CHARACTER)) {
-                                        videoChannelStats.setFrameSizeTx(tokenValue.replace(LOWER_CASE_P, ""));
-                                    } else {
-                                        videoChannelStats.setFrameSizeTx(tokenValue);
-                                    }
-                                    break;
-
-                                default:
-                                    break;
-                            }
-                        }
-                    }
-                }
-                if (Objects.equals(videoChannelStats.getCodec(), NULL_STATISTIC)
-                        && Objects.equals(audioChannelStats.getCodec(), NULL_STATISTIC)
-                        && Objects.equals(callStats.getProtocol(), NULL_STATISTIC)
-                        && callStats.getPercentPacketLossTx() == null
-                        && Objects.equals(videoChannelStats.getFrameSizeRx(), NULL_STATISTIC)
-                        && Objects.equals(videoChannelStats.getFrameSizeTx(), NULL_STATISTIC)) {
-                    localEndpointStatistics = blankEndpointStatistics;
-                    return singletonList(blankEndpointStatistics);
-                }
-            } else {
-                localEndpointStatistics = blankEndpointStatistics;
-                return singletonList(blankEndpointStatistics);
-            }
-
-            String advancedStats = send(GET_ADVANCED_STATS);
-            if (advancedStats != null && advancedStats.length() > 0) {
-                // Some stats are used twice, set to local variable
-                Integer audioTxRate = null;
-                Integer audioRxRate = null;
-                Integer videoTxRate = null;
-                Integer videoRxRate = null;
-                Integer contentTxRate = null;
-                Integer contentRxRate = null;
-
-                // StringTokenizer will create an "array" that is split on the Space character and End Of Line characters.
-                // We can loop through the array via "hasMoreTokens". If the entry contains a ":" character, it contains data
-                StringTokenizer stringTokenizer = new StringTokenizer(advancedStats);
-
-                while (stringTokenizer.hasMoreTokens()) {
-                    String token = stringTokenizer.nextToken();
-
-                    if (token.contains(TOKEN_SEPERATOR)) {
-                        String[] reportedStats = token.split(TOKEN_SEPERATOR);
-                        if (reportedStats.length > 1) {
-                            // check if we have key and value
-                            String reportedKey = reportedStats[0];
-                            String reportedValue = reportedStats[1];
-
-                            switch (reportedKey) {
-                                case AUDIO_TX_RATE_CODE:
-                                    audioTxRate = convertToInteger(reportedValue);
-                                    break;
-
-                                case AUDIO_RX_RATE_CODE:
-                                    audioRxRate = convertToInteger(reportedValue);
-                                    break;
-
-                                case VIDEO_RX_RATE_CODE:
-                                    videoRxRate = convertToInteger(reportedValue);
-                                    break;
-
-                                case VIDEO_TX_RATE_CODE:
-                                    videoTxRate = convertToInteger(reportedValue);
-                                    break;
-
-                                case CONTENT_RX_RATE_CODE:
-                                    contentRxRate = convertToInteger(reportedValue);
-                                    break;
-
-                                case CONTENT_TX_RATE_CODE:
-                                    contentTxRate = convertToInteger(reportedValue);
-                                    break;
-
-                                case AUDIO_TX_JITER_CODE:
-                                    audioChannelStats.setJitterTx(convertToFloat(reportedValue));
-                                    break;
-
-                                case AUDIO_RX_JITTER_CODE:
-                                    audioChannelStats.setJitterRx(convertToFloat(reportedValue));
-                                    break;
-
-                                case AUDIO_TX_PACKETLOSS_CODE:
-                                    audioChannelStats.setPacketLossTx(convertToInteger(reportedValue));
-                                    break;
-
-                                case AUDIO_RX_PACKETLOSS_CODE:
-                                    audioChannelStats.setPacketLossRx(convertToInteger(reportedValue));
-                                    break;
-
-                                case VIDEO_TX_JITTER_CODE:
-                                    videoChannelStats.setJitterTx(convertToFloat(reportedValue));
-                                    break;
-
-                                case VIDEO_RX_JITTER_CODE:
-                                    videoChannelStats.setJitterRx(convertToFloat(reportedValue));
-                                    break;
-
-                                case VIDEO_TX_PACKETLOSS_CODE:
-                                    videoChannelStats.setPacketLossTx(convertToInteger(reportedValue));
-                                    break;
-
-                                case VIDEO_RX_PACKETLOSS_CODE:
-                                    videoChannelStats.setPacketLossRx(convertToInteger(reportedValue));
-                                    break;
-
-                                case VIDEO_TX_BITRATE_CODE:
-                                    videoChannelStats.setBitRateTx(convertToInteger(reportedValue));
-                                    break;
-
-                                case VIDEO_RX_BITRATE_CODE:
-                                    videoChannelStats.setBitRateRx(convertToInteger(reportedValue));
-                                    break;
-
-                                case VIDEO_TX_FRAMERATE_CODE:
-                                    videoChannelStats.setFrameRateTx(convertToFloat(reportedValue));
-                                    break;
-
-                                case VIDEO_RX_FRAMERATE_CODE:
-                                    videoChannelStats.setFrameRateRx(convertToFloat(reportedValue));
-                                    break;
-
-                                case CONTENT_TX_PACKETLOSS_CODE:
-                                    contentChannelStats.setPacketLossTx(convertToInteger(reportedValue));
-                                    break;
-
-                                case CONTENT_RX_PACKETLOSS_CODE:
-                                    contentChannelStats.setPacketLossRx(convertToInteger(reportedValue));
-                                    break;
-
-                                case CONTENT_TX_RATE_USED_CODE:
-                                    contentChannelStats.setBitRateTx(convertToInteger(reportedValue));
-                                    break;
-
-                                case CONTENT_RX_RATE_USED_CODE:
-                                    contentChannelStats.setBitRateRx(convertToInteger(reportedValue));
-                                    break;
-
-                                case CONTENT_TX_FRAMERATE_CODE:
-                                    contentChannelStats.setFrameRateTx(convertToFloat(reportedValue));
-                                    break;
-
-                                case CONTENT_RX_FRAMERATE_CODE:
-                                    contentChannelStats.setFrameRateRx(convertToFloat(reportedValue));
-                                    break;
-
-                                default:
-                                    break;
-                            }
-                        }
-                    }
-                }
+            List<String> inCallPollCommands = removeCachedCommands(retrieveInCallPollCommands(), now);
+            if (!sendParallel(inCallPollCommands, IN_CALL_POLL_COMMAND_GROUPS)) {
+                sendBatch(inCallPollCommands);
+            }
+            populateCameraData(extendedStatisticsData, advancedControllableProperties, now);
 
-                if (videoChannelStats.getBitRateRx() == null
-                        && videoChannelStats.getBitRateTx() == null
-                        && videoChannelStats.getJitterTx() == null
-                        && videoChannelStats.getPacketLossRx() == null
-                        && videoChannelStats.getPacketLossTx() == null
-                        && videoChannelStats.getFrameRateRx() == null
-                        && videoChannelStats.getFrameRateTx() == null
-                        && videoChannelStats.getJitterRx() == null
-                        && audioChannelStats.getBitRateTx() == null
-                        && audioChannelStats.getBitRateRx() == null
-                        && audioChannelStats.getJitterRx() == null
-                        && audioChannelStats.getJitterTx() == null
-                        && audioChannelStats.getPacketLossRx() == null
-                        && audioChannelStats.getPacketLossTx() == null
-                        && contentChannelStats.getBitRateRx() == null
-                        && contentChannelStats.getBitRateTx() == null
-                        && contentChannelStats.getPacketLossRx() == null
-                        && contentChannelStats.getPacketLossTx() == null
-                        && contentChannelStats.getFrameRateRx() == null
-                        && contentChannelStats.getFrameRateTx() == null) {
-                    localEndpointStatistics = blankEndpointStatistics;
-                    return singletonList(blankEndpointStatistics);
-                }
+            // Audio channel stats are shared with the cached call data (and snapshots published before), so mute state is set on a copy
+            AudioChannelStats audioChannelStats = StatisticsSnapshot.copy(callData.getAudioChannelStats());
+            audioChannelStats.setMuteTx(Objects.equals(retrieveMuteStatus(), MuteStatus.Muted));
+            endpointStatistics.setCallStats(callData.getCallStats());
+            endpointStatistics.setAudioChannelStats(audioChannelStats);
+            endpointStatistics.setVideoChannelStats(callData.getVideoChannelStats());
+            endpointStatistics.setContentChannelStats(callData.getContentChannelStats());
+            populatePollingData(extendedStatisticsData);
 
-                // calculate transmit rate (one of the variables may be null)
-                callStats.setCallRateTx(
-                        Optional.ofNullable(videoTxRate).orElse(0)
-                                + Optional.ofNullable(audioTxRate).orElse(0)
-                                + Optional.ofNullable(contentTxRate).orElse(0));
+            return publishStatistics(extendedStatistics, endpointStatistics, now).toStatistics();
+        } finally {
+            if (cost != null) {
+                pollCost = null;
+                commandMetrics.setLastPollCost(cost.complete());
+            }
+            clearBatchedResponses();
+            pollLock.unlock();
+        }
+    }
 
-                // calculate receive rate (one of the variables may be null)
-                callStats.setCallRateRx(
-                        Optional.ofNullable(videoRxRate).orElse(0)
-                                + Optional.ofNullable(audioRxRate).orElse(0)
-                                + Optional.ofNullable(contentRxRate).orElse(0));
+    /**
+     * Publish statistics, collected by the statistics poll, as {@link #statisticsSnapshot}. Controllable properties that have
+     * been changed by control operations (or notifications) while the poll was in progress keep the values they have been set to,
+     * since the poll may have collected them before the change. Same goes for the groups of controllable properties, that have
+     * been changed by control operations and have not been refreshed by {@link #controlRefresher} yet.
+     *
+     * @param extendedStatistics extended statistics, collected by the poll
+     * @param endpointStatistics endpoint statistics, collected by the poll
+     * @param pollTimestamp      timestamp of the statistics poll start
+     * @return published snapshot
+     */
+    private StatisticsSnapshot publishStatistics(ExtendedStatistics extendedStatistics, EndpointStatistics endpointStatistics, long pollTimestamp) {
+        StatisticsSnapshot collected = new StatisticsSnapshot(extendedStatistics, endpointStatistics);
+        Set<String> dirtyControls = new HashSet<>();
+        ControlRefresher refresher = controlRefresher;
+        if (refresher != null) {
+            if (refresher.isDirty(CONTROL_GROUP_AUDIO)) {
+                dirtyControls.addAll(AUDIO_CONTROLS);
+            }
+            if (refresher.isDirty(CONTROL_GROUP_CAMERA)) {
+                dirtyControls.addAll(CAMERA_CONTROLS);
+            }
+        }
+        return statisticsSnapshot.updateAndGet(previous -> collected.withControlsChangedSince(previous, pollTimestamp).withControls(previous, dirtyControls));
+    }
 
-                audioChannelStats.setBitRateRx(audioRxRate);
-                audioChannelStats.setBitRateTx(audioTxRate);
+    /**
+     * Read the group of controllable properties from the device, and apply the values to {@link #statisticsSnapshot}.
+     * Called by {@link #controlRefresher} once the burst of control operations on the group has ended. Camera group is refreshed
+     * only if the device is in a call, as the statistics poll collects it in a call only.
+     *
+     * @param group {@link #CONTROL_GROUP_AUDIO} or {@link #CONTROL_GROUP_CAMERA}
+     * @param since timestamp of the refresh start
+     * @throws Exception if any error occurs
+     */
+    private void refreshControlGroup(String group, long since) throws Exception {
+        Map<String, String> statistics = new HashMap<>();
+        List<AdvancedControllableProperty> controls = new ArrayList<>();
+        if (CONTROL_GROUP_AUDIO.equals(group)) {
+            populateAudioData(statistics, controls);
+        } else if (CONTROL_GROUP_CAMERA.equals(group)) {
+            EndpointStatistics endpointStatistics = statisticsSnapshot.get().getEndpointStatistics();
+            if (endpointStatistics == null || !endpointStatistics.isInCall()) {
+                // Camera settings are collected in a call only, so there is nothing to refresh
+                return;
+            }
+            populateCameraData(statistics, controls, since);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("%s controls are refreshed after control operations: %s", group, controls.size()));
+        }
+        Date timestamp = new Date();
+        statisticsSnapshot.updateAndGet(snapshot -> snapshot.withControlsRefreshed(controls, since, timestamp));
+    }
 
-                videoChannelStats.setBitRateRx(videoRxRate);
-                videoChannelStats.setBitRateTx(videoTxRate);
+    /**
+     * Mark the group of the controllable property as changed, so it's read from the device again once the burst of control
+     * operations on it has ended
+     *
+     * @param property name of the controllable property
+     */
+    private void markControlGroupDirty(String property) {
+        ControlRefresher refresher = controlRefresher;
+        if (refresher == null) {
+            return;
+        }
+        String group = AUDIO_CONTROLS.contains(property) ? CONTROL_GROUP_AUDIO : CAMERA_CONTROLS.contains(property) ? CONTROL_GROUP_CAMERA : null;
+        if (group != null) {
+            refresher.markDirty(group, controlRefreshDelay + controlCoalescingWindow);
+        }
+    }
 
-                contentChannelStats.setBitRateRx(contentRxRate);
-                contentChannelStats.setBitRateTx(contentTxRate);
-            }
-            endpointStatistics.setCallStats(callStats);
-            endpointStatistics.setAudioChannelStats(audioChannelStats);
-            // check video statistics if it is audio only call then we are not adding video statistics to the statistics
-            // below is example of statistics in audion only call: codec bitraterx bitratetx jitterrx jittertx packetlossrx
-            // packetlosstx frameraterx frameratetx framesizerx framesizetx videomutetx --- 0 0 0 0 0 0 0 0 --- ---
-            if (isNotEmpty(videoChannelStats)) {
-                endpointStatistics.setVideoChannelStats(videoChannelStats);
+    /**
+     * Collect in-call statistics, based on {@link #GET_NETWORK_STATS} and {@link #GET_ADVANCED_STATS} commands results
+     *
+     * @param callStats call details, retrieved from {@link #GET_CALL_STATE} command result
+     * @return {@link EndpointStatistics} with call and channels statistics populated, or null if the device has reported
+     * no statistics for the call
+     * @throws Exception if any error occurs
+     */
+    private EndpointStatistics retrieveCallData(CallStats callStats) throws Exception {
+        EndpointStatistics callData = new EndpointStatistics();
+        AudioChannelStats audioChannelStats = new AudioChannelStats();
+        VideoChannelStats videoChannelStats = new VideoChannelStats();
+        ContentChannelStats contentChannelStats = new ContentChannelStats();
+
+        CallStatisticsParser parser = new CallStatisticsParser(callStats, audioChannelStats, videoChannelStats, contentChannelStats);
+
+        String networkStats = send(GET_NETWORK_STATS);
+        if (networkStats != null && networkStats.length() > 0) {
+            parser.parseNetworkStats(networkStats);
+            if (Objects.equals(videoChannelStats.getCodec(), NULL_STATISTIC)
+                    && Objects.equals(audioChannelStats.getCodec(), NULL_STATISTIC)
+                    && Objects.equals(callStats.getProtocol(), NULL_STATISTIC)
+                    && callStats.getPercentPacketLossTx() == null
+                    && Objects.equals(videoChannelStats.getFrameSizeRx(), NULL_STATISTIC)
+                    && Objects.equals(videoChannelStats.getFrameSizeTx(), NULL_STATISTIC)) {
+                return null;
             }
+        } else {
+            return null;
+        }
 
-            //check no content sharing
-            if (isNotEmpty(contentChannelStats)) {
-                cleanDisabledStats(contentChannelStats);
-                endpointStatistics.setContentChannelStats(contentChannelStats);
+        String advancedStats = send(GET_ADVANCED_STATS);
+        if (advancedStats != null && advancedStats.length() > 0) {
+            parser.parseAdvancedStats(advancedStats);
+
+            if (videoChannelStats.getBitRateRx() == null
+                    && videoChannelStats.getBitRateTx() == null
+                    && videoChannelStats.getJitterTx() == null
+                    && videoChannelStats.getPacketLossRx() == null
+                    && videoChannelStats.getPacketLossTx() == null
+                    && videoChannelStats.getFrameRateRx() == null
+                    && videoChannelStats.getFrameRateTx() == null
+                    && videoChannelStats.getJitterRx() == null
+                    && audioChannelStats.getBitRateTx() == null
+                    && audioChannelStats.getBitRateRx() == null
+                    && audioChannelStats.getJitterRx() == null
+                    && audioChannelStats.getJitterTx() == null
+                    && audioChannelStats.getPacketLossRx() == null
+                    && audioChannelStats.getPacketLossTx() == null
+                    && contentChannelStats.getBitRateRx() == null
+                    && contentChannelStats.getBitRateTx() == null
+                    && contentChannelStats.getPacketLossRx() == null
+                    && contentChannelStats.getPacketLossTx() == null
+                    && contentChannelStats.getFrameRateRx() == null
+                    && contentChannelStats.getFrameRateTx() == null) {
+                return null;
             }
 
-            localStatistics = extendedStatistics;
-            localEndpointStatistics = endpointStatistics;
-        } finally {
-            commandOperationLock.unlock();
+            // unreported rates are counted as 0
+            callStats.setCallRateTx(parser.getCallRateTx());
+            callStats.setCallRateRx(parser.getCallRateRx());
+
+            audioChannelStats.setBitRateRx(parser.getAudioRxRate());
+            audioChannelStats.setBitRateTx(parser.getAudioTxRate());
+
+            videoChannelStats.setBitRateRx(parser.getVideoRxRate());
+            videoChannelStats.setBitRateTx(parser.getVideoTxRate());
+
+            contentChannelStats.setBitRateRx(parser.getContentRxRate());
+            contentChannelStats.setBitRateTx(parser.getContentTxRate());
+        }
+        callData.setCallStats(callStats);
+        callData.setAudioChannelStats(audioChannelStats);
+        // check video statistics if it is audio only call then we are not adding video statistics to the statistics
+        // below is example of statistics in audion only call: codec bitraterx bitratetx jitterrx jittertx packetlossrx
+        // packetlosstx frameraterx frameratetx framesizerx framesizetx videomutetx --- 0 0 0 0 0 0 0 0 --- ---
+        if (isNotEmpty(videoChannelStats)) {
+            callData.setVideoChannelStats(videoChannelStats);
         }
 
-        return Arrays.asList(endpointStatistics, extendedStatistics);
+        //check no content sharing
+        if (isNotEmpty(contentChannelStats)) {
+            cleanDisabledStats(contentChannelStats);
+            callData.setContentChannelStats(contentChannelStats);
+        }
+        return callData;
     }
 
-    private void populateCameraData(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) throws Exception {
-        String invertNear = retrieveDeviceStats(String.format(CAMERA_INVERT_NEAR, GET));
-        if (validateCameraProperty(invertNear)) {
+    private void populateCameraData(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties, long pollTimestamp)
+            throws Exception {
+        refreshCameraCapabilitiesKey();
+        String invertNear = retrieveCameraProperty(String.format(CAMERA_INVERT_NEAR, GET));
+        if (invertNear != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_INVERT,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(invertNear, "get\r\ncamerainvert near ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_INVERT, "");
         }
-        String nearTracking = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING, GET));
-        if (validateCameraProperty(nearTracking)) {
+        String nearTracking = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING, GET));
+        if (nearTracking != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_TRACKING,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(nearTracking, "get\r\ncamera near tracking ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_TRACKING, "");
         }
-        String trackingCalibrate = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_CALIBRATE, GET));
-        if (validateCameraProperty(trackingCalibrate)) {
+        String trackingCalibrate = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_CALIBRATE, GET));
+        if (trackingCalibrate != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_TRACKING_CALIBRATE,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(trackingCalibrate, "get\r\ncameratracking near calibrate ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_TRACKING_CALIBRATE, "");
         }
-        String trackingFraming = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_FRAMING, GET));
-        if (validateCameraProperty(trackingCalibrate)) {
+        String trackingFraming = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_FRAMING, GET));
+        if (trackingFraming != null) {
             advancedControllableProperties.add(createDropdown(CAMERA_LABEL_TRACKING_FRAMING, Arrays.asList("wide", "medium", "tight"),
                     StringUtils.getDataBetween(trackingFraming, "get\r\ncameratracking near framing ", LINE_BREAKER)));
             statistics.put(CAMERA_LABEL_TRACKING_FRAMING, "");
         }
-        String trackingMode = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_MODE, GET));
-        if (validateCameraProperty(trackingMode)) {
+        String trackingMode = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_MODE, GET));
+        if (trackingMode != null) {
             advancedControllableProperties.add(createDropdown(CAMERA_LABEL_TRACKING_MODE, Arrays.asList("off", "group", "speaker", "groupwithtransition"),
                     StringUtils.getDataBetween(trackingMode, "get\r\ncameratracking near mode ", LINE_BREAKER)));
             statistics.put(CAMERA_LABEL_TRACKING_MODE, "");
         }
-        String trackingParticipant = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_PARTICIPANT, GET));
-        if (validateCameraProperty(trackingParticipant)) {
+        String trackingParticipant = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_PARTICIPANT, GET));
+        if (trackingParticipant != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_TRACKING_PARTICIPANT,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(trackingParticipant, "get\r\ncameratracking near participant ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_TRACKING_PARTICIPANT, "");
         }
-        String trackingPip = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_PIP, GET));
-        if (validateCameraProperty(trackingPip)) {
+        String trackingPip = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_PIP, GET));
+        if (trackingPip != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_TRACKING_PIP,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(trackingPip, "get\r\ncameratracking near pip ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_TRACKING_PIP, "");
         }
-        String trackingWake = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_WAKE, GET));
-        if (validateCameraProperty(trackingWake)) {
+        String trackingWake = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_WAKE, GET));
+        if (trackingWake != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_TRACKING_WAKE,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(trackingWake, "get\r\ncameratracking near wake ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_TRACKING_WAKE, "");
         }
-        String trackingSpeed = retrieveDeviceStats(String.format(CAMERA_NEAR_TRACKING_SPEED, GET));
-        if (validateCameraProperty(trackingSpeed)) {
+        String trackingSpeed = retrieveCameraProperty(String.format(CAMERA_NEAR_TRACKING_SPEED, GET));
+        if (trackingSpeed != null) {
             advancedControllableProperties.add(createDropdown(CAMERA_LABEL_TRACKING_SPEED, Arrays.asList("off", "slow", "normal", "fast"),
                     StringUtils.getDataBetween(trackingSpeed, "get\r\ncameratracking near speed ", LINE_BREAKER)));
             statistics.put(CAMERA_LABEL_TRACKING_SPEED, "");
         }
-        String videoMute = retrieveDeviceStats(String.format(VIDEOMUTE, GET));
-        if (validateCameraProperty(videoMute)) {
+        String videoMute = retrieveCameraProperty(String.format(VIDEOMUTE, GET));
+        if (videoMute != null) {
             advancedControllableProperties.add(createSwitch(CAMERA_LABEL_MUTE,
                     normalizeSwitchValueInternal(StringUtils.getDataBetween(videoMute, "get\r\nvideomute near ", LINE_BREAKER))));
             statistics.put(CAMERA_LABEL_MUTE, "");
         }
-        Map<String, Float> cameraPosition = getCameraPosition();
-        if (!cameraPosition.isEmpty()) {
-            advancedControllableProperties.add(createSlider(CAMERA_LABEL_PAN, -50000.0f, 50000.0f, cameraPosition.get("Pan")));
+        CameraPosition position = retrieveCameraPosition(pollTimestamp);
+        if (position != null) {
+            advancedControllableProperties.add(createSlider(CAMERA_LABEL_PAN, -50000.0f, 50000.0f, (float) position.getPan()));
             statistics.put(CAMERA_LABEL_PAN, "");
 
-            advancedControllableProperties.add(createSlider(CAMERA_LABEL_TILT, -50000.0f, 50000.0f, cameraPosition.get("Tilt")));
+            advancedControllableProperties.add(createSlider(CAMERA_LABEL_TILT, -50000.0f, 50000.0f, (float) position.getTilt()));
             statistics.put(CAMERA_LABEL_TILT, "");
 
-            advancedControllableProperties.add(createSlider(CAMERA_LABEL_ZOOM, -50000.0f, 50000.0f, cameraPosition.get("Zoom")));
+            advancedControllableProperties.add(createSlider(CAMERA_LABEL_ZOOM, -50000.0f, 50000.0f, (float) position.getZoom()));
             statistics.put(CAMERA_LABEL_ZOOM, "");
         }
     }
 
     /**
-     * Retrieve camera position as float[3] where
-     * float[0] - Pan
-     * float[1] - Tilt
-     * float[2] - Zoom
-     * <p>
-     * Values are signed, between -50000 and 50000
+     * Request camera position from the device, and update {@link #cameraPosition} with it, unless the position has been set
+     * by a control operation since the given timestamp (so the response may predate it)
+     *
+     * @param since timestamp of the statistics poll start, or the current time if the position is requested by a control operation
+     * @return camera position, reported by the device, or null if the position is not available
+     */
+    private CameraPosition retrieveCameraPosition(long since) {
+        CameraPosition position = CameraPosition.parse(retrieveCameraProperty(CAMERA_NEAR_GETPOSITION), System.currentTimeMillis());
+        if (position != null) {
+            cameraPosition.updateAndGet(current -> current != null && current.getTimestamp() >= since ? current : position);
+        }
+        return position;
+    }
+
+    /**
+     * Move the near camera with a single setposition command. Values that are not changed are taken from {@link #cameraPosition},
+     * which is requested from the device only if it's not known or is outdated.
      *
-     * @return Map with Pan/Tilt/Zoom Float values
+     * @param pan  new camera pan, or null to keep the current one
+     * @param tilt new camera tilt, or null to keep the current one
+     * @param zoom new camera zoom, or null to keep the current one
      * @throws Exception if any error occurs
      */
-    private Map<String, Float> getCameraPosition() throws Exception {
-        String cameraPosition = retrieveDeviceStats(CAMERA_NEAR_GETPOSITION);
-        Map<String, Float> cameraPositionProperties = new HashMap<>();
-        if (validateCameraProperty(cameraPosition)) {
-            Matcher sourceMatcher = Pattern.compile("(\\S?\\d{1,5})\\s(\\S?\\d{1,5})\\s(\\S?\\d{1,5})").matcher(cameraPosition);
-            if (sourceMatcher.find()) {
-                cameraPositionProperties.put("Pan", Float.parseFloat(sourceMatcher.group(1)));
-                cameraPositionProperties.put("Tilt", Float.parseFloat(sourceMatcher.group(2)));
-                cameraPositionProperties.put("Zoom", Float.parseFloat(sourceMatcher.group(3)));
+    private void moveCamera(Integer pan, Integer tilt, Integer zoom) throws Exception {
+        // Moves are serialized with each other, so none of them is built upon a position that is about to change
+        CommandScheduler scheduler = getControlScheduler();
+        scheduler.acquire(CommandScheduler.Priority.CONTROL);
+        try {
+            long now = System.currentTimeMillis();
+            CameraPosition current = cameraPosition.get();
+            if ((pan == null || tilt == null || zoom == null) && (current == null || now - current.getTimestamp() > CAMERA_POSITION_MAX_AGE_MS)) {
+                current = retrieveCameraPosition(now);
+                if (current == null) {
+                    throw new IllegalStateException("Unable to retrieve current camera position");
+                }
+            }
+            CameraPosition target = current == null ? new CameraPosition(pan, tilt, zoom, now) : current.with(pan, tilt, zoom, now);
+            sendControlCommand(String.format(CAMERA_NEAR_SETPOSITION, target.getPan(), target.getTilt(), target.getZoom()));
+            cameraPosition.set(target);
+        } finally {
+            scheduler.release();
+        }
+    }
+
+    /**
+     * Parse pan, tilt or zoom value of the controllable property
+     *
+     * @param value value, generated by Symphony slider controllable property
+     * @return camera position value
+     */
+    private static Integer parseCameraPositionValue(String value) {
+        return Integer.valueOf(removeDecimalPoint(value));
+    }
+
+    /**
+     * Get the result of camera command, unless the command is known to be unsupported by the device, according to
+     * {@link #cameraCapabilities}. The capability is recorded the first time the command is responded.
+     *
+     * @param command camera command to send
+     * @return {@link String} result of the command, or null if the command is not supported or has failed
+     */
+    private String retrieveCameraProperty(String command) {
+        if (Boolean.FALSE.equals(cameraCapabilities.get(command))) {
+            return null;
+        }
+        String response;
+        try {
+            response = send(command);
+        } catch (CommandFailureException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Camera command %s is not recognized by the device, it will not be sent again", command));
+            }
+            cameraCapabilities.put(command, false);
+            return null;
+        } catch (Exception e) {
+            if (logger.isTraceEnabled()) {
+                logger.trace(String.format("Unable to retrieve camera property with the %s command", command), e);
+            }
+            return null;
+        }
+        if (!validateCameraProperty(response)) {
+            if (response != null && response.contains(UNSUPPORTED_FEATURE)) {
+                cameraCapabilities.put(command, false);
+            }
+            return null;
+        }
+        cameraCapabilities.put(command, true);
+        return response;
+    }
+
+    /**
+     * Compare model and software version of the device with the ones {@link #cameraCapabilities} have been collected for,
+     * and reset the capabilities if any of these has changed, so they are discovered again
+     */
+    private void refreshCameraCapabilitiesKey() {
+        Map<String, String> deviceInfo = deviceInfoGroup.getValue();
+        if (deviceInfo == null || !deviceInfo.containsKey(DEVICE_LABEL_MODEL) || !deviceInfo.containsKey(DEVICE_LABEL_SOFTWARE_VERSION)) {
+            return;
+        }
+        String key = deviceInfo.get(DEVICE_LABEL_MODEL) + " " + deviceInfo.get(DEVICE_LABEL_SOFTWARE_VERSION);
+        if (!key.equals(cameraCapabilitiesKey)) {
+            if (cameraCapabilitiesKey != null && logger.isDebugEnabled()) {
+                logger.debug(String.format("Device has changed from %s to %s, discovering camera capabilities again", cameraCapabilitiesKey, key));
             }
+            cameraCapabilities.clear();
+            cameraCapabilitiesKey = key;
         }
-        return cameraPositionProperties;
     }
 
     /**
@@ -861,7 +2027,7 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
         if (StringUtils.isNullOrEmpty(value, true)) {
             return false;
         }
-        if (value.contains("only supported")) {
+        if (value.contains(UNSUPPORTED_FEATURE)) {
             /**
              * If the property is not supported - the message would be similar to
              * "this feature is only supported for eagle eye director 2", indicating the device needs for this
@@ -886,6 +2052,13 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
         advancedControllableProperties.add(createSwitch(AUDIO_LABEL_MUTE, Objects.equals(retrieveMuteStatus(), MuteStatus.Muted) ? 1 : 0));
         statistics.put(AUDIO_LABEL_MUTE, "");
 
+        NotificationListener listener = notificationListener;
+        Integer notifiedVolume = listener == null ? null : listener.getVolume();
+        if (notifiedVolume != null) {
+            advancedControllableProperties.add(createSlider(AUDIO_LABEL_VOLUME, 0.0f, 50.0f, notifiedVolume.floatValue()));
+            statistics.put(AUDIO_LABEL_VOLUME, "");
+            return;
+        }
         String volume = send(String.format(VOLUME, GET));
 
         if (StringUtils.isNullOrEmpty(volume, true)) {
@@ -907,74 +2080,99 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     }
 
     /**
-     * Get basic device information, based on the {@link #WHOAMI} command result
+     * Get current command pacing and scheduling values of the adapter
+     *
+     * @param statistics ExtendedStatistics map, that contains all the statistics properties
+     */
+    private void populatePacingData(Map<String, String> statistics) {
+        statistics.put(ADAPTER_METRICS_LABEL_COMMANDS_COOLDOWN, String.valueOf(commandPacer.getGap()));
+        statistics.put(ADAPTER_METRICS_LABEL_COMMAND_LATENCY, String.valueOf(commandPacer.getAverageLatency()));
+        for (CommandScheduler.Priority priority : CommandScheduler.Priority.values()) {
+            statistics.put(String.format(ADAPTER_METRICS_LABEL_QUEUE_DEPTH, priority.getLabel()), String.valueOf(commandScheduler.getQueueDepth(priority)));
+            statistics.put(String.format(ADAPTER_METRICS_LABEL_QUEUE_WAIT, priority.getLabel()), String.valueOf(commandScheduler.getAverageWaitTime(priority)));
+            statistics.put(String.format(ADAPTER_METRICS_LABEL_QUEUE_DISPATCHED, priority.getLabel()), String.valueOf(commandScheduler.getDispatchedCount(priority)));
+        }
+        if (commandMetricsEnabled) {
+            commandMetrics.populate(statistics);
+        }
+        if (sharedScheduler != null) {
+            statistics.put(ADAPTER_METRICS_LABEL_SHARED_SESSIONS, String.valueOf(connectionGovernor.getOpenSessions()));
+            statistics.put(ADAPTER_METRICS_LABEL_SHARED_SCHEDULER_QUEUE, String.valueOf(SharedScheduler.getQueueSize()));
+        }
+        if (responseCacheEnabled) {
+            statistics.put(ADAPTER_METRICS_LABEL_RESPONSE_CACHE_HITS, String.valueOf(responseCache.getHits()));
+            statistics.put(ADAPTER_METRICS_LABEL_RESPONSE_CACHE_MISSES, String.valueOf(responseCache.getMisses()));
+        }
+        if (pollTimeBudget > 0) {
+            statistics.put(ADAPTER_METRICS_LABEL_POLL_BUDGET_OVERRUNS, String.valueOf(pollBudgetOverruns.get()));
+        }
+    }
+
+    /**
+     * Get the time each of the polling groups has been collected at
+     *
+     * @param statistics ExtendedStatistics map, that contains all the statistics properties
+     */
+    private void populatePollingData(Map<String, String> statistics) {
+        for (PollGroup<?> group : Arrays.asList(callStateGroup, callStatisticsGroup, deviceInfoGroup, systemStatusGroup, registrationStatusGroup)) {
+            long timestamp = group.getTimestamp();
+            if (timestamp > 0) {
+                statistics.put(String.format(ADAPTER_METRICS_LABEL_LAST_UPDATED, group.getName()), Instant.ofEpochMilli(timestamp).toString());
+            }
+        }
+    }
+
+    /**
+     * Get basic device information, based on the {@link #WHOAMI} command result.
+     * The information is cached within {@link #deviceInfoGroup}, and the command is only sent once the group has expired.
      *
      * @param statistics ExtendedStatistics map, that contains all the statistics properties
+     * @param now        timestamp of the current statistics poll
      * @throws Exception if any error occurs
      */
-    private void populateDeviceData(Map<String, String> statistics, List<AdvancedControllableProperty> controls) throws Exception {
+    private void populateDeviceData(Map<String, String> statistics, List<AdvancedControllableProperty> controls, long now) throws Exception {
         controls.add(createButton(DEVICE_LABEL_REBOOT, "Reboot", "Rebooting...", 120000));
         statistics.put(DEVICE_LABEL_REBOOT, "");
 
-        String whoamiLines = retrieveDeviceStats(WHOAMI);
+        Map<String, String> deviceInfo = deviceInfoGroup.getIfFresh(now);
+        if (deviceInfo == null) {
+            deviceInfo = new HashMap<>();
+            extractDeviceData(deviceInfo, retrieveDeviceStats(WHOAMI));
+            deviceInfoGroup.update(deviceInfo, System.currentTimeMillis());
+        }
+        statistics.putAll(deviceInfo);
+    }
+
+    /**
+     * Parse basic device information from the {@link #WHOAMI} command result
+     *
+     * @param statistics  map to put the device information to
+     * @param whoamiLines {@link #WHOAMI} command result
+     */
+    private void extractDeviceData(Map<String, String> statistics, String whoamiLines) {
         if (StringUtils.isNullOrEmpty(whoamiLines, true)) {
             if (logger.isDebugEnabled()) {
                 logger.debug("Empty whoami command response, skipping.");
             }
             return;
         }
-        addStatisticsProperty(statistics, "Device#Name", StringUtils.getDataBetween(whoamiLines, "Hi, my name is : ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#Model", StringUtils.getDataBetween(whoamiLines, "Model: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#SoftwareVersion", StringUtils.getDataBetween(whoamiLines, "Software Version: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#SerialNumber", StringUtils.getDataBetween(whoamiLines, "Serial Number: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#Build", StringUtils.getDataBetween(whoamiLines, "Build Information: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#TimeInLastCall", StringUtils.getDataBetween(whoamiLines, "Time In Last Call: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#TimeInCallsTotal", StringUtils.getDataBetween(whoamiLines, "Total Time In Calls: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#TotalCalls", StringUtils.getDataBetween(whoamiLines, "Total Calls: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#SNTPTimeService", StringUtils.getDataBetween(whoamiLines, "SNTP Time Service: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#LocalTime", StringUtils.getDataBetween(whoamiLines, "Local Time is: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#H323Enabled", StringUtils.getDataBetween(whoamiLines, "H323 Enabled: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#HTTPEnabled", StringUtils.getDataBetween(whoamiLines, "HTTP Enabled: ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "Device#SNMPEnabled", StringUtils.getDataBetween(whoamiLines, "SNMP Enabled: ", LINE_BREAKER));
+        WHOAMI_PARSER.populate(WHOAMI_PARSER.parse(whoamiLines), statistics, false);
     }
 
     /**
      * Get basic device information, based on the {@link #STATUS} command result
      *
-     * @param statistics ExtendedStatistics map, that contains all the statistics properties
-     * @throws Exception if any error occurs
+     * @param statistics  ExtendedStatistics map, that contains all the statistics properties
+     * @param statusLines {@link #STATUS} command result, parsed by {@link #STATUS_PARSER}
      */
-    private void extractDeviceStatus(Map<String, String> statistics, String status) {
-        if (StringUtils.isNullOrEmpty(status, true) || NULL_STATISTIC.equals(status)) {
+    private void extractDeviceStatus(Map<String, String> statistics, Map<String, String> statusLines) {
+        if (statusLines.isEmpty()) {
             if (logger.isDebugEnabled()) {
                 logger.debug("Empty status command response, skipping.");
             }
             return;
         }
-        addStatisticsProperty(statistics, "SystemStatus#IPNetwork", StringUtils.getDataBetween(status, "ipnetwork ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#TrackableCamera", StringUtils.getDataBetween(status, "trackablecamera ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#AutoAnswerP2P", StringUtils.getDataBetween(status, "autoanswerp2p ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#SIPServer", StringUtils.getDataBetween(status, "sipserver ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#Camera", StringUtils.getDataBetween(status, "camera ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#Provisioning", StringUtils.getDataBetween(status, "provisioning ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#Audio", StringUtils.getDataBetween(status, "audio ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#RemoteControl", StringUtils.getDataBetween(status, "remotecontrol ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#LogThreshold", StringUtils.getDataBetween(status, "logthreshold ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#GlobalDirectory", StringUtils.getDataBetween(status, "globaldirectory ", LINE_BREAKER));
-        addStatisticsProperty(statistics, "SystemStatus#Calendar", StringUtils.getDataBetween(status, "calendar ", LINE_BREAKER));
-    }
-
-    /**
-     * Add statistics property for ExtendedStatistics map, if property value is not null or empty
-     *
-     * @param statistics    ExtendedStatistics map, that contains all the statistics properties
-     * @param propertyName  name of the property to add
-     * @param propertyValue value of the property, to make a check upon and add to the statistics map
-     */
-    private void addStatisticsProperty(Map<String, String> statistics, String propertyName, String propertyValue) {
-        if (!StringUtils.isNullOrEmpty(propertyValue, true)) {
-            statistics.put(propertyName, propertyValue.trim());
-        }
+        STATUS_PARSER.populate(statusLines, statistics, unknownStatusLinesEnabled);
     }
 
     /***
@@ -1058,6 +2256,28 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      */
     @Override
     public String dial(DialDevice device) throws Exception {
+        try {
+            return dialAsync(device).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Dial the call, without waiting for it to connect.
+     * <p>
+     * Call id is not reported by the dial command, so the call is verified by matching remote address of the connected call
+     * against the dial string of the device. The call is verified once the call status notification is received (if
+     * {@link #notificationsEnabled} is set), or by the status checks, scheduled with increasing intervals, starting with
+     * {@link #dialVerificationInterval}, until {@link #dialTimeout} is reached.
+     *
+     * @param device device to dial
+     * @return future, completed with the call id once the call is connected, or with null if the call is not verified within
+     * {@link #dialTimeout}
+     * @throws Exception if the dial command has failed
+     */
+    public CompletableFuture<String> dialAsync(DialDevice device) throws Exception {
         // dial manual "speed" "dialstr1" [dialstr] [h323|ip|sip]
         // hangup video [callid]
         String command = null;
@@ -1072,8 +2292,13 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
         if (nonNull(protocol)) {
             command += " " + protocol.name().toLowerCase();
         }
-        send(command);
-        updateLatestControlTimestamp();
+        CommandScheduler scheduler = getControlScheduler();
+        scheduler.acquire(CommandScheduler.Priority.CALL_CONTROL);
+        try {
+            sendControlCommand(command);
+        } finally {
+            scheduler.release();
+        }
 		/*		Dials a video call number dialstr1 at speed of type
 				h323. Requires the parameters "speed" and "dialstr".
 				Allows the user to automatically dial a number. .
@@ -1082,22 +2307,133 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
 				a call type.
 		*/
 
-        // TODO add comments that we need to go gather the call id rather then getting it from dial results (update others like this as well). also the fact
-        // that we are checking it against remote address. put counter here with max number of attempts, but do a loop, we less interval then 3 seconds, have it
-        // configurable(extracted properties)
+        long now = System.currentTimeMillis();
+        PendingDial dial = new PendingDial(device.getDialString(), now + dialTimeout, dialVerificationInterval, dialVerificationMaxInterval);
+        pendingDials.add(dial);
+        dial.getFuture().whenComplete((callId, error) -> pendingDials.remove(dial));
+        scheduleDialVerification(dial, dial.nextDelay(now));
+        return dial.getFuture();
+    }
+
+    /**
+     * Schedule the next status check of the dialed call
+     *
+     * @param dial  dialed call
+     * @param delay delay of the check, in milliseconds, negative if the call should not be checked anymore
+     */
+    private void scheduleDialVerification(PendingDial dial, long delay) {
+        if (dial.getFuture().isDone()) {
+            return;
+        }
+        if (delay < 0) {
+            dial.getFuture().complete(null);
+            return;
+        }
+        try {
+            getDialScheduler().schedule(() -> runControlWork(() -> verifyDial(dial)), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The adapter is being destroyed
+            dial.getFuture().complete(null);
+        }
+    }
+
+    /**
+     * Check whether the dialed call is connected, and schedule the next check if it's not
+     *
+     * @param dial dialed call
+     */
+    private void verifyDial(PendingDial dial) {
+        if (dial.getFuture().isDone()) {
+            return;
+        }
+        try {
+            String[] rawCallStatistics;
+            commandScheduler.acquire(CommandScheduler.Priority.CALL_CONTROL);
+            try {
+                rawCallStatistics = retrieveRawCallStatistics();
+            } finally {
+                commandScheduler.release();
+            }
+            if (dial.verify(parseCallIdAndRemoteAddress(rawCallStatistics))) {
+                return;
+            }
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Unable to retrieve status of the dialed call", e);
+            }
+        }
+        scheduleDialVerification(dial, dial.nextDelay(System.currentTimeMillis()));
+    }
+
+    /**
+     * Create {@link #controlWorker}: a single thread, that is started on demand and stopped once idle, so the adapters that are
+     * not controlled do not keep a thread each
+     *
+     * @return worker of the adapter
+     */
+    private ExecutorService createControlWorker() {
+        ThreadPoolExecutor worker = new ThreadPoolExecutor(1, 1, CONTROL_WORKER_KEEP_ALIVE_MS, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "PolycomGroupSeries control worker " + host);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        worker.allowCoreThreadTimeOut(true);
+        return worker;
+    }
 
-        for (int i = 0; i < MAX_STATUS_POLL_ATTEMPT; i++) {
-            CallStats callStats = parseCallIdAndRemoteAddress(retrieveRawCallStatistics());
-            if (null != callStats) {
-                String remoteAddress = callStats.getRemoteAddress();
-                if (!StringUtils.isNullOrEmpty(remoteAddress, true) && remoteAddress.trim().equals(device.getDialString().trim())) {
-                    return callStats.getCallId();
-                }
+    /**
+     * Run the work, timed by {@link #sharedScheduler}, on {@link #controlWorker}, or right away if the adapter has its own
+     * scheduler threads. Used as {@link Executor} of {@link #controlCoalescer} and {@link #controlRefresher}.
+     *
+     * @param work work that talks to the device
+     */
+    private void runControlWork(Runnable work) {
+        ExecutorService worker = controlWorker;
+        if (worker == null) {
+            work.run();
+            return;
+        }
+        try {
+            worker.execute(work);
+        } catch (RejectedExecutionException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Adapter is being destroyed, skipping the scheduled work");
             }
-            Thread.sleep(RETRY_INTERVAL_MILLISEC);
         }
+    }
+
+    /**
+     * Retrieves {@link #sharedScheduler} if it's set, otherwise {@link #dialScheduler}, creating it if necessary
+     *
+     * @return scheduler of the dialed call status checks
+     */
+    private synchronized ScheduledExecutorService getDialScheduler() {
+        ScheduledExecutorService scheduler = sharedScheduler;
+        if (scheduler != null) {
+            return scheduler;
+        }
+        if (dialScheduler == null) {
+            dialScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "PolycomGroupSeries dial " + host);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return dialScheduler;
+    }
 
-        return null;
+    /**
+     * Stop {@link #dialScheduler}, and complete the calls that have not been verified yet with null
+     */
+    private synchronized void closeDialScheduler() {
+        if (dialScheduler != null) {
+            dialScheduler.shutdownNow();
+            dialScheduler = null;
+        }
+        for (PendingDial dial : pendingDials) {
+            dial.getFuture().complete(null);
+        }
     }
 
     /**
@@ -1107,7 +2443,8 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     public void hangup(String callId) throws Exception {
         // hangup all
         // hangup video [callid]
-        commandOperationLock.lock();
+        CommandScheduler scheduler = getControlScheduler();
+        scheduler.acquire(CommandScheduler.Priority.CALL_CONTROL);
         try {
             String command = null;
             if (StringUtils.isNullOrEmpty(callId, true)) {
@@ -1115,16 +2452,15 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
             } else {
                 command = "hangup video " + callId;
             }
-            send(command);
-            updateLatestControlTimestamp();
+            sendControlCommand(command);
         } finally {
-            commandOperationLock.unlock();
+            scheduler.release();
         }
     }
 
     @Override
     public CallStatus retrieveCallStatus(String callId) throws Exception {
-        commandOperationLock.lock();
+        commandScheduler.acquire(CommandScheduler.Priority.CALL_CONTROL);
         try {
             CallStatus callStatus = new CallStatus();
             CallStats callStats = parseCallIdAndRemoteAddress(retrieveRawCallStatistics());
@@ -1143,44 +2479,415 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
             callStatus.setCallStatusState(CallStatusState.Disconnected);
             return callStatus;
         } finally {
-            commandOperationLock.unlock();
+            commandScheduler.release();
         }
     }
 
     @Override
     public String send(String data) throws Exception {
-        commandOperationLock.lock();
+        CommandMetrics.PollCost cost = getPollCost();
+        long lockTimestamp = System.nanoTime();
+        commandScheduler.acquire(pollLock.isHeldByCurrentThread() ? CommandScheduler.Priority.MONITORING : CommandScheduler.Priority.CONTROL);
         try {
-            if (System.currentTimeMillis() - lastCommandTimestamp < commandsCooldownDelay) {
-                Thread.sleep(commandsCooldownDelay);
+            if (cost != null) {
+                cost.onLockWait(System.nanoTime() - lockTimestamp);
+            }
+            boolean polling = pollLock.isHeldByCurrentThread();
+            if (polling && batchedResponses.containsKey(data)) {
+                String response = batchedResponses.get(data);
+                if (failedBatchedCommands.contains(data)) {
+                    throw new CommandFailureException(host, data, response);
+                }
+                return response;
+            }
+            if (polling && responseCacheEnabled) {
+                String response = responseCache.get(data, System.currentTimeMillis());
+                if (response != null) {
+                    return response;
+                }
             }
-            lastCommandTimestamp = System.currentTimeMillis();
+            long cooldownTime = commandPacer.acquire();
+            if (cost != null) {
+                cost.onCommand(1, cooldownTime);
+            }
+            long commandTimestamp = System.currentTimeMillis();
             if (logger.isDebugEnabled()) {
-                logger.debug(String.format("Issuing command %s, timestamp: %s", data, lastCommandTimestamp));
+                logger.debug(String.format("Issuing command %s, timestamp: %s", data, commandTimestamp));
+            }
+            boolean responded = false;
+            try {
+                String response = super.send(data);
+                responded = true;
+                if (polling) {
+                    batchedResponses.put(data, response);
+                }
+                if (responseCacheEnabled && responseCache.isCacheable(data)) {
+                    responseCache.put(data, response, commandTimestamp);
+                }
+                return response;
+            } catch (CommandFailureException e) {
+                // The device has responded, the command itself is not supported or has failed
+                responded = true;
+                throw e;
+            } finally {
+                // The command may have been applied by the device, even if it has not been responded in time
+                if (responseCacheEnabled && !responseCache.isCacheable(data)) {
+                    responseCache.invalidate(data);
+                }
+                long latency = System.currentTimeMillis() - commandTimestamp;
+                commandPacer.onResponse(latency, responded);
+                if (commandMetricsEnabled) {
+                    commandMetrics.record(data, latency);
+                }
             }
-            return super.send(data);
         } finally {
-            commandOperationLock.unlock();
+            commandScheduler.release();
         }
     }
 
     /**
-     * {@inheritDoc}
+     * Retrieves {@link #pollCost}, if the current thread is the one running the statistics poll
+     *
+     * @return cost breakdown of the statistics poll in progress, or null
      */
-    @Override
-    public MuteStatus retrieveMuteStatus() throws Exception {
-        commandOperationLock.lock();
+    private CommandMetrics.PollCost getPollCost() {
+        return pollLock.isHeldByCurrentThread() ? pollCost : null;
+    }
+
+    /**
+     * Write a group of commands to the device within a single write operation, and split the combined output into
+     * per-command responses, that are stored in {@link #batchedResponses}. Subsequent {@link #send(String)} calls for these
+     * commands are served from {@link #batchedResponses} until {@link #clearBatchedResponses()} is called.
+     * If the batched write fails - the commands are sent one by one, as usual, when requested.
+     *
+     * @param commands list of commands to send
+     */
+    private void sendBatch(List<String> commands) {
+        if (!commandBatchingEnabled || batchFailureCount >= MAX_BATCH_FAILURES || batchTypeahead) {
+            return;
+        }
+        CommandMetrics.PollCost cost = getPollCost();
+        long lockTimestamp = System.nanoTime();
+        commandScheduler.acquire(CommandScheduler.Priority.MONITORING);
         try {
-            String responseMuteStatus = send(GET_MUTE_STATUS);
-            if (responseMuteStatus.contains(MUTE_STATUS) || responseMuteStatus.contains(MUTE_NEAR_ON)) {
-                return MuteStatus.Muted;
-            } else if (responseMuteStatus.contains(MUTE_NEAR_OFF)) {
-                return MuteStatus.Unmuted;
+            if (cost != null) {
+                cost.onLockWait(System.nanoTime() - lockTimestamp);
+            }
+            long cooldownTime = commandPacer.acquire();
+            if (cost != null) {
+                cost.onCommand(commands.size(), cooldownTime);
+            }
+            long batchTimestamp = System.currentTimeMillis();
+            String batch = String.join(BATCH_COMMAND_SEPARATOR, commands);
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Issuing batch of commands %s, timestamp: %s", commands, batchTimestamp));
+            }
+            inFlightBatch = commands;
+            String batchResponse;
+            try {
+                batchResponse = super.send(batch);
+            } catch (Exception e) {
+                commandPacer.onResponse(System.currentTimeMillis() - batchTimestamp, false);
+                throw e;
+            }
+            long latency = System.currentTimeMillis() - batchTimestamp;
+            commandPacer.onResponse(latency / commands.size(), true);
+            if (commandMetricsEnabled) {
+                commandMetrics.record(BATCH_METRICS_NAME, latency);
+            }
+            List<String> responses = splitBatchResponse(commands, batchResponse);
+            for (int i = 0; i < commands.size(); i++) {
+                String command = commands.get(i);
+                String response = responses.get(i);
+                batchedResponses.put(command, response);
+                if (commandErrorMatcher.match(response) != null) {
+                    failedBatchedCommands.add(command);
+                } else if (responseCacheEnabled) {
+                    responseCache.put(command, response, batchTimestamp);
+                }
+            }
+            batchFailureCount = 0;
+        } catch (Exception e) {
+            if (batchTypeahead) {
+                logger.warn(String.format("Device has echoed batch of commands %s ahead of the responses. Batching is suspended, falling back to sequential commands.",
+                        commands), e);
             } else {
-                return null;
+                batchFailureCount++;
+                logger.warn(String.format("Unable to send batch of commands %s, attempt %s of %s. Falling back to sequential commands.",
+                        commands, batchFailureCount, MAX_BATCH_FAILURES), e);
+            }
+            clearBatchedResponses();
+            // Output of the failed batch may still be incoming, so the channel is reset to keep it away from the next commands
+            destroyChannel();
+        } finally {
+            inFlightBatch = null;
+            commandScheduler.release();
+        }
+    }
+
+    /**
+     * Retrieves {@link #GET_CALL_STATE}, unless the call state is tracked by {@link #notificationListener}, followed by
+     * {@link #CALL_QUALITY_POLL_COMMANDS}, if the device is (or, according to the latest statistics, has been) in a call and
+     * {@link #callStatisticsGroup} has expired
+     *
+     * @param now timestamp of the current statistics poll
+     * @return list of commands to batch
+     */
+    private List<String> retrieveCallPollCommands(long now) {
+        List<String> commands = new ArrayList<>(CALL_QUALITY_POLL_COMMANDS.size() + 1);
+        NotificationListener listener = notificationListener;
+        boolean inCall;
+        if (listener != null && listener.isCallStateKnown()) {
+            inCall = listener.getActiveCall() != null;
+        } else {
+            commands.add(GET_CALL_STATE);
+            EndpointStatistics endpointStatistics = statisticsSnapshot.get().getEndpointStatistics();
+            inCall = endpointStatistics != null && endpointStatistics.isInCall();
+        }
+        if (inCall && !callStatisticsGroup.isFresh(now)) {
+            commands.addAll(CALL_QUALITY_POLL_COMMANDS);
+        }
+        return commands;
+    }
+
+    /**
+     * Retrieves {@link #POLL_COMMANDS}, except for the commands whose results are currently tracked by {@link #notificationListener},
+     * or are cached within polling groups that have not expired yet
+     *
+     * @param now timestamp of the current statistics poll
+     * @return list of commands to batch
+     */
+    private List<String> retrievePollCommands(long now) {
+        List<String> commands = new ArrayList<>(POLL_COMMANDS);
+        if (deviceInfoGroup.isFresh(now)) {
+            commands.remove(WHOAMI);
+        }
+        if (systemStatusGroup.isFresh(now) && registrationStatusGroup.isFresh(now)) {
+            commands.removeAll(Arrays.asList(STATUS, SYSTEMSETTING_GET_SIPREGISTRARSERVER, GATEKEEPERIP_GET));
+        }
+        NotificationListener listener = notificationListener;
+        if (listener == null) {
+            return commands;
+        }
+        if (listener.getNearMute() != null) {
+            commands.remove(GET_MUTE_STATUS);
+        }
+        if (listener.getVolume() != null) {
+            commands.remove(String.format(VOLUME, GET));
+        }
+        return commands;
+    }
+
+    /**
+     * Remove the commands, whose responses are cached by {@link #responseCache}, from the list of commands to batch
+     *
+     * @param commands list of commands to batch
+     * @param now      timestamp of the current statistics poll
+     * @return the same list of commands
+     */
+    private List<String> removeCachedCommands(List<String> commands, long now) {
+        if (responseCacheEnabled) {
+            commands.removeIf(command -> responseCache.contains(command, now));
+        }
+        return commands;
+    }
+
+    /**
+     * Retrieves {@link #IN_CALL_POLL_COMMANDS}, except for camera commands that are not supported by the device
+     *
+     * @return list of commands to batch
+     */
+    private List<String> retrieveInCallPollCommands() {
+        List<String> commands = new ArrayList<>(IN_CALL_POLL_COMMANDS);
+        commands.removeIf(command -> Boolean.FALSE.equals(cameraCapabilities.get(command)));
+        return commands;
+    }
+
+    /**
+     * Apply call, mute and volume state, reported by {@link #notificationListener}, to {@link #statisticsSnapshot},
+     * so the latest state is available without waiting for the next statistics poll, and complete {@link #pendingDials}
+     * that are connected. Called from the listener thread.
+     */
+    private void applyNotifications() {
+        NotificationListener listener = notificationListener;
+        if (listener == null) {
+            return;
+        }
+        Boolean nearMute = listener.getNearMute();
+        if (nearMute != null) {
+            updateLocalControllableProperty(AUDIO_LABEL_MUTE, nearMute ? "1" : "0");
+        }
+        Integer volume = listener.getVolume();
+        if (volume != null) {
+            updateLocalControllableProperty(AUDIO_LABEL_VOLUME, String.valueOf(volume));
+        }
+        if (!pendingDials.isEmpty() && listener.isCallStateKnown()) {
+            CallStats activeCall = parseCallIdAndRemoteAddress(listener.getActiveCall());
+            for (PendingDial dial : pendingDials) {
+                dial.verify(activeCall);
+            }
+        }
+        statisticsSnapshot.updateAndGet(snapshot -> {
+            EndpointStatistics endpointStatistics = snapshot.getEndpointStatistics();
+            if (endpointStatistics == null) {
+                return snapshot;
+            }
+            EndpointStatistics notifiedStatistics = applyNotifications(listener, endpointStatistics, nearMute);
+            return notifiedStatistics == endpointStatistics ? snapshot : snapshot.withEndpointStatistics(notifiedStatistics);
+        });
+    }
+
+    /**
+     * Apply mute and call state, reported by the listener, to endpoint statistics
+     *
+     * @param listener           notification listener
+     * @param endpointStatistics endpoint statistics of the latest snapshot, left intact
+     * @param nearMute           near mute state, reported by the listener, or null if unknown
+     * @return copy of endpoint statistics with notified state applied, or the same endpoint statistics if there is nothing to change
+     */
+    private static EndpointStatistics applyNotifications(NotificationListener listener, EndpointStatistics endpointStatistics, Boolean nearMute) {
+        EndpointStatistics notifiedStatistics = endpointStatistics;
+        AudioChannelStats audioChannelStats = endpointStatistics.getAudioChannelStats();
+        if (nearMute != null && audioChannelStats != null && !nearMute.equals(audioChannelStats.getMuteTx())) {
+            audioChannelStats = StatisticsSnapshot.copy(audioChannelStats);
+            audioChannelStats.setMuteTx(nearMute);
+            notifiedStatistics = StatisticsSnapshot.copy(endpointStatistics);
+            notifiedStatistics.setAudioChannelStats(audioChannelStats);
+        }
+        if (!listener.isCallStateKnown()) {
+            return notifiedStatistics;
+        }
+        String[] activeCall = listener.getActiveCall();
+        if (activeCall == null) {
+            if (endpointStatistics.isInCall()) {
+                notifiedStatistics = new EndpointStatistics();
+                notifiedStatistics.setInCall(false);
+                notifiedStatistics.setRegistrationStatus(endpointStatistics.getRegistrationStatus());
+            }
+            return notifiedStatistics;
+        }
+        CallStats callStats = endpointStatistics.getCallStats();
+        if (!endpointStatistics.isInCall() || callStats == null || !Objects.equals(callStats.getCallId(), activeCall[1])) {
+            // Call stats are collected by the next statistics poll, only the call details are known at this point
+            callStats = parseCallIdAndRemoteAddress(activeCall);
+            callStats.setRequestedCallRate(convertToInteger(activeCall[4]));
+            if (notifiedStatistics == endpointStatistics) {
+                notifiedStatistics = StatisticsSnapshot.copy(endpointStatistics);
+            }
+            notifiedStatistics.setInCall(true);
+            notifiedStatistics.setCallStats(callStats);
+        }
+        return notifiedStatistics;
+    }
+
+    /**
+     * Send independent groups of commands concurrently, over {@link #channelPool}, and store the responses in
+     * {@link #batchedResponses}, same way {@link #sendBatch(List)} does. Commands that do not belong to any of the groups
+     * are sent as an extra group.
+     *
+     * @param commands      list of commands to send
+     * @param commandGroups independent groups of commands
+     * @return true if all the commands have been responded, false if parallel collection is disabled or has failed
+     */
+    private boolean sendParallel(List<String> commands, List<List<String>> commandGroups) {
+        if (channelPoolClosed || parallelChannels < 2 || parallelFailureCount >= MAX_PARALLEL_FAILURES || commands.isEmpty()) {
+            return false;
+        }
+        // Commands are sent over the separate channels, so the main channel stays available for control operations
+        pollLock.lock();
+        try {
+            List<List<String>> groups = new ArrayList<>();
+            List<String> remainingCommands = new ArrayList<>(commands);
+            for (List<String> commandGroup : commandGroups) {
+                List<String> group = new ArrayList<>(commandGroup);
+                group.retainAll(remainingCommands);
+                remainingCommands.removeAll(group);
+                if (!group.isEmpty()) {
+                    groups.add(group);
+                }
+            }
+            if (!remainingCommands.isEmpty()) {
+                groups.add(remainingCommands);
+            }
+            if (channelPool == null || !channelPool.isConnected()) {
+                closeChannelPool();
+                channelPool = new ChannelPool(additionalSessionGovernor, host, getPort(), getLogin(), getPassword(), getTimeout(), parallelChannels, loginErrorMatcher,
+                        loginSuccessMatcher, commandErrorMatcher, commandSuccessMatcher, minCommandsCooldownDelay, commandsCooldownDelay,
+                        adaptiveCommandPacing);
+                if (channelPoolClosed) {
+                    // The adapter has been destroyed while the pool was being opened
+                    closeChannelPool();
+                    return false;
+                }
+            }
+            long startTimestamp = System.currentTimeMillis();
+            Map<String, String> responses = new ConcurrentHashMap<>();
+            Set<String> failedCommands = ConcurrentHashMap.newKeySet();
+            try {
+                channelPool.execute(groups, responses, failedCommands);
+            } finally {
+                // Responses that have been received before a failure are still valid
+                batchedResponses.putAll(responses);
+                failedBatchedCommands.addAll(failedCommands);
+                if (responseCacheEnabled) {
+                    responses.forEach((command, response) -> {
+                        if (!failedCommands.contains(command)) {
+                            responseCache.put(command, response, startTimestamp);
+                        }
+                    });
+                }
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Collected command groups %s in parallel within %sms", groups, System.currentTimeMillis() - startTimestamp));
             }
+            parallelFailureCount = 0;
+            return true;
+        } catch (Exception e) {
+            parallelFailureCount++;
+            logger.warn(String.format("Unable to send command groups in parallel, attempt %s of %s. Falling back to the main channel.",
+                    parallelFailureCount, MAX_PARALLEL_FAILURES), e);
+            closeChannelPool();
+            return false;
         } finally {
-            commandOperationLock.unlock();
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Close {@link #channelPool}, if it's open
+     */
+    private void closeChannelPool() {
+        if (channelPool != null) {
+            channelPool.close();
+            channelPool = null;
+        }
+    }
+
+    /**
+     * Clear responses, collected by {@link #sendBatch(List)}
+     */
+    private void clearBatchedResponses() {
+        batchedResponses.clear();
+        failedBatchedCommands.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MuteStatus retrieveMuteStatus() throws Exception {
+        NotificationListener listener = notificationListener;
+        Boolean nearMute = listener == null ? null : listener.getNearMute();
+        if (nearMute != null) {
+            return nearMute ? MuteStatus.Muted : MuteStatus.Unmuted;
+        }
+        String responseMuteStatus = send(GET_MUTE_STATUS);
+        if (responseMuteStatus.contains(MUTE_STATUS) || responseMuteStatus.contains(MUTE_NEAR_ON)) {
+            return MuteStatus.Muted;
+        } else if (responseMuteStatus.contains(MUTE_NEAR_OFF)) {
+            return MuteStatus.Unmuted;
+        } else {
+            return null;
         }
     }
 
@@ -1197,13 +2904,9 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      */
     @Override
     public void mute() throws Exception {
-        commandOperationLock.lock();
-        try {
-            send(MUTE_NEAR_ON);
-            updateLatestControlTimestamp();
-        } finally {
-            commandOperationLock.unlock();
-        }
+        sendControlCommand(MUTE_NEAR_ON);
+        markControlGroupDirty(AUDIO_LABEL_MUTE);
+        updateLocalControllableProperty(AUDIO_LABEL_MUTE, "1");
     }
 
     /**
@@ -1211,13 +2914,9 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      */
     @Override
     public void unmute() throws Exception {
-        commandOperationLock.lock();
-        try {
-            send(MUTE_NEAR_OFF);
-            updateLatestControlTimestamp();
-        } finally {
-            commandOperationLock.unlock();
-        }
+        sendControlCommand(MUTE_NEAR_OFF);
+        markControlGroupDirty(AUDIO_LABEL_MUTE);
+        updateLocalControllableProperty(AUDIO_LABEL_MUTE, "0");
     }
 
     @Override
@@ -1225,79 +2924,142 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
         String property = controllableProperty.getProperty();
         String value = String.valueOf(controllableProperty.getValue());
 
-        commandOperationLock.lock();
-        try {
-            updateLatestControlTimestamp();
-            updateLocalControllableProperty(property, value);
+        markControlGroupDirty(property);
+        updateLocalControllableProperty(property, value);
 
-            switch (property) {
-                case DEVICE_LABEL_REBOOT:
-                    send("reboot now");
-                    break;
-                case AUDIO_LABEL_VOLUME:
-                    send(String.format(VOLUME, SET) + removeDecimalPoint(value));
-                    break;
-                case AUDIO_LABEL_MUTE:
-                    if ("0".equals(value)) {
-                        unmute();
-                    } else {
-                        mute();
-                    }
-                    break;
-                case CAMERA_LABEL_PAN:
-                    Map<String, Float> cameraPosition = getCameraPosition();
-                    send(String.format(CAMERA_NEAR_SETPOSITION, removeDecimalPoint(value),
-                            removeDecimalPoint(String.valueOf(cameraPosition.get("Tilt"))), removeDecimalPoint(String.valueOf(cameraPosition.get("Zoom")))));
-                    break;
-                case CAMERA_LABEL_TILT:
-                    cameraPosition = getCameraPosition();
-                    send(String.format(CAMERA_NEAR_SETPOSITION, removeDecimalPoint(String.valueOf(cameraPosition.get("Pan"))),
-                            removeDecimalPoint(value), removeDecimalPoint(String.valueOf(cameraPosition.get("Zoom")))));
-                    break;
-                case CAMERA_LABEL_ZOOM:
-                    cameraPosition = getCameraPosition();
-                    send(String.format(CAMERA_NEAR_SETPOSITION, removeDecimalPoint(String.valueOf(cameraPosition.get("Pan"))),
-                            removeDecimalPoint(String.valueOf(cameraPosition.get("Tilt"))), removeDecimalPoint(value)));
-                    break;
-                case CAMERA_LABEL_MUTE:
-                    send(String.format(VIDEOMUTE, normalizeSwitchValueExternal(value)));
-                    break;
-                case CAMERA_LABEL_INVERT:
-                    send(String.format(CAMERA_INVERT_NEAR, normalizeSwitchValueExternal(value)));
-                    break;
-                case CAMERA_LABEL_TRACKING:
-                    send(String.format(CAMERA_NEAR_TRACKING, normalizeSwitchValueExternal(value)));
-                    break;
-                case CAMERA_LABEL_TRACKING_CALIBRATE:
-                    send(String.format(CAMERA_NEAR_TRACKING_CALIBRATE, normalizeSwitchValueExternal(value)));
-                    break;
-                case CAMERA_LABEL_TRACKING_FRAMING:
-                    send(String.format(CAMERA_NEAR_TRACKING_FRAMING, value));
-                    break;
-                case CAMERA_LABEL_TRACKING_MODE:
-                    send(String.format(CAMERA_NEAR_TRACKING_MODE, value));
-                    break;
-                case CAMERA_LABEL_TRACKING_PARTICIPANT:
-                    send(String.format(CAMERA_NEAR_TRACKING_PARTICIPANT, normalizeSwitchValueExternal(value)));
-                    break;
-                case CAMERA_LABEL_TRACKING_PIP:
-                    send(String.format(CAMERA_NEAR_TRACKING_PIP, value));
-                    break;
-                case CAMERA_LABEL_TRACKING_WAKE:
-                    send(String.format(CAMERA_NEAR_TRACKING_WAKE, normalizeSwitchValueExternal(value)));
-                    break;
-                case CAMERA_LABEL_TRACKING_SPEED:
-                    send(String.format(CAMERA_NEAR_TRACKING_SPEED, value));
-                    break;
-                default:
-                    logger.trace("Command operation is not supported: " + property);
-                    break;
+        ControlCoalescer coalescer = controlCoalescer;
+        if (coalescer != null && controlCoalescingWindow > 0 && COALESCED_CONTROLS.contains(property)) {
+            if (coalescer.submit(property, value, controlCoalescingWindow) && logger.isTraceEnabled()) {
+                logger.trace(String.format("Pending %s value is replaced with %s", property, value));
+            }
+            return;
+        }
+        sendControl(property, value);
+    }
+
+    /**
+     * Send the command, that applies the controllable property value to the device
+     *
+     * @param property name of the controllable property
+     * @param value    value of the controllable property
+     * @throws Exception if any error occurs
+     */
+    private void sendControl(String property, String value) throws Exception {
+        switch (property) {
+            case DEVICE_LABEL_REBOOT:
+                sendControlCommand("reboot now");
+                invalidatePollGroups();
+                break;
+            case AUDIO_LABEL_VOLUME:
+                sendControlCommand(String.format(VOLUME, SET) + removeDecimalPoint(value));
+                break;
+            case AUDIO_LABEL_MUTE:
+                if ("0".equals(value)) {
+                    unmute();
+                } else {
+                    mute();
+                }
+                break;
+            case CAMERA_LABEL_PAN:
+                moveCamera(parseCameraPositionValue(value), null, null);
+                break;
+            case CAMERA_LABEL_TILT:
+                moveCamera(null, parseCameraPositionValue(value), null);
+                break;
+            case CAMERA_LABEL_ZOOM:
+                moveCamera(null, null, parseCameraPositionValue(value));
+                break;
+            case CAMERA_LABEL_MUTE:
+                sendControlCommand(String.format(VIDEOMUTE, normalizeSwitchValueExternal(value)));
+                break;
+            case CAMERA_LABEL_INVERT:
+                sendControlCommand(String.format(CAMERA_INVERT_NEAR, normalizeSwitchValueExternal(value)));
+                break;
+            case CAMERA_LABEL_TRACKING:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING, normalizeSwitchValueExternal(value)));
+                break;
+            case CAMERA_LABEL_TRACKING_CALIBRATE:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_CALIBRATE, normalizeSwitchValueExternal(value)));
+                break;
+            case CAMERA_LABEL_TRACKING_FRAMING:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_FRAMING, value));
+                break;
+            case CAMERA_LABEL_TRACKING_MODE:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_MODE, value));
+                break;
+            case CAMERA_LABEL_TRACKING_PARTICIPANT:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_PARTICIPANT, normalizeSwitchValueExternal(value)));
+                break;
+            case CAMERA_LABEL_TRACKING_PIP:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_PIP, value));
+                break;
+            case CAMERA_LABEL_TRACKING_WAKE:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_WAKE, normalizeSwitchValueExternal(value)));
+                break;
+            case CAMERA_LABEL_TRACKING_SPEED:
+                sendControlCommand(String.format(CAMERA_NEAR_TRACKING_SPEED, value));
+                break;
+            default:
+                logger.trace("Command operation is not supported: " + property);
+                break;
+        }
+    }
+
+    /**
+     * Send the control command over {@link #controlChannel}, if {@link #controlSessionEnabled} is set, otherwise over the main
+     * channel, as any other command. If the control session cannot be established, the command is sent over the main channel,
+     * and so are the commands within {@link #CONTROL_SESSION_RETRY_INTERVAL_MS} after that.
+     *
+     * @param command control command to send
+     * @return command response
+     * @throws Exception if any error occurs
+     */
+    private String sendControlCommand(String command) throws Exception {
+        ControlChannel channel = controlChannel;
+        if (channel == null || !channel.isAvailable()) {
+            return send(command);
+        }
+        CommandScheduler scheduler = channel.getScheduler();
+        scheduler.acquire(CommandScheduler.Priority.CONTROL);
+        try {
+            try {
+                channel.connect();
+            } catch (Exception e) {
+                logger.warn(String.format("Unable to establish control session, control commands are issued over the main session for the next %sms",
+                        CONTROL_SESSION_RETRY_INTERVAL_MS), e);
+                return send(command);
+            }
+            long commandTimestamp = System.currentTimeMillis();
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Issuing control command %s, timestamp: %s", command, commandTimestamp));
+            }
+            try {
+                return channel.send(command);
+            } finally {
+                // The command may have been applied by the device, even if it has not been responded in time
+                if (responseCacheEnabled) {
+                    responseCache.invalidate(command);
+                }
+                if (commandMetricsEnabled) {
+                    commandMetrics.record(command, System.currentTimeMillis() - commandTimestamp);
+                }
             }
         } finally {
-            commandOperationLock.unlock();
+            scheduler.release();
         }
     }
 
+    /**
+     * Retrieves scheduler of the control operations: the one of {@link #controlChannel}, if {@link #controlSessionEnabled} is set,
+     * otherwise {@link #commandScheduler}
+     *
+     * @return scheduler to acquire before a control operation, that consists of several commands or has to take precedence
+     */
+    private CommandScheduler getControlScheduler() {
+        ControlChannel channel = controlChannel;
+        return channel != null ? channel.getScheduler() : commandScheduler;
+    }
+
     /**
      * Normalize switch values for using in SSH commands.
      * All "0"|"1" values should be changed to "off"|"on" accordingly for the device to understand the command
@@ -1327,9 +3089,82 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
             throw new IllegalArgumentException("Controllable properties cannot be null or empty");
         }
 
+        // Pan, tilt and zoom changes of the same list are applied with a single setposition command
+        Integer pan = null;
+        Integer tilt = null;
+        Integer zoom = null;
         for (ControllableProperty controllableProperty : list) {
-            controlProperty(controllableProperty);
+            String property = controllableProperty.getProperty();
+            String value = String.valueOf(controllableProperty.getValue());
+            switch (property) {
+                case CAMERA_LABEL_PAN:
+                    pan = parseCameraPositionValue(value);
+                    break;
+                case CAMERA_LABEL_TILT:
+                    tilt = parseCameraPositionValue(value);
+                    break;
+                case CAMERA_LABEL_ZOOM:
+                    zoom = parseCameraPositionValue(value);
+                    break;
+                default:
+                    controlProperty(controllableProperty);
+                    continue;
+            }
+            markControlGroupDirty(property);
+            updateLocalControllableProperty(property, value);
+        }
+        if (pan != null || tilt != null || zoom != null) {
+            moveCamera(pan, tilt, zoom);
+        }
+    }
+
+    /**
+     * Create {@link #RESPONSE_CACHE_TTLS}
+     *
+     * @return read commands, mapped to the time to live of their responses, in milliseconds
+     */
+    private static Map<String, Long> createResponseCacheTtls() {
+        Map<String, Long> ttls = new HashMap<>();
+        ttls.put(GET_MUTE_STATUS, 10000L);
+        ttls.put(String.format(VOLUME, GET), 10000L);
+        ttls.put(CAMERA_NEAR_GETPOSITION, 10000L);
+        for (String command : Arrays.asList(VIDEOMUTE, CAMERA_INVERT_NEAR, CAMERA_NEAR_TRACKING, CAMERA_NEAR_TRACKING_CALIBRATE,
+                CAMERA_NEAR_TRACKING_FRAMING, CAMERA_NEAR_TRACKING_MODE, CAMERA_NEAR_TRACKING_PARTICIPANT, CAMERA_NEAR_TRACKING_PIP,
+                CAMERA_NEAR_TRACKING_WAKE, CAMERA_NEAR_TRACKING_SPEED)) {
+            ttls.put(String.format(command, GET), 30000L);
         }
+        ttls.put(SYSTEMSETTING_GET_SIPREGISTRARSERVER, 300000L);
+        ttls.put(GATEKEEPERIP_GET, 300000L);
+        return Collections.unmodifiableMap(ttls);
+    }
+
+    /**
+     * Map control commands to the cached read commands, whose responses they make stale
+     *
+     * @return prefixes of the control commands, mapped to the read commands
+     */
+    private static Map<String, String> createResponseCacheInvalidations() {
+        Map<String, String> invalidations = new HashMap<>();
+        invalidations.put(MUTE_NEAR_ON, GET_MUTE_STATUS);
+        invalidations.put(MUTE_NEAR_OFF, GET_MUTE_STATUS);
+        invalidations.put(String.format(VOLUME, SET), String.format(VOLUME, GET));
+        invalidations.put(commandPrefix(CAMERA_NEAR_SETPOSITION), CAMERA_NEAR_GETPOSITION);
+        for (String command : Arrays.asList(VIDEOMUTE, CAMERA_INVERT_NEAR, CAMERA_NEAR_TRACKING, CAMERA_NEAR_TRACKING_CALIBRATE,
+                CAMERA_NEAR_TRACKING_FRAMING, CAMERA_NEAR_TRACKING_MODE, CAMERA_NEAR_TRACKING_PARTICIPANT, CAMERA_NEAR_TRACKING_PIP,
+                CAMERA_NEAR_TRACKING_WAKE, CAMERA_NEAR_TRACKING_SPEED)) {
+            invalidations.put(commandPrefix(command), String.format(command, GET));
+        }
+        return Collections.unmodifiableMap(invalidations);
+    }
+
+    /**
+     * Retrieves the constant part of the command template
+     *
+     * @param template command template, e.g. "videomute near %s"
+     * @return part of the template up to the first argument, e.g. "videomute near "
+     */
+    private static String commandPrefix(String template) {
+        return template.substring(0, template.indexOf('%'));
     }
 
     /**
@@ -1356,7 +3191,7 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      * @param rawCallStatistics the data to parse the stats from, if null we query the device for this
      * @return CallStats with only callId and remoteAddress populated
      */
-    private static CallStats parseCallIdAndRemoteAddress(String[] rawCallStatistics) throws Exception {
+    private static CallStats parseCallIdAndRemoteAddress(String[] rawCallStatistics) {
         CallStats callStats = null;
         if (null != rawCallStatistics && 1 < rawCallStatistics.length) {
             callStats = new CallStats();
@@ -1369,6 +3204,10 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     }
 
     private String[] retrieveRawCallStatistics() throws Exception {
+        NotificationListener listener = notificationListener;
+        if (listener != null && listener.isCallStateKnown()) {
+            return listener.getActiveCall();
+        }
         String activeCallStatus = send(GET_CALL_STATE);
         if (!StringUtils.isNullOrEmpty(activeCallStatus, true)) {
             String[] callInfoArray = activeCallStatus.split(TOKEN_SEPERATOR);
@@ -1384,10 +3223,12 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
     /**
      * Retrieves H323 and SIP registration stats. Returns null if registration status cannot be obtained or not applicable
      *
+     * @param status      {@link #STATUS} command result
+     * @param statusLines {@link #STATUS} command result, parsed by {@link #STATUS_PARSER}
      * @return {@link RegistrationStatus}
      * @throws Exception if any error occurs
      */
-    private RegistrationStatus extractRegistrationStatus(String status) throws Exception {
+    private RegistrationStatus extractRegistrationStatus(String status, Map<String, String> statusLines) throws Exception {
         RegistrationStatus registrationStatus = new RegistrationStatus();
         if (NULL_STATISTIC.equals(status)) {
             // If for any specific reason 'status' result is not available (due to an error) -
@@ -1411,7 +3252,7 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
             registrationStatus.setH323Gatekeeper(gatekeeperIpStringMatcher.group());
         }
 
-        String gateKeeper = StringUtils.getDataBetween(status, "gatekeeper ", LINE_BREAKER);
+        String gateKeeper = statusLines.get("gatekeeper");
         if (gateKeeper != null) {
             switch (gateKeeper) {
                 case "online": {
@@ -1429,7 +3270,7 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
                     break;
             }
         }
-        String registrar = StringUtils.getDataBetween(status, "sipserver ", LINE_BREAKER);
+        String registrar = statusLines.get("sipserver");
         if (registrar != null) {
             switch (registrar) {
                 case "online": {
@@ -1488,7 +3329,7 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
 
     /**
      * For better usability, emergency delivery operations, triggered by control actions, end up with receiving latest
-     * statistics values (saved in {@link #localStatistics}) that are updated with updated controllable properties values
+     * statistics values (saved in {@link #statisticsSnapshot}) that are updated with updated controllable properties values
      * before being returned. It is done in order to eliminate timeout errors and reduce waiting time between control
      * operations (so all the controls that happen during certain period of time are not interrupted by the emergency
      * delivery operations)
@@ -1497,29 +3338,8 @@ public class PolycomGroupSeries extends SshCommunicator implements CallControlle
      * @param value    to set
      */
     private void updateLocalControllableProperty(String property, String value) {
-        if (localStatistics == null) {
-            return;
-        }
-        localStatistics.getControllableProperties().stream().filter(cp -> cp.getName().equals(property)).findFirst().ifPresent(cp -> {
-            cp.setValue(value);
-            cp.setTimestamp(new Date());
-        });
-    }
-
-    /**
-     * Update timestamp of the latest control operation
-     */
-    private void updateLatestControlTimestamp() {
-        latestControlTimestamp = System.currentTimeMillis();
-    }
-
-    /***
-     * Check whether the control operations cooldown has ended
-     *
-     * @return boolean value indicating whether the cooldown has ended or not
-     */
-    private boolean isValidControlCoolDown() {
-        return (System.currentTimeMillis() - latestControlTimestamp) < CONTROL_OPERATION_COOLDOWN_MS;
+        Date timestamp = new Date();
+        statisticsSnapshot.updateAndGet(snapshot -> snapshot.withControllableProperty(property, value, timestamp));
     }
 }
 
@@ -1540,8 +3360,8 @@ callinfo:3:KOP.Lab.HDX9000:67.110.19.31:64:connected:muted:outgoing:videocall
 callinfo end
 
  GET_ADVANCED_STATS = "advnetstats"
- Data returned from "advnetstats" when in a call is shown below.  This string is first parsed with StringTokenizer, and then 
- parsed with the ":" character to extract data.
+ Data returned from "advnetstats" when in a call is shown below.  This string is scanned by CallStatisticsParser in a single pass,
+ whitespace separated tokens are split at the ":" character to extract data.
 
 call:0 tar:16 K rar:16 K tvr:48 K rvr:48 K
 tvru:42 K rvru:43 K tvfr:29 rvfr:29 vfe:0
@@ -1581,8 +3401,8 @@ rsid Remote system id
 
 
  GET_NETWORK_STATS = "netstats";
- Data returned from "netstats" when in a call is shown below.  This string is first parsed with StringTokenizer, and then 
- parsed with the ":" character to extract data.
+ Data returned from "netstats" when in a call is shown below.  This string is scanned by CallStatisticsParser in a single pass,
+ whitespace separated tokens are split at the ":" character to extract data.
 
 call:0 txrate:64 K rxrate:64 K pktloss:0 %pktloss:0.0 %
 tvp:H.264 rvp:H.264 tvf:640x368 rvf:SIF tap:G.722.1 rap:G.722.1 tcp:H.323 rcp:H.323
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Responses of the read commands, kept for the time to live of the command, so the values that rarely change (e.g. volume
+ * level or camera tracking mode) are not requested from the device with every statistics poll.
+ * <p>
+ * Only the commands with a time to live are cached. A cached response is dropped once a command, that changes the value read
+ * by the cached command, is sent. Commands that change the values are mapped to the read commands explicitly, by the command
+ * prefix, e.g. "volume set " prefix drops the response of "volume get" once "volume set 30" is sent.
+ * <p>
+ * A response, read before the value has been changed, may arrive after the cached response has been dropped (e.g. when the
+ * control command is sent over a separate session). The time every read command has been invalidated at is kept, so such a
+ * response is not cached.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ResponseCache {
+    private final Map<String, Long> ttls;
+    private final Map<String, String> invalidations;
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    /**
+     * Read commands, mapped to the time their responses have been dropped at, in milliseconds. Guarded by this.
+     */
+    private final Map<String, Long> invalidationTimestamps = new HashMap<>();
+    /**
+     * Time all the responses have been dropped at, in milliseconds. Guarded by this.
+     */
+    private long clearTimestamp;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * ResponseCache constructor
+     *
+     * @param ttls          read commands to cache, mapped to the time to live of their responses, in milliseconds
+     * @param invalidations prefixes of the commands, that change the values read by the cached commands, mapped to the read command
+     */
+    ResponseCache(Map<String, Long> ttls, Map<String, String> invalidations) {
+        this.ttls = ttls;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * Check whether the command is cached
+     *
+     * @param command command to check
+     * @return true if the command has a time to live
+     */
+    boolean isCacheable(String command) {
+        return ttls.containsKey(command);
+    }
+
+    /**
+     * Retrieves cached response of the command, if it has not expired yet
+     *
+     * @param command command sent
+     * @param now     current timestamp, in milliseconds
+     * @return cached response, or null if the command is not cached or has expired
+     */
+    String get(String command, long now) {
+        Long ttl = ttls.get(command);
+        if (ttl == null) {
+            return null;
+        }
+        CachedResponse response = responses.get(command);
+        if (response == null || now - response.timestamp >= ttl) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return response.response;
+    }
+
+    /**
+     * Check whether the cached response of the command has not expired yet, with no hit or miss counted
+     *
+     * @param command command sent
+     * @param now     current timestamp, in milliseconds
+     * @return true if the response of the command may be taken from the cache
+     */
+    boolean contains(String command, long now) {
+        Long ttl = ttls.get(command);
+        CachedResponse response = responses.get(command);
+        return ttl != null && response != null && now - response.timestamp < ttl;
+    }
+
+    /**
+     * Store response of the command, if it's cacheable, and the command has not been sent before its response has been dropped last time
+     *
+     * @param command   command sent
+     * @param response  response of the command
+     * @param timestamp time the command has been sent at, in milliseconds
+     */
+    synchronized void put(String command, String response, long timestamp) {
+        if (response == null || !ttls.containsKey(command) || timestamp < clearTimestamp) {
+            return;
+        }
+        Long invalidationTimestamp = invalidationTimestamps.get(command);
+        if (invalidationTimestamp == null || timestamp >= invalidationTimestamp) {
+            responses.put(command, new CachedResponse(response, timestamp));
+        }
+    }
+
+    /**
+     * Drop cached response of the command, that reads the value changed by the given command
+     *
+     * @param command command that has been sent to the device
+     */
+    synchronized void invalidate(String command) {
+        for (Map.Entry<String, String> invalidation : invalidations.entrySet()) {
+            if (command.startsWith(invalidation.getKey()) && !command.equals(invalidation.getValue())) {
+                invalidationTimestamps.put(invalidation.getValue(), System.currentTimeMillis());
+                responses.remove(invalidation.getValue());
+            }
+        }
+    }
+
+    /**
+     * Drop all the cached responses
+     */
+    synchronized void clear() {
+        clearTimestamp = System.currentTimeMillis();
+        responses.clear();
+    }
+
+    /**
+     * Retrieves number of responses, taken from the cache
+     *
+     * @return number of cache hits
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Retrieves number of cacheable commands, that have not been found in the cache, or have expired
+     *
+     * @return number of cache misses
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    private static final class CachedResponse {
+        private final String response;
+        private final long timestamp;
+
+        private CachedResponse(String response, long timestamp) {
+            this.response = response;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Incremental end-of-response detection for a single in-flight command, or for a batch of commands written at once.
+ * <p>
+ * The framer is fed with a growing (append-only) response, and keeps its partial-match state between calls, so every
+ * character of the response is scanned only once, no matter how many read chunks it arrives in.
+ * <p>
+ * For a batch of commands, a response of a command ends on a line that matches one of the terminators, and is followed by
+ * the echo of the next command of the batch. The echo check is required because some terminators (e.g. "Model:*") may match
+ * in the middle of a multi-line output. The response of the last command (or of the only command) ends when the whole
+ * response matches one of the terminators, same as for a single command.
+ * <p>
+ * A device may also echo the whole batch ahead of the responses (typeahead), so the responses have no echoes to be told apart
+ * by. Such output is reported by {@link #isTypeahead()} as soon as the second command echo follows the first one.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ResponseFramer {
+    private static final String LINE_BREAKER = "\r\r\n";
+    private static final int LINE_INCOMPLETE = -1;
+    private static final int LINE_MISMATCH = 0;
+    private static final int LINE_MATCH = 1;
+
+    private final TerminatorMatcher.Scanner errorScanner;
+    private final TerminatorMatcher.Scanner successScanner;
+    private final List<String> commands;
+
+    /**
+     * End positions of the framed responses
+     */
+    private final List<Integer> responseEnds = new ArrayList<>();
+    /**
+     * Indexes of the framed responses that have matched an error terminator
+     */
+    private final BitSet failedResponses = new BitSet();
+
+    private int lineSearchPosition;
+    /**
+     * End of the terminated line that is waiting for the next command echo to arrive, -1 if there's none
+     */
+    private int pendingLineEnd = -1;
+    private String pendingErrorTerminator;
+    private String errorTerminator;
+    private String successTerminator;
+    /**
+     * Whether the line, following the first command echo, has been checked for the echo of the second command of the batch
+     */
+    private boolean typeaheadChecked;
+    private boolean typeahead;
+
+    /**
+     * ResponseFramer constructor
+     *
+     * @param errorMatcher   compiled error terminators
+     * @param successMatcher compiled success terminators
+     * @param commands       commands of the batch, in the order they were written, or null when framing a single response
+     */
+    ResponseFramer(TerminatorMatcher errorMatcher, TerminatorMatcher successMatcher, List<String> commands) {
+        errorScanner = errorMatcher.newScanner();
+        successScanner = successMatcher.newScanner();
+        this.commands = commands;
+    }
+
+    /**
+     * Consume characters appended to the response since the previous call
+     *
+     * @param response growing response, characters that have already been consumed must not change
+     * @return true if the response (all the responses, for a batch) is complete, or if the batch has been echoed ahead of
+     * the responses, false otherwise
+     */
+    boolean append(CharSequence response) {
+        if (commands != null && commands.size() > 1 && !typeaheadChecked) {
+            int echoEnd = indexOf(response, '\n');
+            if (echoEnd < 0) {
+                return false;
+            }
+            int echo = lineContains(response, echoEnd + 1, commands.get(1));
+            if (echo == LINE_INCOMPLETE) {
+                return false;
+            }
+            typeaheadChecked = true;
+            typeahead = echo == LINE_MATCH;
+            if (typeahead) {
+                return true;
+            }
+        }
+        if (commands != null) {
+            while (responseEnds.size() < commands.size() - 1) {
+                if (pendingLineEnd < 0) {
+                    int lineEnd = indexOfLineBreaker(response, lineSearchPosition);
+                    if (lineEnd < 0) {
+                        lineSearchPosition = Math.max(lineSearchPosition, response.length() - LINE_BREAKER.length() + 1);
+                        break;
+                    }
+                    lineSearchPosition = lineEnd + LINE_BREAKER.length();
+                    pendingErrorTerminator = errorScanner.match(response, lineSearchPosition);
+                    if (pendingErrorTerminator == null && successScanner.match(response, lineSearchPosition) == null) {
+                        continue;
+                    }
+                    pendingLineEnd = lineSearchPosition;
+                }
+                int echo = lineContains(response, pendingLineEnd, commands.get(responseEnds.size() + 1));
+                if (echo == LINE_INCOMPLETE) {
+                    break;
+                }
+                if (echo == LINE_MATCH) {
+                    closeResponse(pendingLineEnd, pendingErrorTerminator != null);
+                }
+                pendingLineEnd = -1;
+            }
+            if (responseEnds.size() < commands.size() - 1) {
+                return false;
+            }
+        }
+        int length = response.length();
+        errorTerminator = errorScanner.match(response, length);
+        successTerminator = errorTerminator == null ? successScanner.match(response, length) : null;
+        if (errorTerminator == null && successTerminator == null) {
+            return false;
+        }
+        if (commands != null) {
+            closeResponse(length, errorTerminator != null);
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the batch of commands has been echoed ahead of the responses, so that the responses cannot be split
+     *
+     * @return true if the second command echo has followed the first one, false otherwise
+     */
+    boolean isTypeahead() {
+        return typeahead;
+    }
+
+    /**
+     * Retrieves error terminator the complete response has matched
+     *
+     * @return matching error terminator, or null if the response has matched a success terminator (or is not complete)
+     */
+    String getErrorTerminator() {
+        return errorTerminator;
+    }
+
+    /**
+     * Retrieves success terminator the complete response has matched
+     *
+     * @return matching success terminator, or null if the response has matched an error terminator (or is not complete)
+     */
+    String getSuccessTerminator() {
+        return successTerminator;
+    }
+
+    /**
+     * Split complete batch response into per-command responses
+     *
+     * @param response complete response, the framer has been fed with
+     * @return list of per-command responses, in the order of commands
+     */
+    List<String> getResponses(String response) {
+        List<String> responses = new ArrayList<>(responseEnds.size());
+        int start = 0;
+        for (int end : responseEnds) {
+            responses.add(response.substring(start, end));
+            start = end;
+        }
+        return responses;
+    }
+
+    /**
+     * Check whether the response of a batched command has matched an error terminator
+     *
+     * @param index index of the command within the batch
+     * @return true if the response has matched an error terminator, false otherwise
+     */
+    boolean isFailed(int index) {
+        return failedResponses.get(index);
+    }
+
+    private void closeResponse(int end, boolean failed) {
+        if (failed) {
+            failedResponses.set(responseEnds.size());
+        }
+        responseEnds.add(end);
+        lineSearchPosition = end;
+        errorScanner.reset(end);
+        successScanner.reset(end);
+    }
+
+    /**
+     * Find the first position of the character
+     */
+    private static int indexOf(CharSequence source, char c) {
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the next {@link #LINE_BREAKER} position, starting from the given position
+     */
+    private static int indexOfLineBreaker(CharSequence source, int from) {
+        int last = source.length() - LINE_BREAKER.length();
+        for (int i = from; i <= last; i++) {
+            if (source.charAt(i) == '\r' && source.charAt(i + 1) == '\r' && source.charAt(i + 2) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether the line, starting at the given position, contains the value
+     *
+     * @return {@link #LINE_MATCH} if the value is found, {@link #LINE_MISMATCH} if the line is complete and does not
+     * contain the value, {@link #LINE_INCOMPLETE} if the value is not found and the line is not complete yet
+     */
+    private static int lineContains(CharSequence source, int lineStart, String value) {
+        int length = source.length();
+        int lineEnd = lineStart;
+        while (lineEnd < length && source.charAt(lineEnd) != '\n') {
+            lineEnd++;
+        }
+        for (int i = lineStart; i <= lineEnd - value.length(); i++) {
+            if (regionMatches(source, i, value)) {
+                return LINE_MATCH;
+            }
+        }
+        return lineEnd < length ? LINE_MISMATCH : LINE_INCOMPLETE;
+    }
+
+    private static boolean regionMatches(CharSequence source, int offset, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (source.charAt(offset + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
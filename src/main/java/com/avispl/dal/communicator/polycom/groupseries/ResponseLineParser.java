@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Line oriented parser of "key value" command responses, such as {@code status} and {@code whoami}.
+ * <p>
+ * The response is walked once, line by line. Every line is split at the first separator character into a key and a value,
+ * and the key is looked up in the table of statistics names, declared with {@link #map(String, String)}. Keys are matched
+ * as a whole, so e.g. "camera" never matches "trackablecamera" line.
+ * <p>
+ * Instances are immutable once configured, and may be shared between threads.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ResponseLineParser {
+    private static final String PROMPT = "->";
+
+    private final char separator;
+    private final String unknownKeyPrefix;
+    private final Map<String, String> statisticsNames = new HashMap<>();
+    private final Set<String> ignoredKeys = new HashSet<>();
+
+    /**
+     * ResponseLineParser constructor
+     *
+     * @param separator        character that separates the key from the value
+     * @param unknownKeyPrefix prefix of statistics names, used for the keys that are not declared, see
+     *                         {@link #populate(Map, Map, boolean)}
+     */
+    ResponseLineParser(char separator, String unknownKeyPrefix) {
+        this.separator = separator;
+        this.unknownKeyPrefix = unknownKeyPrefix;
+    }
+
+    /**
+     * Declare statistic name for the key
+     *
+     * @param key           key, as reported by the device
+     * @param statisticName name of the statistic to report the value as
+     * @return this instance
+     */
+    ResponseLineParser map(String key, String statisticName) {
+        statisticsNames.put(key, statisticName);
+        return this;
+    }
+
+    /**
+     * Declare the key that is never reported as a statistic, e.g. the end marker of the response
+     *
+     * @param key key, as reported by the device
+     * @return this instance
+     */
+    ResponseLineParser ignore(String key) {
+        ignoredKeys.add(key);
+        return this;
+    }
+
+    /**
+     * Split the response into lines, and the lines into keys and values. Lines without a separator (e.g. command echo) and
+     * lines with an empty value are skipped. If the key is reported more than once - the first value is kept.
+     *
+     * @param response command response
+     * @return values, keyed by the trimmed keys, in the order reported by the device
+     */
+    Map<String, String> parse(CharSequence response) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (response == null) {
+            return values;
+        }
+        int length = response.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            int separatorIndex = -1;
+            while (lineEnd < length && response.charAt(lineEnd) != '\r' && response.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int keyStart = skipPrompt(response, lineStart, lineEnd);
+            for (int i = keyStart; i < lineEnd && separatorIndex < 0; i++) {
+                if (response.charAt(i) == separator) {
+                    separatorIndex = i;
+                }
+            }
+            if (separatorIndex > keyStart) {
+                String key = trim(response, keyStart, separatorIndex);
+                String value = trim(response, separatorIndex + 1, lineEnd);
+                if (!key.isEmpty() && !value.isEmpty() && !values.containsKey(key)) {
+                    values.put(key, value);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return values;
+    }
+
+    /**
+     * Put the values to the statistics map, under the declared statistics names
+     *
+     * @param values          values, returned by {@link #parse(CharSequence)}
+     * @param statistics      statistics map to populate
+     * @param includeUnknown  whether the values of the keys that are not declared should be reported too, under
+     *                        {@link #unknownKeyPrefix} + key name
+     */
+    void populate(Map<String, String> values, Map<String, String> statistics, boolean includeUnknown) {
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            String statisticName = statisticsNames.get(value.getKey());
+            if (statisticName == null && includeUnknown && unknownKeyPrefix != null && !ignoredKeys.contains(value.getKey())) {
+                statisticName = unknownKeyPrefix + value.getKey();
+            }
+            if (statisticName != null) {
+                statistics.put(statisticName, value.getValue());
+            }
+        }
+    }
+
+    private static int skipPrompt(CharSequence source, int from, int to) {
+        int i = from;
+        while (i < to && source.charAt(i) == ' ') {
+            i++;
+        }
+        if (to - i >= PROMPT.length() && source.charAt(i) == PROMPT.charAt(0) && source.charAt(i + 1) == PROMPT.charAt(1)) {
+            i += PROMPT.length();
+        }
+        while (i < to && source.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static String trim(CharSequence source, int from, int to) {
+        int start = from;
+        int end = to;
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return source.subSequence(start, end).toString();
+    }
+}
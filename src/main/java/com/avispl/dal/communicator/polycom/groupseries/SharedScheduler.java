@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded scheduler, shared by all the adapter instances of the JVM, that times the delayed work of the adapters
+ * (coalesced control operations, control group refreshes, dialed call status checks) instead of a thread per adapter instance.
+ * <p>
+ * The scheduler is created on first use and is never shut down, its threads are daemon threads. The number of threads is
+ * {@code polycom.groupseries.sharedSchedulerThreads} system property, or the number of available processors, but no less than 2.
+ * Tasks must not be long running, since every task keeps one of the shared threads busy until it's complete: work that talks
+ * to the device is handed over to the worker of the adapter, so an unresponsive device does not hold the shared threads.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class SharedScheduler {
+    private static final int POOL_SIZE = Math.max(2, Integer.getInteger("polycom.groupseries.sharedSchedulerThreads",
+            Runtime.getRuntime().availableProcessors()));
+
+    private static ScheduledThreadPoolExecutor executor;
+
+    private SharedScheduler() {
+    }
+
+    /**
+     * Retrieves {@link #executor}, creating it if necessary
+     *
+     * @return shared scheduler
+     */
+    static synchronized ScheduledExecutorService get() {
+        if (executor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = new ScheduledThreadPoolExecutor(POOL_SIZE, runnable -> {
+                Thread thread = new Thread(runnable, "PolycomGroupSeries shared #" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Retrieves number of tasks, waiting to be run by the shared scheduler
+     *
+     * @return number of scheduled tasks, 0 if the scheduler has not been created yet
+     */
+    static synchronized int getQueueSize() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.dal.communicator.polycom.groupseries.utils.TerminatorMatcher;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+
+import javax.security.auth.login.FailedLoginException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shell channel to the device, opened on an SSH session managed by the adapter itself (rather than by the
+ * {@link com.avispl.symphony.dal.communicator.SshCommunicator}), so multiple channels and sessions may be used side by side.
+ * <p>
+ * The channel waits for the login banner once opened, and then may be used either for request/response exchange, with
+ * responses framed by {@link ResponseFramer} same way the main channel does, or as a raw stream of the device output.
+ * A channel instance is not thread safe, and is expected to be used by a single thread at a time.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class ShellChannel {
+    private static final int READ_INTERVAL_MS = 100;
+
+    private final String host;
+    private final Channel channel;
+    private final InputStream in;
+    private final PrintStream out;
+    private final int timeout;
+    private final byte[] buffer = new byte[4096];
+
+    /**
+     * Open a shell channel on the session, and wait for the login banner to complete
+     *
+     * @param session             connected SSH session
+     * @param host                device hostname, used for error reporting
+     * @param timeout             channel connection and read timeout, in milliseconds
+     * @param loginErrorMatcher   compiled login error terminators
+     * @param loginSuccessMatcher compiled login success terminators
+     * @throws Exception if the channel cannot be opened, or the login banner does not match success terminators
+     */
+    ShellChannel(Session session, String host, int timeout, TerminatorMatcher loginErrorMatcher, TerminatorMatcher loginSuccessMatcher) throws Exception {
+        this.host = host;
+        this.timeout = timeout;
+        channel = session.openChannel("shell");
+        in = channel.getInputStream();
+        channel.connect(timeout);
+        out = new PrintStream(channel.getOutputStream(), true);
+        ResponseFramer framer = new ResponseFramer(loginErrorMatcher, loginSuccessMatcher, null);
+        String banner = read(null, framer);
+        if (framer.getErrorTerminator() != null) {
+            close();
+            throw new FailedLoginException("Login failed: " + banner);
+        }
+    }
+
+    /**
+     * Create and connect an SSH session, with the same settings the main adapter session uses
+     *
+     * @param host     device hostname
+     * @param port     SSH port
+     * @param login    SSH login
+     * @param password SSH password
+     * @param timeout  connection timeout, in milliseconds
+     * @return connected session
+     * @throws JSchException if the session cannot be established
+     */
+    static Session openSession(String host, int port, String login, String password, int timeout) throws JSchException {
+        Session session = new JSch().getSession(login, host, port);
+        session.setPassword(password);
+        session.setConfig("StrictHostKeyChecking", "no");
+        session.setTimeout(timeout);
+        session.connect(timeout);
+        return session;
+    }
+
+    /**
+     * Send command and wait for the complete response
+     *
+     * @param command        command to send
+     * @param errorMatcher   compiled command error terminators
+     * @param successMatcher compiled command success terminators
+     * @return command response
+     * @throws CommandFailureException if the response has matched an error terminator
+     * @throws Exception               if the channel is closed, or the response is not complete within the timeout
+     */
+    String send(String command, TerminatorMatcher errorMatcher, TerminatorMatcher successMatcher) throws Exception {
+        write(command);
+        ResponseFramer framer = new ResponseFramer(errorMatcher, successMatcher, null);
+        String response = read(command, framer);
+        if (framer.getErrorTerminator() != null) {
+            throw new CommandFailureException(host, command, response);
+        }
+        return response;
+    }
+
+    /**
+     * Write command without waiting for the response
+     *
+     * @param command command to write
+     */
+    void write(String command) {
+        out.print(command + "\n");
+        out.flush();
+    }
+
+    /**
+     * Retrieves channel input stream, to read the device output directly
+     *
+     * @return channel input stream
+     */
+    InputStream getInputStream() {
+        return in;
+    }
+
+    /**
+     * Check whether the channel is still open
+     *
+     * @return true if the channel is connected, false otherwise
+     */
+    boolean isConnected() {
+        return channel.isConnected() && !channel.isClosed();
+    }
+
+    /**
+     * Close the channel, the session remains open
+     */
+    void close() {
+        channel.disconnect();
+    }
+
+    private String read(String command, ResponseFramer framer) throws Exception {
+        StringBuilder response = new StringBuilder();
+        long deadline = System.currentTimeMillis() + timeout;
+        while (true) {
+            if (in.available() > 0) {
+                int count = in.read(buffer);
+                if (count < 0) {
+                    throw new IOException("Connection was forcible closed");
+                }
+                response.append(new String(buffer, 0, count, StandardCharsets.UTF_8));
+                if (in.available() == 0 && framer.append(response)) {
+                    return response.toString();
+                }
+                continue;
+            }
+            if (!isConnected()) {
+                throw new IOException("Channel to " + host + " was closed. Command sent was (null if logging in): " + command);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IOException("The read operation timed out. Command sent was (null if logging in): " + command + " Data read so far: " + response);
+            }
+            Thread.sleep(READ_INTERVAL_MS);
+        }
+    }
+}
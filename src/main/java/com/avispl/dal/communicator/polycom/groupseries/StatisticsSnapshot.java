@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.AudioChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.EndpointStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.RegistrationStatus;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Statistics, collected by the latest statistics poll, along with the changes applied by control operations and device
+ * notifications since then.
+ * <p>
+ * Snapshots are never modified once published: every change produces a new snapshot, that shares all the unchanged
+ * statistics with the previous one. This way the statistics may be read and updated by control operations without waiting
+ * for the statistics poll that is in progress.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class StatisticsSnapshot {
+    private final ExtendedStatistics extendedStatistics;
+    private final EndpointStatistics endpointStatistics;
+
+    /**
+     * StatisticsSnapshot constructor
+     *
+     * @param extendedStatistics extended statistics and controllable properties, null if not collected yet
+     * @param endpointStatistics call statistics
+     */
+    StatisticsSnapshot(ExtendedStatistics extendedStatistics, EndpointStatistics endpointStatistics) {
+        this.extendedStatistics = extendedStatistics;
+        this.endpointStatistics = endpointStatistics;
+    }
+
+    /**
+     * Retrieves {@link #extendedStatistics}
+     *
+     * @return value of {@link #extendedStatistics}
+     */
+    ExtendedStatistics getExtendedStatistics() {
+        return extendedStatistics;
+    }
+
+    /**
+     * Retrieves {@link #endpointStatistics}
+     *
+     * @return value of {@link #endpointStatistics}
+     */
+    EndpointStatistics getEndpointStatistics() {
+        return endpointStatistics;
+    }
+
+    /**
+     * Whether both extended and endpoint statistics have been collected
+     *
+     * @return true if the snapshot may be reported instead of polling the device
+     */
+    boolean isComplete() {
+        return extendedStatistics != null && endpointStatistics != null;
+    }
+
+    /**
+     * Create a copy of the snapshot with the controllable property value changed
+     *
+     * @param property  name of the controllable property
+     * @param value     new value of the controllable property
+     * @param timestamp timestamp of the change
+     * @return new snapshot, or this snapshot if it has no such controllable property
+     */
+    StatisticsSnapshot withControllableProperty(String property, String value, Date timestamp) {
+        if (extendedStatistics == null || extendedStatistics.getControllableProperties() == null) {
+            return this;
+        }
+        List<AdvancedControllableProperty> controls = new ArrayList<>(extendedStatistics.getControllableProperties());
+        boolean changed = false;
+        for (int i = 0; i < controls.size(); i++) {
+            AdvancedControllableProperty control = controls.get(i);
+            if (control.getName().equals(property)) {
+                controls.set(i, new AdvancedControllableProperty(control.getName(), timestamp, control.getType(), value));
+                changed = true;
+                break;
+            }
+        }
+        if (!changed) {
+            return this;
+        }
+        return new StatisticsSnapshot(copy(extendedStatistics, controls), endpointStatistics);
+    }
+
+    /**
+     * Create a copy of the snapshot with the controllable properties values, that have been changed by control operations
+     * since the given timestamp, taken from the other snapshot. Used to keep the values set by the operator while the statistics
+     * poll is in progress, since the poll may have collected the values before the control operation has been applied.
+     *
+     * @param other snapshot to take the controllable properties values from
+     * @param since timestamp of the statistics poll start
+     * @return new snapshot, or this snapshot if there are no such controllable properties
+     */
+    StatisticsSnapshot withControlsChangedSince(StatisticsSnapshot other, long since) {
+        if (other == null || other.extendedStatistics == null || other.extendedStatistics.getControllableProperties() == null) {
+            return this;
+        }
+        StatisticsSnapshot snapshot = this;
+        for (AdvancedControllableProperty control : other.extendedStatistics.getControllableProperties()) {
+            Date timestamp = control.getTimestamp();
+            if (timestamp != null && timestamp.getTime() >= since) {
+                snapshot = snapshot.withControllableProperty(control.getName(), String.valueOf(control.getValue()), timestamp);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Create a copy of the snapshot with the values of the given controllable properties taken from the other snapshot.
+     * Used to keep the values set by the operator until the controllable properties are read from the device again.
+     *
+     * @param other      snapshot to take the controllable properties values from
+     * @param properties names of the controllable properties
+     * @return new snapshot, or this snapshot if there are no such controllable properties
+     */
+    StatisticsSnapshot withControls(StatisticsSnapshot other, Set<String> properties) {
+        if (properties.isEmpty() || other == null || other.extendedStatistics == null || other.extendedStatistics.getControllableProperties() == null) {
+            return this;
+        }
+        StatisticsSnapshot snapshot = this;
+        for (AdvancedControllableProperty control : other.extendedStatistics.getControllableProperties()) {
+            if (properties.contains(control.getName())) {
+                snapshot = snapshot.withControllableProperty(control.getName(), String.valueOf(control.getValue()), control.getTimestamp());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Create a copy of the snapshot with the controllable properties values, that have been read from the device again, unless
+     * the properties have been changed by control operations since the read has started
+     *
+     * @param controls  controllable properties, read from the device
+     * @param since     timestamp of the read start
+     * @param timestamp timestamp to set for the updated controllable properties
+     * @return new snapshot, or this snapshot if there is nothing to update
+     */
+    StatisticsSnapshot withControlsRefreshed(List<AdvancedControllableProperty> controls, long since, Date timestamp) {
+        if (extendedStatistics == null || extendedStatistics.getControllableProperties() == null) {
+            return this;
+        }
+        Map<String, Date> changed = new HashMap<>();
+        for (AdvancedControllableProperty control : extendedStatistics.getControllableProperties()) {
+            changed.put(control.getName(), control.getTimestamp());
+        }
+        StatisticsSnapshot snapshot = this;
+        for (AdvancedControllableProperty control : controls) {
+            Date changedAt = changed.get(control.getName());
+            if (changed.containsKey(control.getName()) && (changedAt == null || changedAt.getTime() < since)) {
+                snapshot = snapshot.withControllableProperty(control.getName(), String.valueOf(control.getValue()), timestamp);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Create a copy of the snapshot with different call statistics
+     *
+     * @param endpointStatistics new call statistics
+     * @return new snapshot
+     */
+    StatisticsSnapshot withEndpointStatistics(EndpointStatistics endpointStatistics) {
+        return new StatisticsSnapshot(extendedStatistics, endpointStatistics);
+    }
+
+    /**
+     * Create a copy of the snapshot with the extended statistics values and registration status replaced by the newer ones
+     *
+     * @param statistics         extended statistics values to replace, controllable properties are kept as they are
+     * @param registrationStatus new registration status, or null to keep the current one
+     * @return new snapshot, or this snapshot if it's not complete
+     */
+    StatisticsSnapshot withStatistics(Map<String, String> statistics, RegistrationStatus registrationStatus) {
+        if (!isComplete()) {
+            return this;
+        }
+        ExtendedStatistics extended = copy(extendedStatistics, extendedStatistics.getControllableProperties());
+        if (extended.getStatistics() == null) {
+            extended.setStatistics(new HashMap<>(statistics));
+        } else {
+            extended.getStatistics().putAll(statistics);
+        }
+        EndpointStatistics endpoint = endpointStatistics;
+        if (registrationStatus != null) {
+            endpoint = copy(endpointStatistics);
+            endpoint.setRegistrationStatus(registrationStatus);
+        }
+        return new StatisticsSnapshot(extended, endpoint);
+    }
+
+    /**
+     * Create a copy of the snapshot with call, audio, video and content channel statistics replaced by the newer ones,
+     * collected for the same call. Mute state of the snapshot is kept.
+     *
+     * @param callData newer call statistics, or null if not collected
+     * @return new snapshot, or this snapshot if it's not in a call, or the statistics are collected for a different call
+     */
+    StatisticsSnapshot withCallStatistics(EndpointStatistics callData) {
+        if (endpointStatistics == null || !endpointStatistics.isInCall() || endpointStatistics.getCallStats() == null
+                || callData == null || callData.getCallStats() == null
+                || !Objects.equals(endpointStatistics.getCallStats().getCallId(), callData.getCallStats().getCallId())) {
+            return this;
+        }
+        EndpointStatistics endpoint = copy(endpointStatistics);
+        endpoint.setCallStats(callData.getCallStats());
+        AudioChannelStats audioChannelStats = callData.getAudioChannelStats();
+        if (audioChannelStats != null) {
+            audioChannelStats = copy(audioChannelStats);
+            if (endpointStatistics.getAudioChannelStats() != null) {
+                audioChannelStats.setMuteTx(endpointStatistics.getAudioChannelStats().getMuteTx());
+            }
+        }
+        endpoint.setAudioChannelStats(audioChannelStats);
+        endpoint.setVideoChannelStats(callData.getVideoChannelStats());
+        endpoint.setContentChannelStats(callData.getContentChannelStats());
+        return new StatisticsSnapshot(extendedStatistics, endpoint);
+    }
+
+    /**
+     * Create statistics to report. Statistics maps and lists are copied, so the snapshot is not affected by the changes
+     * made to the reported statistics.
+     *
+     * @return list of endpoint statistics (if collected), followed by extended statistics (if collected)
+     */
+    List<Statistics> toStatistics() {
+        List<Statistics> statistics = new ArrayList<>(2);
+        if (endpointStatistics != null) {
+            statistics.add(copy(endpointStatistics));
+        }
+        if (extendedStatistics != null) {
+            List<AdvancedControllableProperty> controls = extendedStatistics.getControllableProperties();
+            statistics.add(copy(extendedStatistics, controls == null ? null : new ArrayList<>(controls)));
+        }
+        return statistics;
+    }
+
+    /**
+     * Create a shallow copy of endpoint statistics
+     *
+     * @param endpointStatistics statistics to copy
+     * @return copy of the statistics, that shares channels and call statistics with the original
+     */
+    static EndpointStatistics copy(EndpointStatistics endpointStatistics) {
+        EndpointStatistics copy = new EndpointStatistics();
+        copy.setInCall(endpointStatistics.isInCall());
+        copy.setCallStats(endpointStatistics.getCallStats());
+        copy.setRegistrationStatus(endpointStatistics.getRegistrationStatus());
+        copy.setAudioChannelStats(endpointStatistics.getAudioChannelStats());
+        copy.setVideoChannelStats(endpointStatistics.getVideoChannelStats());
+        copy.setContentChannelStats(endpointStatistics.getContentChannelStats());
+        return copy;
+    }
+
+    /**
+     * Create a copy of audio channel statistics
+     *
+     * @param audioChannelStats statistics to copy
+     * @return copy of the statistics
+     */
+    static AudioChannelStats copy(AudioChannelStats audioChannelStats) {
+        AudioChannelStats copy = new AudioChannelStats();
+        copy.setCodec(audioChannelStats.getCodec());
+        copy.setBitRateRx(audioChannelStats.getBitRateRx());
+        copy.setBitRateTx(audioChannelStats.getBitRateTx());
+        copy.setJitterRx(audioChannelStats.getJitterRx());
+        copy.setJitterTx(audioChannelStats.getJitterTx());
+        copy.setMuteTx(audioChannelStats.getMuteTx());
+        copy.setPacketLossRx(audioChannelStats.getPacketLossRx());
+        copy.setPacketLossTx(audioChannelStats.getPacketLossTx());
+        copy.setPercentPacketLossRx(audioChannelStats.getPercentPacketLossRx());
+        copy.setPercentPacketLossTx(audioChannelStats.getPercentPacketLossTx());
+        return copy;
+    }
+
+    private static ExtendedStatistics copy(ExtendedStatistics extendedStatistics, List<AdvancedControllableProperty> controls) {
+        ExtendedStatistics copy = new ExtendedStatistics();
+        Map<String, String> statistics = extendedStatistics.getStatistics();
+        copy.setStatistics(statistics == null ? null : new HashMap<>(statistics));
+        copy.setControllableProperties(controls);
+        return copy;
+    }
+}
@@ -17,6 +17,46 @@ public final class StringUtils {
 	// TODO need also to report certain errors to the cloud
 	private static final Log LOG = LogFactory.getLog(StringUtils.class);
 
+	/**
+	 * Value returned by {@link #parseInteger(CharSequence, int, int, boolean)} if the range is not a number. {@link Integer#MIN_VALUE} itself
+	 * is not told apart from it, {@link #convertToInteger(String)} should be used where it is a valid value
+	 */
+	public static final int NULL_INTEGER = Integer.MIN_VALUE;
+	/**
+	 * Value returned by {@link #scanInteger(CharSequence, int, int, int)} and {@link #toInteger(long, CharSequence, int, int, int)}
+	 * if the range is not a number, out of int range
+	 */
+	private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+	/**
+	 * Placeholder reported by the device for the statistics that are not available
+	 */
+	private static final String NULL_STATISTIC = "---";
+	/**
+	 * Units that may follow the values reported by the device
+	 */
+	private static final String[] UNITS_SUFFIXES = { "K", "ms", "%", "Hz" };
+
+	/**
+	 * Number parsing modes: plain value (with optional leading and trailing whitespace), value followed by an optional unit,
+	 * and value with all the characters but digits and dots skipped
+	 */
+	private static final int PLAIN = 0;
+	private static final int UNITS = 1;
+	private static final int STRIPPED = 2;
+
+	/**
+	 * Number of significant digits that fit into float (2^24) and double (2^53) mantissa exactly
+	 */
+	private static final int FLOAT_EXACT_DIGITS = 7;
+	private static final int DOUBLE_EXACT_DIGITS = 15;
+	/**
+	 * Powers of ten that are exactly representable as float and double
+	 */
+	private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+	private static final double[] DOUBLE_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+			1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
 
 	/**
 	 * Checks to see if {@code string} is not null or empty
@@ -62,16 +102,10 @@ public final class StringUtils {
 		if (floatString == null) {
 			return null;
 		}
-		Float returnVal = null;
-		try {
-			returnVal = Float.parseFloat(floatString);
-		} catch (Exception ex1) {
-			floatString = floatString.replaceAll("[^0-9.]", "");
-			try {
-				returnVal = Float.parseFloat(floatString);
-			} catch (Exception ex2) {
-				LOG.error("Could not convert string \"" + floatString + "\" to Float", ex2);
-			}
+		float returnVal = parseFloat(floatString, 0, floatString.length(), true);
+		if (Float.isNaN(returnVal)) {
+			logConversionFailure(floatString, "Float");
+			return null;
 		}
 		return returnVal;
 	}
@@ -87,26 +121,12 @@ public final class StringUtils {
 		if (integerString == null) {
 			return null;
 		}
-		Integer returnVal = null;
-		try {
-			returnVal = Integer.parseInt(integerString);
-		} catch (Exception ex1) {
-			try {
-				returnVal = Math.round(Float.parseFloat(integerString));
-			} catch (Exception ex2) {
-				integerString = integerString.replaceAll("[^0-9.]", "");
-				try {
-					returnVal = Integer.parseInt(integerString);
-				} catch (Exception ex3) {
-					try {
-						returnVal = Math.round(Float.parseFloat(integerString));
-					} catch (Exception ex4) {
-						LOG.error("Could not convert string \"" + integerString + "\" to Integer", ex4);
-					}
-				}
-			}
+		long returnVal = parseLenientInteger(integerString, 0, integerString.length());
+		if (returnVal == NOT_A_NUMBER) {
+			logConversionFailure(integerString, "Integer");
+			return null;
 		}
-		return returnVal;
+		return (int) returnVal;
 	}
 
 	/**
@@ -120,27 +140,279 @@ public final class StringUtils {
 		if (doubleString == null) {
 			return null;
 		}
+		double returnVal = parseDouble(doubleString, 0, doubleString.length(), true);
+		if (Double.isNaN(returnVal)) {
+			logConversionFailure(doubleString, "Double");
+			return null;
+		}
+		return returnVal;
+	}
+
+	/**
+	 * Checks to see if the range of {@code source} is the "---" placeholder, reported by the device for the statistics that are not
+	 * available
+	 *
+	 * @param source characters to check
+	 * @param from start of the range, inclusive
+	 * @param to end of the range, exclusive
+	 * @return {@code true} if the range, with leading and trailing whitespace skipped, is "---", {@code false} otherwise
+	 */
+	public static boolean isNullStatistic(CharSequence source, int from, int to) {
+		int start = skipWhitespace(source, from, to);
+		int end = trimWhitespace(source, start, to);
+		if (end - start != NULL_STATISTIC.length()) {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if (source.charAt(i) != '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses an integer value from the range of {@code source}, with no exceptions thrown and no objects created for the values in plain notation.
+	 * Decimal values are rounded, same as {@link Math#round(float)} does.
+	 * <p>
+	 * If {@code lenient} is {@code false}, the value may be followed by one of the units the device reports, optionally separated by whitespace:
+	 * {@code K}, {@code ms}, {@code %} or {@code Hz} (e.g. "64 K", "3ms"), and anything else, including "---", is not a number.<br>
+	 * If {@code lenient} is {@code true}, the value is parsed the way {@link #convertToInteger(String)} does: as is, and if that fails - with
+	 * all the characters but digits and dots skipped.
+	 *
+	 * @param source characters to parse
+	 * @param from start of the range, inclusive
+	 * @param to end of the range, exclusive
+	 * @param lenient whether the characters other than digits and dots should be skipped if the value is not a number
+	 * @return parsed value, or {@link #NULL_INTEGER} if the range is not a number
+	 */
+	public static int parseInteger(CharSequence source, int from, int to, boolean lenient) {
+		long value = lenient ? parseLenientInteger(source, from, to) : toInteger(scanInteger(source, from, to, UNITS), source, from, to, UNITS);
+		return value == NOT_A_NUMBER ? NULL_INTEGER : (int) value;
+	}
+
+	/**
+	 * Parses a float value from the range of {@code source}, with no exceptions thrown and no objects created for the values in plain notation
+	 * of up to 7 significant digits. The result is the same {@link Float#parseFloat(String)} produces.
+	 * <p>
+	 * Units and {@code lenient} mode are handled same way {@link #parseInteger(CharSequence, int, int, boolean)} does.
+	 *
+	 * @param source characters to parse
+	 * @param from start of the range, inclusive
+	 * @param to end of the range, exclusive
+	 * @param lenient whether the characters other than digits and dots should be skipped if the value is not a number
+	 * @return parsed value, or {@link Float#NaN} if the range is not a number
+	 */
+	public static float parseFloat(CharSequence source, int from, int to, boolean lenient) {
+		float value = (float) scanDecimal(source, from, to, lenient ? PLAIN : UNITS, true);
+		if (Float.isNaN(value) && lenient) {
+			value = (float) scanDecimal(source, from, to, STRIPPED, true);
+		}
+		return value;
+	}
+
+	/**
+	 * Parses a double value from the range of {@code source}, with no exceptions thrown and no objects created for the values in plain notation
+	 * of up to 15 significant digits. The result is the same {@link Double#parseDouble(String)} produces.
+	 * <p>
+	 * Units and {@code lenient} mode are handled same way {@link #parseInteger(CharSequence, int, int, boolean)} does.
+	 *
+	 * @param source characters to parse
+	 * @param from start of the range, inclusive
+	 * @param to end of the range, exclusive
+	 * @param lenient whether the characters other than digits and dots should be skipped if the value is not a number
+	 * @return parsed value, or {@link Double#NaN} if the range is not a number
+	 */
+	public static double parseDouble(CharSequence source, int from, int to, boolean lenient) {
+		double value = scanDecimal(source, from, to, lenient ? PLAIN : UNITS, false);
+		if (Double.isNaN(value) && lenient) {
+			value = scanDecimal(source, from, to, STRIPPED, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Parses an integer value the way {@link #convertToInteger(String)} does: as is, and if that fails - with all the characters but digits
+	 * and dots skipped
+	 *
+	 * @return parsed value, or {@link #NOT_A_NUMBER} if the range is not a number
+	 */
+	private static long parseLenientInteger(CharSequence source, int from, int to) {
+		long value = toInteger(scanInteger(source, from, to, PLAIN), source, from, to, PLAIN);
+		if (value == NOT_A_NUMBER) {
+			value = toInteger(scanInteger(source, from, to, STRIPPED), source, from, to, STRIPPED);
+		}
+		return value;
+	}
+
+	/**
+	 * Converts result of {@link #scanInteger(CharSequence, int, int, int)} to int range, parsing the range as a decimal value if it is
+	 * not an integer
+	 *
+	 * @return value in int range, or {@link #NOT_A_NUMBER} if the range is not a number
+	 */
+	private static long toInteger(long integer, CharSequence source, int from, int to, int mode) {
+		if (integer >= Integer.MIN_VALUE && integer <= Integer.MAX_VALUE) {
+			return integer;
+		}
+		float value = (float) scanDecimal(source, from, to, mode, true);
+		return Float.isNaN(value) ? NOT_A_NUMBER : Math.round(value);
+	}
+
+	/**
+	 * Scans integer value: an optional sign and digits only
+	 *
+	 * @return parsed value, or {@link #NOT_A_NUMBER} if the range is not an integer, or does not fit into int range
+	 */
+	private static long scanInteger(CharSequence source, int from, int to, int mode) {
+		int end = mode == STRIPPED ? to : numberEnd(source, from, to, mode);
+		int i = mode == STRIPPED ? from : skipWhitespace(source, from, end);
+		// Integer.parseInt does not accept any whitespace
+		if (mode == PLAIN && (i != from || end != to)) {
+			return NOT_A_NUMBER;
+		}
+		boolean negative = false;
+		if (mode != STRIPPED && i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+			negative = source.charAt(i) == '-';
+			i++;
+		}
+		long value = 0;
+		boolean digits = false;
+		for (; i < end; i++) {
+			char c = source.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (value > Integer.MAX_VALUE) {
+					return NOT_A_NUMBER;
+				}
+				value = value * 10 + (c - '0');
+				digits = true;
+			} else if (mode != STRIPPED || c == '.') {
+				return NOT_A_NUMBER;
+			}
+		}
+		if (!digits) {
+			return NOT_A_NUMBER;
+		}
+		return negative ? -value : value;
+	}
 
-		Double returnVal = null;
-		try {
-			returnVal = Double.parseDouble(doubleString);
-		} catch (Exception ex1) {
-			try {
-				returnVal = (double) Math.round(Float.parseFloat(doubleString));
-			} catch (Exception ex2) {
-				doubleString = doubleString.replaceAll("[^0-9.]", "");
-				try {
-					returnVal = Double.parseDouble(doubleString);
-				} catch (Exception ex3) {
-					try {
-						returnVal = (double) Math.round(Float.parseFloat(doubleString));
-					} catch (Exception ex4) {
-						LOG.error("Could not convert string \"" + doubleString + "\" to Double", ex4);
-					}
+	/**
+	 * Scans decimal value: an optional sign, digits, and an optional fraction. Values of up to {@link #FLOAT_EXACT_DIGITS} (or
+	 * {@link #DOUBLE_EXACT_DIGITS}) significant digits are computed in floating point arithmetic, which is exact for such values,
+	 * longer values are rare and are delegated to {@link Float#parseFloat(String)} (or {@link Double#parseDouble(String)}).
+	 *
+	 * @return parsed value, or {@link Double#NaN} if the range is not a number
+	 */
+	private static double scanDecimal(CharSequence source, int from, int to, int mode, boolean singlePrecision) {
+		int end = mode == STRIPPED ? to : numberEnd(source, from, to, mode);
+		int start = mode == STRIPPED ? from : skipWhitespace(source, from, end);
+		int i = start;
+		boolean negative = false;
+		if (mode != STRIPPED && i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+			negative = source.charAt(i) == '-';
+			i++;
+		}
+		int exactDigits = singlePrecision ? FLOAT_EXACT_DIGITS : DOUBLE_EXACT_DIGITS;
+		long mantissa = 0;
+		int significantDigits = 0;
+		int scale = 0;
+		boolean digits = false;
+		boolean fraction = false;
+		for (; i < end; i++) {
+			char c = source.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits = true;
+				if (mantissa > 0 || c != '0') {
+					significantDigits++;
+				}
+				if (significantDigits <= exactDigits) {
+					mantissa = mantissa * 10 + (c - '0');
+					scale += fraction ? 1 : 0;
 				}
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else if (mode != STRIPPED || c == '.') {
+				return Double.NaN;
 			}
 		}
-		return returnVal;
+		if (!digits) {
+			return Double.NaN;
+		}
+		double value;
+		if (significantDigits > exactDigits || scale >= (singlePrecision ? FLOAT_POWERS_OF_TEN.length : DOUBLE_POWERS_OF_TEN.length)) {
+			value = parseFallback(source, start, end, singlePrecision);
+		} else if (singlePrecision) {
+			value = mantissa / FLOAT_POWERS_OF_TEN[scale];
+		} else {
+			value = mantissa / DOUBLE_POWERS_OF_TEN[scale];
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Fallback for the values {@link #scanDecimal(CharSequence, int, int, int, boolean)} cannot compute exactly. The range is known to be
+	 * a valid number at this point, so no exception is expected.
+	 */
+	private static double parseFallback(CharSequence source, int from, int to, boolean singlePrecision) {
+		StringBuilder value = new StringBuilder(to - from);
+		for (int i = from; i < to; i++) {
+			char c = source.charAt(i);
+			if (c == '.' || c >= '0' && c <= '9') {
+				value.append(c);
+			}
+		}
+		return singlePrecision ? Float.parseFloat(value.toString()) : Double.parseDouble(value.toString());
+	}
+
+	/**
+	 * Finds the end of the number within the range: trailing whitespace is skipped, and in {@link #UNITS} mode, so is the unit
+	 */
+	private static int numberEnd(CharSequence source, int from, int to, int mode) {
+		int end = trimWhitespace(source, from, to);
+		if (mode != UNITS) {
+			return end;
+		}
+		for (String unit : UNITS_SUFFIXES) {
+			int unitStart = end - unit.length();
+			if (unitStart > from && regionMatches(source, unitStart, unit)) {
+				return trimWhitespace(source, from, unitStart);
+			}
+		}
+		return end;
+	}
+
+	private static boolean regionMatches(CharSequence source, int from, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (source.charAt(from + i) != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int skipWhitespace(CharSequence source, int from, int to) {
+		int i = from;
+		while (i < to && source.charAt(i) <= ' ') {
+			i++;
+		}
+		return i;
+	}
+
+	private static int trimWhitespace(CharSequence source, int from, int to) {
+		int i = to;
+		while (i > from && source.charAt(i - 1) <= ' ') {
+			i--;
+		}
+		return i;
+	}
+
+	/**
+	 * Logs a value that is not a number. "---" placeholders are expected, and are not logged.
+	 */
+	private static void logConversionFailure(String value, String type) {
+		if (LOG.isDebugEnabled() && !isNullStatistic(value, 0, value.length())) {
+			LOG.debug("Could not convert string \"" + value + "\" to " + type);
+		}
 	}
 
 	/**
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.polycom.groupseries.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled matcher for a list of response terminators (e.g. commandSuccessList or loginErrorList entries).
+ * <p>
+ * A terminator may contain the {@link #WILDCARD} character. In this case the last wildcard segment must match the end of the
+ * response, and all the other segments must be found anywhere within the response. A terminator without wildcards must
+ * match the end of the response.
+ * <p>
+ * Inner segments of all terminators are compiled into a single Aho-Corasick automaton, so they are all found within one
+ * scan of the response. Last segments are compiled into a reversed trie, which is walked from the end of the response.
+ * Neither of the scans allocates any memory for up to 64 distinct inner segments.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+public final class TerminatorMatcher {
+	/**
+	 * Wildcard character, that may be used within terminators
+	 */
+	public static final char WILDCARD = '*';
+	private static final int ALPHABET_SIZE = 128;
+	private static final TerminatorMatcher EMPTY = new TerminatorMatcher(Collections.<String>emptyList());
+
+	private final String[] terminators;
+	/**
+	 * Inner segment ids (bit indexes) required by each terminator
+	 */
+	private final long[][] requiredSegments;
+	private final int segmentWords;
+
+	/**
+	 * Aho-Corasick automaton over inner segments: transitions, and ids of segments found when a state is reached
+	 */
+	private final int[][] transitions;
+	private final int[][] stateOutputs;
+
+	/**
+	 * Reversed trie over last segments: transitions, and indexes of terminators whose last segment ends at a node
+	 */
+	private final int[][] suffixTransitions;
+	private final int[][] suffixOutputs;
+
+	private TerminatorMatcher(List<String> terminatorList) {
+		terminators = terminatorList.toArray(new String[0]);
+		Map<String, Integer> segmentIds = new LinkedHashMap<>();
+		List<String> lastSegments = new ArrayList<>(terminators.length);
+		List<List<Integer>> innerSegmentIds = new ArrayList<>(terminators.length);
+		for (String terminator : terminators) {
+			List<String> segments = splitSegments(terminator);
+			List<Integer> ids = new ArrayList<>();
+			for (int i = 0; i < segments.size() - 1; i++) {
+				String segment = segments.get(i);
+				if (!segment.isEmpty()) {
+					Integer id = segmentIds.get(segment);
+					if (id == null) {
+						id = segmentIds.size();
+						segmentIds.put(segment, id);
+					}
+					ids.add(id);
+				}
+			}
+			innerSegmentIds.add(ids);
+			lastSegments.add(segments.isEmpty() ? "" : segments.get(segments.size() - 1));
+		}
+
+		segmentWords = Math.max(1, (segmentIds.size() + 63) / 64);
+		requiredSegments = new long[terminators.length][];
+		for (int i = 0; i < terminators.length; i++) {
+			requiredSegments[i] = new long[segmentWords];
+			for (int id : innerSegmentIds.get(i)) {
+				requiredSegments[i][id >>> 6] |= 1L << id;
+			}
+		}
+
+		List<int[]> gotoTable = new ArrayList<>();
+		List<List<Integer>> outputs = new ArrayList<>();
+		gotoTable.add(newState());
+		outputs.add(new ArrayList<Integer>());
+		for (Map.Entry<String, Integer> segment : segmentIds.entrySet()) {
+			int state = 0;
+			for (char c : segment.getKey().toCharArray()) {
+				int symbol = symbol(c);
+				if (gotoTable.get(state)[symbol] <= 0) {
+					gotoTable.get(state)[symbol] = gotoTable.size();
+					gotoTable.add(newState());
+					outputs.add(new ArrayList<Integer>());
+				}
+				state = gotoTable.get(state)[symbol];
+			}
+			outputs.get(state).add(segment.getValue());
+		}
+		transitions = gotoTable.toArray(new int[0][]);
+		buildFailureTransitions(transitions, outputs);
+		stateOutputs = toArrays(outputs);
+
+		List<int[]> suffixTable = new ArrayList<>();
+		List<List<Integer>> suffixEnds = new ArrayList<>();
+		suffixTable.add(newState());
+		suffixEnds.add(new ArrayList<Integer>());
+		for (int i = 0; i < terminators.length; i++) {
+			String lastSegment = lastSegments.get(i);
+			int node = 0;
+			for (int j = lastSegment.length() - 1; j >= 0; j--) {
+				int symbol = symbol(lastSegment.charAt(j));
+				if (suffixTable.get(node)[symbol] <= 0) {
+					suffixTable.get(node)[symbol] = suffixTable.size();
+					suffixTable.add(newState());
+					suffixEnds.add(new ArrayList<Integer>());
+				}
+				node = suffixTable.get(node)[symbol];
+			}
+			suffixEnds.get(node).add(i);
+		}
+		suffixTransitions = suffixTable.toArray(new int[0][]);
+		suffixOutputs = toArrays(suffixEnds);
+	}
+
+	/**
+	 * Compile list of terminators into a matcher
+	 *
+	 * @param terminators list of terminators, in the order of priority
+	 * @return compiled matcher instance
+	 */
+	public static TerminatorMatcher compile(List<String> terminators) {
+		if (terminators == null || terminators.isEmpty()) {
+			return EMPTY;
+		}
+		return new TerminatorMatcher(terminators);
+	}
+
+	/**
+	 * Find the first terminator (in the order of the original list) that matches the response
+	 *
+	 * @param response response to check
+	 * @return matching terminator, or null if there's none
+	 */
+	public String match(CharSequence response) {
+		return match(response, 0, response.length());
+	}
+
+	/**
+	 * Find the first terminator (in the order of the original list) that matches the region of the response,
+	 * as if the region was the whole response
+	 *
+	 * @param response response to check
+	 * @param from     region start, inclusive
+	 * @param to       region end, exclusive
+	 * @return matching terminator, or null if there's none
+	 */
+	public String match(CharSequence response, int from, int to) {
+		if (terminators.length == 0) {
+			return null;
+		}
+		if (segmentWords == 1) {
+			long found = 0;
+			int state = 0;
+			for (int i = from; i < to; i++) {
+				state = transitions[state][symbol(response.charAt(i))];
+				for (int id : stateOutputs[state]) {
+					found |= 1L << id;
+				}
+			}
+			return matchSuffix(response, from, to, found, null);
+		}
+		long[] found = new long[segmentWords];
+		int state = 0;
+		for (int i = from; i < to; i++) {
+			state = transitions[state][symbol(response.charAt(i))];
+			for (int id : stateOutputs[state]) {
+				found[id >>> 6] |= 1L << id;
+			}
+		}
+		return matchSuffix(response, from, to, 0, found);
+	}
+
+	/**
+	 * Create a new incremental scanner, which keeps the scan state between calls, so a growing response is scanned only once
+	 *
+	 * @return new {@link Scanner} instance, positioned at the start of a response
+	 */
+	public Scanner newScanner() {
+		return new Scanner();
+	}
+
+	/**
+	 * Incremental scanner of a growing (append-only) response. Each character is fed into the automaton only once,
+	 * so the cost of a {@link #match(CharSequence, int)} call is proportional to the number of characters appended since
+	 * the previous call, plus the length of the longest terminator.
+	 */
+	public final class Scanner {
+		private final long[] foundWords = segmentWords == 1 ? null : new long[segmentWords];
+		private long found;
+		private int state;
+		private int start;
+		private int position;
+
+		private Scanner() {
+		}
+
+		/**
+		 * Reset the scanner, so the next response (or the next region of the same response) is scanned from the given position
+		 *
+		 * @param start position of the response start
+		 */
+		public void reset(int start) {
+			found = 0;
+			state = 0;
+			if (foundWords != null) {
+				Arrays.fill(foundWords, 0);
+			}
+			this.start = start;
+			position = start;
+		}
+
+		/**
+		 * Feed characters up to the given position into the automaton, and find the first terminator (in the order of the
+		 * original list) that matches the response region between the scanner start and the given position
+		 *
+		 * @param response growing response, characters before the current scanner position must not change
+		 * @param to       region end, exclusive
+		 * @return matching terminator, or null if there's none
+		 */
+		public String match(CharSequence response, int to) {
+			if (terminators.length == 0) {
+				return null;
+			}
+			for (; position < to; position++) {
+				state = transitions[state][symbol(response.charAt(position))];
+				for (int id : stateOutputs[state]) {
+					if (foundWords == null) {
+						found |= 1L << id;
+					} else {
+						foundWords[id >>> 6] |= 1L << id;
+					}
+				}
+			}
+			return matchSuffix(response, start, to, found, foundWords);
+		}
+	}
+
+	/**
+	 * Walk the reversed trie of last segments from the end of the region, and pick the first terminator (in the order of
+	 * the original list) whose last segment matches and all inner segments are found
+	 */
+	private String matchSuffix(CharSequence response, int from, int to, long found, long[] foundWords) {
+		int best = Integer.MAX_VALUE;
+		int node = 0;
+		int position = to;
+		while (true) {
+			for (int index : suffixOutputs[node]) {
+				if (index < best && allFound(requiredSegments[index], found, foundWords)) {
+					best = index;
+				}
+			}
+			if (position == from) {
+				break;
+			}
+			position--;
+			node = suffixTransitions[node][symbol(response.charAt(position))];
+			if (node <= 0) {
+				break;
+			}
+		}
+		return best == Integer.MAX_VALUE ? null : terminators[best];
+	}
+
+	private static boolean allFound(long[] required, long found, long[] foundWords) {
+		if (foundWords == null) {
+			return (required[0] & ~found) == 0;
+		}
+		for (int i = 0; i < required.length; i++) {
+			if ((required[i] & ~foundWords[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the matcher has no terminators
+	 *
+	 * @return true if there are no terminators to match, false otherwise
+	 */
+	public boolean isEmpty() {
+		return terminators.length == 0;
+	}
+
+	/**
+	 * Split terminator by the {@link #WILDCARD} character. Trailing empty segments are dropped, the same way
+	 * {@link String#split(String)} does.
+	 */
+	private static List<String> splitSegments(String terminator) {
+		List<String> segments = new ArrayList<>();
+		int start = 0;
+		int wildcard;
+		while ((wildcard = terminator.indexOf(WILDCARD, start)) >= 0) {
+			segments.add(terminator.substring(start, wildcard));
+			start = wildcard + 1;
+		}
+		segments.add(terminator.substring(start));
+		while (!segments.isEmpty() && segments.get(segments.size() - 1).isEmpty()) {
+			segments.remove(segments.size() - 1);
+		}
+		return segments;
+	}
+
+	/**
+	 * Complete the goto function of the automaton into a deterministic transition table, and merge outputs along failure links
+	 */
+	private static void buildFailureTransitions(int[][] transitions, List<List<Integer>> outputs) {
+		int[] failure = new int[transitions.length];
+		int[] queue = new int[transitions.length];
+		int head = 0;
+		int tail = 0;
+		for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+			int next = transitions[0][symbol];
+			if (next > 0) {
+				failure[next] = 0;
+				queue[tail++] = next;
+			} else {
+				transitions[0][symbol] = 0;
+			}
+		}
+		while (head < tail) {
+			int state = queue[head++];
+			outputs.get(state).addAll(outputs.get(failure[state]));
+			for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+				int next = transitions[state][symbol];
+				if (next > 0) {
+					failure[next] = transitions[failure[state]][symbol];
+					queue[tail++] = next;
+				} else {
+					transitions[state][symbol] = transitions[failure[state]][symbol];
+				}
+			}
+		}
+	}
+
+	private static int[] newState() {
+		int[] state = new int[ALPHABET_SIZE];
+		Arrays.fill(state, -1);
+		return state;
+	}
+
+	private static int[][] toArrays(List<List<Integer>> lists) {
+		int[][] arrays = new int[lists.size()][];
+		for (int i = 0; i < arrays.length; i++) {
+			List<Integer> list = lists.get(i);
+			arrays[i] = new int[list.size()];
+			for (int j = 0; j < arrays[i].length; j++) {
+				arrays[i][j] = list.get(j);
+			}
+		}
+		return arrays;
+	}
+
+	/**
+	 * Map a character to the automaton alphabet. Terminators are ASCII-only, so all the other characters share a single symbol,
+	 * which does not match any of the terminator characters.
+	 */
+	private static int symbol(char c) {
+		return c < ALPHABET_SIZE ? c : 0;
+	}
+}
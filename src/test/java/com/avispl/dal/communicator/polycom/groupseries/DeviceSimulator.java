@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.channel.ChannelSession;
+import org.apache.sshd.server.command.Command;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+
+/**
+ * DeviceSimulator - embedded SSH server, that emulates Polycom Group Series CLI for the adapter to be tested (and load tested)
+ * offline.
+ * <p>
+ * Every shell session gets the login banner, ending with "SNMP Enabled:" line, and then every command line written to the shell
+ * is echoed and answered from the {@link Transcripts} library (or the responses set by {@link #setResponse(String, String)}).
+ * Mute, volume and camera position are kept by the simulator, so control commands are reflected by the subsequent status
+ * commands. Unknown commands are answered with "error: command not found".
+ * <p>
+ * Responses are delayed by the latency of the command (see {@link #setLatency(String, long)}), plus a random jitter, and may be
+ * replaced by an error, with {@link #setErrorRate(double)} probability. The delay only holds the shell thread of the session, so
+ * any number of adapter instances may connect to the same simulator at once, each one getting its own sessions, e.g. to load test
+ * hundreds of simulated codecs on a single box.
+ * <p>
+ * In typeahead mode (see {@link #setTypeahead(boolean)}), command lines that are written at once are all echoed before the
+ * first of them is answered, the way a terminal echoes the input that is typed ahead of a busy shell.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+public class DeviceSimulator implements AutoCloseable {
+	private static final String LINE_BREAKER = Transcripts.LINE_BREAKER;
+	private static final String COMMAND_NOT_FOUND = "error: command not found";
+
+	private final String login;
+	private final String password;
+	private final Map<String, String> responses = new ConcurrentHashMap<>(Transcripts.RESPONSES);
+	private final Map<String, Long> latencies = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> latencyCounts = new ConcurrentHashMap<>();
+	private final AtomicInteger openSessions = new AtomicInteger();
+	private final AtomicLong commandCount = new AtomicLong();
+	private final Map<String, AtomicLong> commandCounts = new ConcurrentHashMap<>();
+
+	private volatile long defaultLatency;
+	private volatile long jitter;
+	private volatile double errorRate;
+	private volatile boolean typeahead;
+	private volatile boolean nearMute;
+	private volatile int volume = 36;
+	private volatile String cameraPosition = "-1200 300 4500";
+	private SshServer server;
+
+	/**
+	 * DeviceSimulator constructor
+	 *
+	 * @param login SSH login, accepted by the simulator
+	 * @param password SSH password, accepted by the simulator
+	 */
+	public DeviceSimulator(String login, String password) {
+		this.login = login;
+		this.password = password;
+	}
+
+	/**
+	 * Start the SSH server on a free local port
+	 *
+	 * @return port the server is listening on
+	 * @throws IOException if the server cannot be started
+	 */
+	public synchronized int start() throws IOException {
+		server = SshServer.setUpDefaultServer();
+		server.setHost("127.0.0.1");
+		server.setPort(0);
+		SimpleGeneratorHostKeyProvider keyProvider = new SimpleGeneratorHostKeyProvider();
+		keyProvider.setAlgorithm("RSA");
+		server.setKeyPairProvider(keyProvider);
+		server.setPasswordAuthenticator((username, pass, session) -> login.equals(username) && password.equals(pass));
+		server.setShellFactory(channel -> new Shell());
+		server.start();
+		return server.getPort();
+	}
+
+	/**
+	 * Stop the SSH server, closing all the sessions
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (server != null) {
+			server.stop(true);
+			server = null;
+		}
+	}
+
+	/**
+	 * Set the response of the command
+	 *
+	 * @param command command, as written by the adapter
+	 * @param response response, including the command echo
+	 */
+	public void setResponse(String command, String response) {
+		responses.put(command, response);
+	}
+
+	/**
+	 * Set the latency of the command
+	 *
+	 * @param command command, as written by the adapter
+	 * @param latency time to answer the command in, in milliseconds
+	 */
+	public void setLatency(String command, long latency) {
+		latencyCounts.remove(command);
+		latencies.put(command, latency);
+	}
+
+	/**
+	 * Set the latency of the next answers of the command. The command is answered with the default latency afterwards.
+	 *
+	 * @param command command, as written by the adapter
+	 * @param latency time to answer the command in, in milliseconds
+	 * @param count number of answers to delay
+	 */
+	public void setLatency(String command, long latency, int count) {
+		latencies.put(command, latency);
+		latencyCounts.put(command, new AtomicInteger(count));
+	}
+
+	/**
+	 * Sets {@link #defaultLatency} value
+	 *
+	 * @param defaultLatency time to answer the commands with no latency set in, in milliseconds
+	 */
+	public void setDefaultLatency(long defaultLatency) {
+		this.defaultLatency = defaultLatency;
+	}
+
+	/**
+	 * Sets {@link #jitter} value
+	 *
+	 * @param jitter maximal random delay, added to the latency of every command, in milliseconds
+	 */
+	public void setJitter(long jitter) {
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Sets {@link #errorRate} value
+	 *
+	 * @param errorRate probability of a command to be answered with an error, from 0 to 1
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * Sets {@link #typeahead} value
+	 *
+	 * @param typeahead whether command lines, written at once, should be all echoed before the responses
+	 */
+	public void setTypeahead(boolean typeahead) {
+		this.typeahead = typeahead;
+	}
+
+	/**
+	 * Sets {@link #volume} value, as if it has been changed on the device itself (e.g. with a remote control)
+	 *
+	 * @param volume new volume level
+	 */
+	public void setVolume(int volume) {
+		this.volume = volume;
+	}
+
+	/**
+	 * Retrieves number of shell sessions that are currently open
+	 *
+	 * @return number of open sessions
+	 */
+	public int getOpenSessions() {
+		return openSessions.get();
+	}
+
+	/**
+	 * Retrieves number of commands, answered since the simulator has been created
+	 *
+	 * @return number of commands
+	 */
+	public long getCommandCount() {
+		return commandCount.get();
+	}
+
+	/**
+	 * Retrieves number of times the command has been answered since the simulator has been created
+	 *
+	 * @param command command, as written by the adapter
+	 * @return number of commands
+	 */
+	public long getCommandCount(String command) {
+		AtomicLong count = commandCounts.get(command);
+		return count == null ? 0 : count.get();
+	}
+
+	/**
+	 * Answer the command, updating the device state if it's a control command
+	 *
+	 * @param command command line, as written by the adapter
+	 * @return response, including the command echo
+	 */
+	String respond(String command) {
+		commandCount.incrementAndGet();
+		commandCounts.computeIfAbsent(command, key -> new AtomicLong()).incrementAndGet();
+		if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+			return command + "\r\n" + COMMAND_NOT_FOUND + LINE_BREAKER;
+		}
+		String[] tokens = command.split(" ");
+		if (command.startsWith("mute near ")) {
+			if ("on".equals(tokens[2]) || "off".equals(tokens[2])) {
+				nearMute = "on".equals(tokens[2]);
+			}
+			return command + "\r\nmute near " + (nearMute ? "on" : "off") + LINE_BREAKER;
+		}
+		if (command.startsWith("volume set ") && tokens.length == 3) {
+			volume = Integer.parseInt(tokens[2]);
+			return command + "\r\nvolume " + volume + LINE_BREAKER;
+		}
+		if ("volume get".equals(command)) {
+			return command + "\r\nvolume " + volume + LINE_BREAKER;
+		}
+		if (command.startsWith("camera near setposition ") && tokens.length == 6) {
+			cameraPosition = tokens[3] + " " + tokens[4] + " " + tokens[5];
+			return command + "\r\ncamera near position " + cameraPosition + LINE_BREAKER;
+		}
+		if ("camera near getposition".equals(command)) {
+			return command + "\r\ncamera near position " + cameraPosition + LINE_BREAKER;
+		}
+		if (command.startsWith("dial ")) {
+			return command + "\r\ndialing manual" + LINE_BREAKER;
+		}
+		if (command.startsWith("hangup ")) {
+			return command + "\r\nhanging up " + tokens[1] + LINE_BREAKER;
+		}
+		String response = responses.get(command);
+		return response != null ? response : command + "\r\n" + COMMAND_NOT_FOUND + LINE_BREAKER;
+	}
+
+	private long delay(String command) {
+		AtomicInteger latencyCount = latencyCounts.get(command);
+		if (latencyCount != null && latencyCount.getAndDecrement() <= 0) {
+			latencyCounts.remove(command);
+			latencies.remove(command);
+		}
+		long latency = latencies.getOrDefault(command, defaultLatency);
+		return jitter > 0 ? latency + ThreadLocalRandom.current().nextLong(jitter + 1) : latency;
+	}
+
+	/**
+	 * Shell session, that answers command lines from its own thread
+	 */
+	private final class Shell implements Command, Runnable {
+		private InputStream in;
+		private OutputStream out;
+		private ExitCallback exitCallback;
+		private Thread thread;
+
+		@Override
+		public void setInputStream(InputStream in) {
+			this.in = in;
+		}
+
+		@Override
+		public void setOutputStream(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void setErrorStream(OutputStream err) {
+			// Simulated CLI never writes to the error stream
+		}
+
+		@Override
+		public void setExitCallback(ExitCallback exitCallback) {
+			this.exitCallback = exitCallback;
+		}
+
+		@Override
+		public void start(ChannelSession channel, Environment env) {
+			openSessions.incrementAndGet();
+			thread = new Thread(this, "DeviceSimulator shell");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		@Override
+		public void destroy(ChannelSession channel) {
+			thread.interrupt();
+		}
+
+		@Override
+		public void run() {
+			try {
+				write(Transcripts.BANNER);
+				StringBuilder line = new StringBuilder();
+				List<String> commands = new ArrayList<>();
+				int c;
+				while ((c = in.read()) >= 0) {
+					if (c == '\n') {
+						String command = line.toString().trim();
+						line.setLength(0);
+						if (!command.isEmpty()) {
+							commands.add(command);
+						}
+						if (!typeahead || in.available() == 0) {
+							answer(commands);
+						}
+					} else if (c != '\r') {
+						line.append((char) c);
+					}
+				}
+			} catch (InterruptedException | InterruptedIOException e) {
+				Thread.currentThread().interrupt();
+			} catch (IOException e) {
+				// Session is closed by the client
+			} finally {
+				openSessions.decrementAndGet();
+				exitCallback.onExit(0);
+			}
+		}
+
+		/**
+		 * Answer the command lines, that have been read, echoing them all ahead of the responses in typeahead mode
+		 */
+		private void answer(List<String> commands) throws IOException, InterruptedException {
+			boolean echoed = typeahead && commands.size() > 1;
+			if (echoed) {
+				for (String command : commands) {
+					write(command + "\r\n");
+				}
+			}
+			for (String command : commands) {
+				Thread.sleep(delay(command));
+				String response = respond(command);
+				write(echoed && response.startsWith(command + "\r\n") ? response.substring(command.length() + 2) : response);
+			}
+			commands.clear();
+		}
+
+		private void write(String output) throws IOException {
+			out.write(output.getBytes(StandardCharsets.ISO_8859_1));
+			out.flush();
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.StringTokenizer;
+
+import com.avispl.symphony.api.dal.dto.monitor.AudioChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.CallStats;
+import com.avispl.symphony.api.dal.dto.monitor.ContentChannelStats;
+import com.avispl.symphony.api.dal.dto.monitor.VideoChannelStats;
+
+/**
+ * LegacyCallStatisticsParser - StringTokenizer/split based parsing of netstats and advnetstats responses, as it has been done
+ * before {@link CallStatisticsParser}. Kept as the reference implementation for the parser tests and benchmarks.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class LegacyCallStatisticsParser {
+	private LegacyCallStatisticsParser() {
+	}
+
+	/**
+	 * Parse netstats and advnetstats responses, with numbers converted by {@link #convertToInteger(String)} and
+	 * {@link #convertToFloat(String)}
+	 *
+	 * @param networkStats netstats response
+	 * @param advancedStats advnetstats response
+	 * @param callStats call statistics to populate
+	 * @param audioChannelStats audio channel statistics to populate
+	 * @param videoChannelStats video channel statistics to populate
+	 * @param contentChannelStats content channel statistics to populate
+	 * @return transmit and receive rates of audio, video and content channels, {@link Integer#MIN_VALUE} if not reported
+	 */
+	static int[] parse(String networkStats, String advancedStats, CallStats callStats, AudioChannelStats audioChannelStats,
+			VideoChannelStats videoChannelStats, ContentChannelStats contentChannelStats) {
+		StringTokenizer networkTokenizer = new StringTokenizer(networkStats);
+		while (networkTokenizer.hasMoreTokens()) {
+			String networkToken = networkTokenizer.nextToken();
+			if (networkToken.contains(":")) {
+				String[] tokenItems = networkToken.split(":");
+				if (tokenItems.length > 1) {
+					String tokenValue = tokenItems[1];
+					switch (tokenItems[0]) {
+						case "tvp":
+							videoChannelStats.setCodec(tokenValue);
+							break;
+						case "tap":
+							audioChannelStats.setCodec(tokenValue);
+							break;
+						case "rctp":
+							contentChannelStats.setCodec(tokenValue);
+							break;
+						case "tcp":
+							callStats.setProtocol(tokenValue);
+							break;
+						case "%pktloss":
+							callStats.setPercentPacketLossTx(convertToFloat(tokenValue));
+							break;
+						case "pktloss":
+							callStats.setTotalPacketLossTx(convertToInteger(tokenValue));
+							break;
+						case "rvf":
+							videoChannelStats.setFrameSizeRx(tokenValue.contains("x") ? tokenValue.replace("p", "") : tokenValue);
+							break;
+						case "tvf":
+							videoChannelStats.setFrameSizeTx(tokenValue.contains("x") ? tokenValue.replace("p", "") : tokenValue);
+							break;
+						default:
+							break;
+					}
+				}
+			}
+		}
+
+		Integer[] rates = new Integer[6];
+		StringTokenizer stringTokenizer = new StringTokenizer(advancedStats);
+		while (stringTokenizer.hasMoreTokens()) {
+			String token = stringTokenizer.nextToken();
+			if (token.contains(":")) {
+				String[] reportedStats = token.split(":");
+				if (reportedStats.length > 1) {
+					String reportedValue = reportedStats[1];
+					switch (reportedStats[0]) {
+						case "tar":
+							rates[0] = convertToInteger(reportedValue);
+							break;
+						case "rar":
+							rates[1] = convertToInteger(reportedValue);
+							break;
+						case "tvr":
+							rates[2] = convertToInteger(reportedValue);
+							break;
+						case "rvr":
+							rates[3] = convertToInteger(reportedValue);
+							break;
+						case "tcr":
+							rates[4] = convertToInteger(reportedValue);
+							break;
+						case "rcr":
+							rates[5] = convertToInteger(reportedValue);
+							break;
+						case "taj":
+							audioChannelStats.setJitterTx(convertToFloat(reportedValue));
+							break;
+						case "raj":
+							audioChannelStats.setJitterRx(convertToFloat(reportedValue));
+							break;
+						case "tapl":
+							audioChannelStats.setPacketLossTx(convertToInteger(reportedValue));
+							break;
+						case "rapl":
+							audioChannelStats.setPacketLossRx(convertToInteger(reportedValue));
+							break;
+						case "tvj":
+							videoChannelStats.setJitterTx(convertToFloat(reportedValue));
+							break;
+						case "rvj":
+							videoChannelStats.setJitterRx(convertToFloat(reportedValue));
+							break;
+						case "tvpl":
+							videoChannelStats.setPacketLossTx(convertToInteger(reportedValue));
+							break;
+						case "rvpl":
+							videoChannelStats.setPacketLossRx(convertToInteger(reportedValue));
+							break;
+						case "tvru":
+							videoChannelStats.setBitRateTx(convertToInteger(reportedValue));
+							break;
+						case "rvru":
+							videoChannelStats.setBitRateRx(convertToInteger(reportedValue));
+							break;
+						case "tvfr":
+							videoChannelStats.setFrameRateTx(convertToFloat(reportedValue));
+							break;
+						case "rvfr":
+							videoChannelStats.setFrameRateRx(convertToFloat(reportedValue));
+							break;
+						case "tcpl":
+							contentChannelStats.setPacketLossTx(convertToInteger(reportedValue));
+							break;
+						case "rcpl":
+							contentChannelStats.setPacketLossRx(convertToInteger(reportedValue));
+							break;
+						case "tcru":
+							contentChannelStats.setBitRateTx(convertToInteger(reportedValue));
+							break;
+						case "rcru":
+							contentChannelStats.setBitRateRx(convertToInteger(reportedValue));
+							break;
+						case "tcfr":
+							contentChannelStats.setFrameRateTx(convertToFloat(reportedValue));
+							break;
+						case "rcfr":
+							contentChannelStats.setFrameRateRx(convertToFloat(reportedValue));
+							break;
+						default:
+							break;
+					}
+				}
+			}
+		}
+		int[] result = new int[6];
+		for (int i = 0; i < rates.length; i++) {
+			result[i] = rates[i] == null ? Integer.MIN_VALUE : rates[i];
+		}
+		return result;
+	}
+
+	/**
+	 * {@link com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils#convertToFloat(String)}, as it has been implemented before
+	 * the exception-free parsing (with no error logging)
+	 */
+	static Float convertToFloat(String floatString) {
+		if (floatString == null) {
+			return null;
+		}
+		Float returnVal = null;
+		try {
+			returnVal = Float.parseFloat(floatString);
+		} catch (Exception ex1) {
+			floatString = floatString.replaceAll("[^0-9.]", "");
+			try {
+				returnVal = Float.parseFloat(floatString);
+			} catch (Exception ex2) {
+				// not a number
+			}
+		}
+		return returnVal;
+	}
+
+	/**
+	 * {@link com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils#convertToInteger(String)}, as it has been implemented before
+	 * the exception-free parsing (with no error logging)
+	 */
+	static Integer convertToInteger(String integerString) {
+		if (integerString == null) {
+			return null;
+		}
+		Integer returnVal = null;
+		try {
+			returnVal = Integer.parseInt(integerString);
+		} catch (Exception ex1) {
+			try {
+				returnVal = Math.round(Float.parseFloat(integerString));
+			} catch (Exception ex2) {
+				integerString = integerString.replaceAll("[^0-9.]", "");
+				try {
+					returnVal = Integer.parseInt(integerString);
+				} catch (Exception ex3) {
+					try {
+						returnVal = Math.round(Float.parseFloat(integerString));
+					} catch (Exception ex4) {
+						// not a number
+					}
+				}
+			}
+		}
+		return returnVal;
+	}
+}
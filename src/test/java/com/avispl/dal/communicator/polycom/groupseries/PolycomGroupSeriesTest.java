@@ -8,21 +8,52 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import javax.security.auth.login.FailedLoginException;
+
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.NULL_INTEGER;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.convertToDouble;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.convertToFloat;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.convertToInteger;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.isNullStatistic;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.parseDouble;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.parseFloat;
+import static com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils.parseInteger;
+
 import com.avispl.symphony.api.dal.control.call.CallController;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.util.StringUtils;
+import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.FixMethodOrder;
@@ -31,6 +62,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 import org.mockito.Mockito;
 
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.Protocol;
 import com.avispl.symphony.api.dal.dto.control.call.CallStatus.CallStatusState;
 import com.avispl.symphony.api.dal.dto.control.call.DialDevice;
@@ -40,9 +72,11 @@ import com.avispl.symphony.api.dal.dto.monitor.AudioChannelStats;
 import com.avispl.symphony.api.dal.dto.monitor.CallStats;
 import com.avispl.symphony.api.dal.dto.monitor.ContentChannelStats;
 import com.avispl.symphony.api.dal.dto.monitor.EndpointStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.RegistrationStatus;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.dto.monitor.VideoChannelStats;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 
 /**
  * PolycomGroupSeriesTest - validate call statistics for Polycom Group Series
@@ -68,6 +102,8 @@ public class PolycomGroupSeriesTest {
 	 */
 	private static boolean shouldExecuteTests;
 
+	private final List<PolycomGroupSeries> simulatedDevices = new ArrayList<>();
+
 	private static DialDevice getDialDevice() {
 		DialDevice device = new DialDevice();
 		device.setDialString("1125198839@vtc.avispl.com");
@@ -151,6 +187,17 @@ public class PolycomGroupSeriesTest {
 		polycomGroupSeries.destroy();
 	}
 
+	/**
+	 * Destroy the adapters, created by {@link #connect(DeviceSimulator, Consumer)} for the test
+	 */
+	@After
+	public void tearDown() {
+		for (PolycomGroupSeries device : simulatedDevices) {
+			device.destroy();
+		}
+		simulatedDevices.clear();
+	}
+
 	/**
 	 * Unit test for {@link PolycomGroupSeries#getCommandSuccessList()} and {@link PolycomGroupSeries#getCommandErrorList()}
 	 */
@@ -596,6 +643,1138 @@ public class PolycomGroupSeriesTest {
 		}
 	}
 
+	/**
+	 * Offline unit test for {@link PolycomGroupSeries#splitBatchResponse(List, String)}
+	 */
+	@Test
+	public void test09_SplitBatchResponse() {
+		List<String> commands = Arrays.asList("whoami", "mute near get", "status");
+		String whoami = "whoami\r\nHi, my name is : Room\r\r\nModel: Group 500\r\r\nSoftware Version: Release 6.2.2\r\r\nSNMP Enabled: True\r\r\n";
+		String muteNearGet = "mute near get\r\nmute near off\r\r\n";
+		String status = "status\r\nautoanswerp2p online\r\r\ngatekeeper online\r\r\nstatus end\r\r\n";
+
+		assertNull("Incomplete batch output should not be split", polycomGroupSeries.splitBatchResponse(commands, whoami + muteNearGet + "status\r\nautoanswerp2p online\r\r\n"));
+
+		List<String> responses = polycomGroupSeries.splitBatchResponse(commands, whoami + muteNearGet + status);
+		assertNotNull("Complete batch output should be split", responses);
+		assertEquals("whoami response", whoami, responses.get(0));
+		assertEquals("mute near get response", muteNearGet, responses.get(1));
+		assertEquals("status response", status, responses.get(2));
+
+		String unknownCommand = "whoami\r\nerror: command not found\r\r\n";
+		responses = polycomGroupSeries.splitBatchResponse(commands, unknownCommand + muteNearGet + status);
+		assertNotNull("Batch output with an error response should be split", responses);
+		assertEquals("whoami error response", unknownCommand, responses.get(0));
+
+		String typeahead = "whoami\r\nmute near get\r\nstatus\r\n" + whoami.substring("whoami\r\n".length())
+				+ muteNearGet.substring("mute near get\r\n".length()) + status.substring("status\r\n".length());
+		assertNull("Batch output, echoed ahead of the responses, should not be split", polycomGroupSeries.splitBatchResponse(commands, typeahead));
+	}
+
+	/**
+	 * Unit test for {@link PolycomGroupSeries#doneReadingAfterConnect(String)}
+	 */
+	@Test
+	public void test10_DoneReadingAfterConnect() throws Exception {
+		assertFalse("Login banner is not complete", polycomGroupSeries.doneReadingAfterConnect("Hi, my name is : Room\r\r\nSNMP Enabled: Tr"));
+		assertTrue("Login banner is complete", polycomGroupSeries.doneReadingAfterConnect("Hi, my name is : Room\r\r\nSNMP Enabled: True\r\r\n"));
+		try {
+			polycomGroupSeries.doneReadingAfterConnect("Password incorrect\r\nEnter password:");
+			fail("Login error should be detected");
+		} catch (FailedLoginException e) {
+			assertTrue("Login error message", e.getMessage().startsWith("Login failed"));
+		}
+	}
+
+	/**
+	 * Validate parsing of the notification listener output: current state responses, followed by pushed notifications
+	 */
+	@Test
+	public void test11_NotificationParsing() {
+		NotificationListener listener = new NotificationListener(new ConnectionGovernor(1, 1), host, 22, user, "", 1000, null, null, () -> {
+		});
+		assertFalse("Call state is not known before callinfo output", listener.isCallStateKnown());
+		assertNull("Mute state is not known", listener.getNearMute());
+
+		listener.processLine("-> callinfo all");
+		listener.processLine("system is not in a call");
+		listener.processLine("-> mute near get");
+		assertTrue("Mute state is reported", listener.processLine("mute near off"));
+		listener.processLine("-> volume get");
+		assertTrue("Volume is reported", listener.processLine("volume 27"));
+		assertFalse("Volume registration response is ignored", listener.processLine("volume registered"));
+
+		assertTrue("Call state is known", listener.isCallStateKnown());
+		assertNull("Not in a call", listener.getActiveCall());
+		assertEquals("Mute state", Boolean.FALSE, listener.getNearMute());
+		assertEquals("Volume", Integer.valueOf(27), listener.getVolume());
+
+		listener.processLine("notification:callstatus:outgoing:34:Polycom Austin:192.168.1.101:connecting:384:0:videocall");
+		assertNull("Call is not connected yet", listener.getActiveCall());
+		assertTrue("Call state has changed", listener.processLine("notification:callstatus:outgoing:34:Polycom Austin:192.168.1.101:connected:384:0:videocall"));
+		String[] activeCall = listener.getActiveCall();
+		assertNotNull("Call is connected", activeCall);
+		assertEquals("Call id", "34", activeCall[1]);
+		assertEquals("Remote address", "192.168.1.101", activeCall[3]);
+		assertEquals("Call speed", "384", activeCall[4]);
+
+		assertTrue("Mute state has changed", listener.processLine("notification:mutestatus:near:near:near:near:muted"));
+		assertFalse("Far end mute is ignored", listener.processLine("notification:mutestatus:far:34:Polycom Austin:192.168.1.101:unmuted"));
+		assertEquals("Mute state", Boolean.TRUE, listener.getNearMute());
+
+		listener.processLine("notification:callstatus:outgoing:34:Polycom Austin:192.168.1.101:disconnected:384:0:videocall");
+		assertNull("Call is disconnected", listener.getActiveCall());
+	}
+
+	/**
+	 * Validate {@link CallStatisticsParser} against the StringTokenizer based parsing it has replaced: sample responses,
+	 * followed by randomly mutated ones
+	 */
+	@Test
+	public void test12_CallStatisticsParsing() {
+		CallStats callStats = new CallStats();
+		AudioChannelStats audioChannelStats = new AudioChannelStats();
+		VideoChannelStats videoChannelStats = new VideoChannelStats();
+		ContentChannelStats contentChannelStats = new ContentChannelStats();
+		CallStatisticsParser parser = new CallStatisticsParser(callStats, audioChannelStats, videoChannelStats, contentChannelStats);
+		parser.parseNetworkStats(Transcripts.NETWORK_STATS);
+		parser.parseAdvancedStats(Transcripts.ADVANCED_STATS);
+
+		assertEquals("Protocol", "H.323", callStats.getProtocol());
+		assertEquals("Total packet loss", Integer.valueOf(12), callStats.getTotalPacketLossTx());
+		assertEquals("Percent packet loss", Float.valueOf(0.5F), callStats.getPercentPacketLossTx());
+		assertEquals("Video codec", "H.264High", videoChannelStats.getCodec());
+		assertEquals("Frame size", "1280x720", videoChannelStats.getFrameSizeTx());
+		assertEquals("Video frame rate, rounded by the statistics", Float.valueOf(30F), videoChannelStats.getFrameRateTx());
+		assertEquals("Audio jitter", Float.valueOf(3F), audioChannelStats.getJitterTx());
+		assertNull("Content rate used", contentChannelStats.getBitRateTx());
+		assertEquals("Content codec", "H.264", contentChannelStats.getCodec());
+		assertEquals("Transmit call rate", 64 + 1856, parser.getCallRateTx());
+		assertEquals("Receive call rate", 64 + 1856 + 768, parser.getCallRateRx());
+
+		Random random = new Random(17);
+		String alphabet = "0123456789.-+:x pK%\r\n---abc";
+		for (int i = 0; i < 5000; i++) {
+			assertSameStatistics(mutate(Transcripts.NETWORK_STATS, alphabet, random),
+					mutate(Transcripts.ADVANCED_STATS, alphabet, random));
+		}
+	}
+
+	/**
+	 * Validate {@link com.avispl.dal.communicator.polycom.groupseries.utils.StringUtils} numeric parsing: units, "---" placeholders,
+	 * and conversions against the exception based implementation they have replaced
+	 */
+	@Test
+	public void test13_NumericParsing() {
+		String value = "tar:64 K taj:3ms %pktloss:0.5 % rate:60Hz rvj:--- count:-12";
+		assertEquals("Value with a unit", 64, parseInteger(value, 4, 8, false));
+		assertEquals("Value with an attached unit", 3F, parseFloat(value, 13, 16, false), 0F);
+		assertEquals("Percentage", 0.5, parseDouble(value, 26, 31, false), 0);
+		assertEquals("Frequency", 60, parseInteger(value, 37, 41, false));
+		assertEquals("Negative value", -12, parseInteger(value, 56, 59, false));
+		assertTrue("Placeholder", isNullStatistic(value, 46, 49));
+		assertEquals("Placeholder is not a number", NULL_INTEGER, parseInteger(value, 46, 49, false));
+		assertTrue("Placeholder is not a number", Float.isNaN(parseFloat(value, 46, 49, true)));
+		assertEquals("Unknown unit is not a number", NULL_INTEGER, parseInteger("64 kbps", 0, 7, false));
+		assertEquals("Unknown unit is skipped in lenient mode", 64, parseInteger("64 kbps", 0, 7, true));
+		assertEquals("Rounded decimal value", 30, parseInteger("29.97", 0, 5, false));
+		assertEquals("Minimal value", Integer.valueOf(Integer.MIN_VALUE), convertToInteger("-2147483648"));
+		assertEquals("Maximal value", Integer.valueOf(Integer.MAX_VALUE), convertToInteger("2147483647"));
+		assertNull("Not a number", convertToInteger("x"));
+
+		Random random = new Random(17);
+		String alphabet = "0123456789..-+ xK%";
+		for (int i = 0; i < 100000; i++) {
+			StringBuilder number = new StringBuilder();
+			for (int j = random.nextInt(14); j > 0; j--) {
+				number.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String source = number.toString();
+			assertEquals(source, LegacyCallStatisticsParser.convertToInteger(source), convertToInteger(source));
+			assertEquals(source, LegacyCallStatisticsParser.convertToFloat(source), convertToFloat(source));
+			assertEquals(source, LegacyCallStatisticsParser.convertToFloat(source) == null,
+					convertToDouble(source) == null);
+		}
+	}
+
+	/**
+	 * Validate {@link ResponseLineParser} on status and whoami output: keys are matched as a whole, and unknown lines are reported on demand
+	 */
+	@Test
+	public void test14_ResponseLineParsing() {
+		ResponseLineParser statusParser = new ResponseLineParser(' ', "SystemStatus#").map("camera", "SystemStatus#Camera")
+				.map("trackablecamera", "SystemStatus#TrackableCamera").ignore("status");
+		String status = "-> status\r\ntrackablecamera online\r\r\ncamera offline\r\r\nmicrophones online\r\r\nstatus end\r\r\n";
+		Map<String, String> statusLines = statusParser.parse(status);
+		assertEquals("Status lines", 4, statusLines.size());
+
+		Map<String, String> statistics = new HashMap<>();
+		statusParser.populate(statusLines, statistics, false);
+		assertEquals("Camera status is not taken from trackablecamera line", "offline", statistics.get("SystemStatus#Camera"));
+		assertEquals("Trackable camera status", "online", statistics.get("SystemStatus#TrackableCamera"));
+		assertEquals("Unknown lines are not reported", 2, statistics.size());
+
+		statusParser.populate(statusLines, statistics, true);
+		assertEquals("Unknown line", "online", statistics.get("SystemStatus#microphones"));
+		assertFalse("End marker is not reported", statistics.containsKey("SystemStatus#status"));
+
+		ResponseLineParser whoamiParser = new ResponseLineParser(':', null).map("Hi, my name is", "Device#Name").map("Local Time is", "Device#LocalTime")
+				.map("Model", "Device#Model");
+		statistics.clear();
+		whoamiParser.populate(whoamiParser.parse("whoami\r\nHi, my name is : Room\r\r\nModel: Group 500\r\r\nLocal Time is: Wed, 17 Oct 2026 10:15:00\r\r\nSerial Number: \r\r\n"),
+				statistics, true);
+		assertEquals("Name", "Room", statistics.get("Device#Name"));
+		assertEquals("Model", "Group 500", statistics.get("Device#Model"));
+		assertEquals("Value with separators", "Wed, 17 Oct 2026 10:15:00", statistics.get("Device#LocalTime"));
+		assertEquals("Empty and unknown values are not reported", 3, statistics.size());
+	}
+
+	/**
+	 * Control operation is not blocked by the statistics poll in progress, and the value it has set is kept by the statistics
+	 * published by the poll. Statistics are polled again right after the control operation.
+	 */
+	@Test
+	public void test15_ControlDuringStatisticsPoll() throws Exception {
+		CountDownLatch pollBlocked = new CountDownLatch(1);
+		CountDownLatch controlDone = new CountDownLatch(1);
+		AtomicInteger volumeRequests = new AtomicInteger();
+		List<String> commands = new CopyOnWriteArrayList<>();
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) throws Exception {
+				commands.add(command);
+				if ("volume get".equals(command)) {
+					if (volumeRequests.incrementAndGet() == 2) {
+						pollBlocked.countDown();
+						controlDone.await(5, TimeUnit.SECONDS);
+					}
+					// The device reports the volume level it had when the command has been received
+					return "volume get\r\nvolume 30\r\r\n";
+				}
+				return "";
+			}
+		};
+
+		assertEquals("Initial volume", 30F, volumeControl(device.getMultipleStatistics()).getValue());
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<Statistics>> poll = executor.submit(device::getMultipleStatistics);
+			assertTrue("Statistics poll has not started", pollBlocked.await(5, TimeUnit.SECONDS));
+
+			ControllableProperty volume = new ControllableProperty();
+			volume.setProperty("Audio#Volume");
+			volume.setValue("40");
+			device.controlProperty(volume);
+			assertFalse("Statistics poll is still in progress", poll.isDone());
+			assertTrue("Volume is set", commands.contains("volume set 40"));
+			controlDone.countDown();
+
+			assertEquals("Volume set during the poll", "40", volumeControl(poll.get(5, TimeUnit.SECONDS)).getValue());
+		} finally {
+			executor.shutdownNow();
+		}
+		int commandCount = commands.size();
+		device.getMultipleStatistics();
+		assertTrue("Statistics are polled after the control operation", commands.size() > commandCount);
+	}
+
+	/**
+	 * Validate {@link CommandScheduler}: control command, queued after a monitoring command, is dispatched first once the channel
+	 * is released, and the queue depth is reported per priority class
+	 */
+	@Test
+	public void test16_CommandScheduling() throws Exception {
+		CommandScheduler scheduler = new CommandScheduler();
+		List<CommandScheduler.Priority> dispatched = new CopyOnWriteArrayList<>();
+		scheduler.acquire(CommandScheduler.Priority.MONITORING);
+		List<Thread> commands = new ArrayList<>();
+		for (CommandScheduler.Priority priority : Arrays.asList(CommandScheduler.Priority.MONITORING, CommandScheduler.Priority.CONTROL,
+				CommandScheduler.Priority.CALL_CONTROL)) {
+			Thread command = new Thread(() -> {
+				scheduler.acquire(priority);
+				dispatched.add(priority);
+				scheduler.release();
+			});
+			command.start();
+			commands.add(command);
+			long deadline = System.currentTimeMillis() + 5000;
+			while (scheduler.getQueueDepth(priority) == 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(1);
+			}
+			assertEquals(priority + " queue depth", 1, scheduler.getQueueDepth(priority));
+		}
+		scheduler.release();
+		for (Thread command : commands) {
+			command.join(5000);
+		}
+		assertEquals("Dispatch order", Arrays.asList(CommandScheduler.Priority.CALL_CONTROL, CommandScheduler.Priority.CONTROL,
+				CommandScheduler.Priority.MONITORING), dispatched);
+		assertEquals("Monitoring commands dispatched", 2, scheduler.getDispatchedCount(CommandScheduler.Priority.MONITORING));
+		assertEquals("Control queue depth", 0, scheduler.getQueueDepth(CommandScheduler.Priority.CONTROL));
+		assertTrue("Control wait time", scheduler.getAverageWaitTime(CommandScheduler.Priority.CONTROL) >= 0);
+	}
+
+	/**
+	 * Validate {@link ControlCoalescer}: a burst of values of the same property is sent as the latest value only, while
+	 * other properties are sent independently
+	 */
+	@Test
+	public void test17_ControlCoalescing() throws Exception {
+		List<String> sent = new CopyOnWriteArrayList<>();
+		CountDownLatch sentLatch = new CountDownLatch(2);
+		ControlCoalescer coalescer = new ControlCoalescer("test controls", null, Runnable::run, (property, value) -> {
+			sent.add(property + "=" + value);
+			sentLatch.countDown();
+		});
+		try {
+			assertFalse("First value starts the window", coalescer.submit("Audio#Volume", "10", 200));
+			for (int volume = 11; volume <= 20; volume++) {
+				assertTrue("Next values replace the pending one", coalescer.submit("Audio#Volume", String.valueOf(volume), 200));
+			}
+			assertFalse("Other property has its own window", coalescer.submit("Camera#CameraPan", "100", 200));
+			assertEquals("Pending properties", 2, coalescer.getPendingCount());
+
+			assertTrue("Values are not sent", sentLatch.await(5, TimeUnit.SECONDS));
+			Thread.sleep(100);
+			assertEquals("Sent values", Arrays.asList("Audio#Volume=20", "Camera#CameraPan=100"), sent);
+			assertEquals("Pending properties", 0, coalescer.getPendingCount());
+
+			assertFalse("Value submitted after the window starts a new one", coalescer.submit("Audio#Volume", "25", 0));
+		} finally {
+			coalescer.close();
+		}
+	}
+
+	/**
+	 * Camera position is requested once, and then pan, tilt and zoom controls are applied to the last known position. Pan,
+	 * tilt and zoom of the same {@link PolycomGroupSeries#controlProperties(List)} call are sent with a single command
+	 */
+	@Test
+	public void test18_CameraPositionModel() throws Exception {
+		CameraPosition position = CameraPosition.parse("camera near getposition\r\ncamera near position -1200 +300 4500\r\r\n", 0);
+		assertNotNull("Camera position", position);
+		assertEquals("Camera position", "-1200 300 4500", position.toString());
+		assertNull("No camera position", CameraPosition.parse("error: command not found\r\r\n", 0));
+
+		List<String> commands = new ArrayList<>();
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) throws Exception {
+				commands.add(command);
+				return "camera near getposition".equals(command) ? "camera near getposition\r\ncamera near position 10 20 30\r\r\n" : command;
+			}
+		};
+		ControllableProperty pan = new ControllableProperty();
+		pan.setProperty("Camera#CameraPan");
+		pan.setValue("100.0");
+		device.controlProperty(pan);
+		ControllableProperty tilt = new ControllableProperty();
+		tilt.setProperty("Camera#CameraTilt");
+		tilt.setValue("-50");
+		device.controlProperty(tilt);
+		assertEquals("Position is requested once", Arrays.asList("camera near getposition", "camera near setposition 100 20 30",
+				"camera near setposition 100 -50 30"), commands);
+
+		commands.clear();
+		ControllableProperty zoom = new ControllableProperty();
+		zoom.setProperty("Camera#CameraZoom");
+		zoom.setValue("7");
+		pan.setValue("1");
+		tilt.setValue("2");
+		device.controlProperties(Arrays.asList(pan, tilt, zoom));
+		assertEquals("Single command for pan, tilt and zoom", Collections.singletonList("camera near setposition 1 2 7"), commands);
+	}
+
+	/**
+	 * Validate {@link PolycomGroupSeries#dialAsync(DialDevice)}: the call is verified by status checks with increasing intervals,
+	 * and the result is completed with null if the call is not connected within the dial timeout
+	 */
+	@Test
+	public void test19_AsyncDial() throws Exception {
+		AtomicInteger statusChecks = new AtomicInteger();
+		AtomicInteger connectedAfter = new AtomicInteger(3);
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) throws Exception {
+				if (!"callinfo all".equals(command)) {
+					return "dialing manual";
+				}
+				if (statusChecks.incrementAndGet() < connectedAfter.get()) {
+					return "callinfo all\ncallinfo begin\ncallinfo:7:Far Site:far@avispl.com:1920:connecting:notmuted:outgoing:videocall\ncallinfo end";
+				}
+				return "callinfo all\ncallinfo begin\ncallinfo:7:Far Site:far@avispl.com:1920:connected:notmuted:outgoing:videocall\ncallinfo end";
+			}
+		};
+		device.setDialVerificationInterval(10);
+		device.setDialVerificationMaxInterval(40);
+		DialDevice farSite = new DialDevice();
+		farSite.setDialString("far@avispl.com");
+		try {
+			assertEquals("Call id", "7", device.dialAsync(farSite).get(5, TimeUnit.SECONDS));
+			assertEquals("Status checks", 3, statusChecks.get());
+
+			statusChecks.set(0);
+			connectedAfter.set(Integer.MAX_VALUE);
+			device.setDialTimeout(200);
+			long start = System.currentTimeMillis();
+			assertNull("Call is not connected", device.dial(farSite));
+			assertTrue("Dial timeout", System.currentTimeMillis() - start < 2000);
+			assertTrue("Status checks are backed off", statusChecks.get() <= 8);
+		} finally {
+			device.destroy();
+		}
+	}
+
+	/**
+	 * Validate {@link ConnectionGovernor} session and handshake limits, including the limits of a device within the shared ones,
+	 * and that dialed call status checks of an adapter with {@link PolycomGroupSeries#setSharedSchedulerEnabled(boolean)} set
+	 * are timed by the shared scheduler, but run by the worker of the adapter, so the shared threads are not held by the device I/O
+	 */
+	@Test
+	public void test20_SharedSchedulerAndConnectionGovernor() throws Exception {
+		ConnectionGovernor governor = new ConnectionGovernor(2, 1);
+		governor.acquireSession("first", 10);
+		governor.acquireSession("second", 10);
+		assertEquals("Open sessions", 2, governor.getOpenSessions());
+		try {
+			governor.acquireSession("third", 10);
+			fail("Session limit is exceeded");
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("third"));
+		}
+		governor.acquireHandshake("first", 10);
+		try {
+			governor.acquireHandshake("second", 10);
+			fail("Handshake limit is exceeded");
+		} catch (IOException e) {
+			assertEquals("Active handshakes", 1, governor.getActiveHandshakes());
+		}
+		governor.releaseHandshake();
+		governor.releaseSession();
+		governor.acquireSession("third", 10);
+		assertEquals("Open sessions", 2, governor.getOpenSessions());
+
+		ConnectionGovernor sharedGovernor = new ConnectionGovernor(3, 3);
+		ConnectionGovernor deviceGovernor = new ConnectionGovernor(1, Integer.MAX_VALUE, sharedGovernor);
+		deviceGovernor.acquireSession("device", 10);
+		assertEquals("Device session is counted by the shared governor", 1, sharedGovernor.getOpenSessions());
+		long startTimestamp = System.currentTimeMillis();
+		try {
+			deviceGovernor.acquireSession("device", 5000);
+			fail("Device session limit is exceeded");
+		} catch (IOException e) {
+			assertTrue("Device session slot is not waited for", System.currentTimeMillis() - startTimestamp < 1000);
+		}
+		assertEquals("Rejected session is not counted", 1, sharedGovernor.getOpenSessions());
+		deviceGovernor.releaseSession();
+		assertEquals("Device session is returned to the shared governor", 0, sharedGovernor.getOpenSessions());
+
+		List<String> threads = new CopyOnWriteArrayList<>();
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) throws Exception {
+				if (!"callinfo all".equals(command)) {
+					return "dialing manual";
+				}
+				threads.add(Thread.currentThread().getName());
+				return "callinfo all\ncallinfo begin\ncallinfo:7:Far Site:far@avispl.com:1920:connected:notmuted:outgoing:videocall\ncallinfo end";
+			}
+		};
+		device.setHost("127.0.0.1");
+		device.setPort(22);
+		device.setSharedSchedulerEnabled(true);
+		device.setDialVerificationInterval(10);
+		device.init();
+		DialDevice farSite = new DialDevice();
+		farSite.setDialString("far@avispl.com");
+		try {
+			assertEquals("Call id", "7", device.dialAsync(farSite).get(5, TimeUnit.SECONDS));
+			assertEquals("Status checks", 1, threads.size());
+			assertTrue(threads.get(0), threads.get(0).startsWith("PolycomGroupSeries control worker "));
+		} finally {
+			device.destroy();
+		}
+		assertFalse("Shared scheduler is not shut down", SharedScheduler.get().isShutdown());
+	}
+
+	/**
+	 * Validate statistics poll and control operations against {@link DeviceSimulator}, along with the simulated command latency
+	 * and error injection
+	 */
+	@Test
+	public void test21_DeviceSimulator() throws Exception {
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> settings.setCommandBatchingEnabled(true));
+			List<Statistics> statistics = device.getMultipleStatistics();
+			EndpointStatistics endpointStatistics = (EndpointStatistics) statistics.get(0);
+			assertTrue("Device is in a call", endpointStatistics.isInCall());
+			assertEquals("Call id", "3", endpointStatistics.getCallStats().getCallId());
+			assertEquals("Video codec", "H.264High", endpointStatistics.getVideoChannelStats().getCodec());
+			assertEquals("Volume", 36f, Float.parseFloat(volumeControl(statistics).getValue().toString()), 0);
+			assertEquals("Mute status", MuteStatus.Unmuted, device.retrieveMuteStatus());
+
+			device.mute();
+			simulator.setLatency("mute near get", 300);
+			long start = System.currentTimeMillis();
+			assertEquals("Mute status", MuteStatus.Muted, device.retrieveMuteStatus());
+			assertTrue("Command latency", System.currentTimeMillis() - start >= 300);
+
+			simulator.setErrorRate(1);
+			try {
+				device.send("status");
+				fail("Error is not injected");
+			} catch (CommandFailureException e) {
+				assertTrue(e.getMessage(), e.getMessage().contains("status"));
+			}
+			assertEquals("Open sessions", 1, simulator.getOpenSessions());
+		}
+	}
+
+	/**
+	 * Validate {@link LatencyHistogram} percentiles and {@link CommandMetrics} command names, and that command latencies and the
+	 * poll cost breakdown are reported as adapter metrics
+	 */
+	@Test
+	public void test22_CommandMetrics() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+		assertEquals("Count", 100, histogram.getCount());
+		assertEquals("P50", 50, histogram.getPercentile(50), 50 / 16);
+		assertEquals("P99", 99, histogram.getPercentile(99), 99 / 16);
+		assertEquals("Command name", "VolumeSet", CommandMetrics.nameOf("volume set 30"));
+		assertEquals("Command name", "CallinfoAll", CommandMetrics.nameOf("callinfo all"));
+
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> settings.setCommandMetricsEnabled(true));
+			device.getMultipleStatistics();
+			Map<String, String> metrics = ((ExtendedStatistics) device.getMultipleStatistics().get(1)).getStatistics();
+			assertTrue("Poll commands", Integer.parseInt(metrics.get("AdapterMetrics#LastPollCommands")) > 0);
+			assertTrue("Poll bytes read", Long.parseLong(metrics.get("AdapterMetrics#LastPollBytesRead")) > 0);
+			assertTrue("Poll response checks", Integer.parseInt(metrics.get("AdapterMetrics#LastPollResponseChecks")) > 0);
+			assertNotNull("Command count", metrics.get("AdapterMetrics#CallinfoAllCount"));
+			assertNotNull("Command latency", metrics.get("AdapterMetrics#CallinfoAllLatencyP99(ms)"));
+			assertTrue("Dispatched poll commands", Long.parseLong(metrics.get("AdapterMetrics#MonitoringDispatchedCommands")) > 0);
+		}
+	}
+
+	/**
+	 * Statistics poll, that exceeds {@link PolycomGroupSeries#setPollTimeBudget(long)}, returns the latest known statistics, and the
+	 * overrun is reported. Destroy does not wait for the poll, that is completed in the background.
+	 */
+	@Test
+	public void test23_PollTimeBudget() throws Exception {
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setCommandBatchingEnabled(true);
+				settings.setSlowPollingInterval(0);
+				settings.setPollTimeBudget(1000);
+			});
+			assertEquals("Statistics", 2, device.getMultipleStatistics().size());
+
+			simulator.setLatency("status", 3000);
+			long start = System.currentTimeMillis();
+			List<Statistics> statistics = device.getMultipleStatistics();
+			assertTrue("Poll time budget", System.currentTimeMillis() - start < 2500);
+			assertTrue("Device is in a call", ((EndpointStatistics) statistics.get(0)).isInCall());
+			assertEquals("Volume", 36f, Float.parseFloat(volumeControl(statistics).getValue().toString()), 0);
+			assertEquals("Budget overruns", "1", ((ExtendedStatistics) statistics.get(1)).getStatistics()
+					.get("AdapterMetrics#PollTimeBudgetOverruns"));
+
+			simulator.setLatency("status", 0);
+			// Background poll is completed, and the next one fits the budget
+			Thread.sleep(2500);
+			statistics = device.getMultipleStatistics();
+			assertTrue("Device is in a call", ((EndpointStatistics) statistics.get(0)).isInCall());
+			assertEquals("Budget overruns", "1", ((ExtendedStatistics) statistics.get(1)).getStatistics()
+					.get("AdapterMetrics#PollTimeBudgetOverruns"));
+		}
+
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setParallelChannels(2);
+				settings.setSlowPollingInterval(0);
+				settings.setPollTimeBudget(500);
+			});
+			device.getMultipleStatistics();
+			simulator.setLatency("status", 10000);
+			device.getMultipleStatistics();
+			long destroyTimestamp = System.currentTimeMillis();
+			device.destroy();
+			assertTrue("Destroy does not wait for the background poll", System.currentTimeMillis() - destroyTimestamp < 2000);
+		}
+	}
+
+	/**
+	 * Call state and call quality data are collected first in each poll, ahead of the status and device information
+	 */
+	@Test
+	public void test24_CallQualityPolledFirst() throws Exception {
+		List<String> commands = new CopyOnWriteArrayList<>();
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) {
+				commands.add(command);
+				return Transcripts.respond(command);
+			}
+		};
+		device.setStaticPollingInterval(0);
+		device.setSlowPollingInterval(0);
+		try {
+			device.getMultipleStatistics();
+			commands.clear();
+			List<Statistics> statistics = device.getMultipleStatistics();
+			assertTrue("Device is in a call", ((EndpointStatistics) statistics.get(0)).isInCall());
+			assertEquals("Call state is collected first", "callinfo all", commands.get(0));
+			assertTrue("Call quality is collected ahead of status", commands.indexOf("advnetstats") < commands.indexOf("status"));
+			assertTrue("Call quality is collected ahead of device information", commands.indexOf("netstats") < commands.indexOf("whoami"));
+
+			Map<String, String> extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+			Instant callState = Instant.parse(extendedStatistics.get("AdapterMetrics#CallStateLastUpdated"));
+			Instant systemStatus = Instant.parse(extendedStatistics.get("AdapterMetrics#SystemStatusLastUpdated"));
+			assertNotNull("Call statistics timestamp", extendedStatistics.get("AdapterMetrics#CallStatisticsLastUpdated"));
+			assertFalse("Call state is sampled first", callState.isAfter(systemStatus));
+		} finally {
+			device.destroy();
+		}
+	}
+
+	/**
+	 * Volume set by a control operation is kept until the audio group is refreshed from the device, once the refresh delay has passed.
+	 * Camera group is not refreshed out of a call.
+	 */
+	@Test
+	public void test25_ControlGroupRefresh() throws Exception {
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setCommandBatchingEnabled(true);
+				settings.setAdaptiveCommandPacing(true);
+				settings.setControlRefreshDelay(3000);
+			});
+			assertEquals("Volume", 36f, Float.parseFloat(volumeControl(device.getMultipleStatistics()).getValue().toString()), 0);
+
+			ControllableProperty volume = new ControllableProperty();
+			volume.setProperty("Audio#Volume");
+			volume.setValue("40");
+			device.controlProperty(volume);
+			long commandCount = simulator.getCommandCount();
+			List<Statistics> statistics = device.getMultipleStatistics();
+			assertTrue("Statistics are polled right after the control operation", simulator.getCommandCount() > commandCount);
+			assertTrue("Device is in a call", ((EndpointStatistics) statistics.get(0)).isInCall());
+			assertEquals("Volume set by the control operation", 40f, Float.parseFloat(volumeControl(statistics).getValue().toString()), 0);
+
+			// Volume is changed on the device, after the control operation has been applied
+			Thread.sleep(300);
+			simulator.setVolume(45);
+			assertEquals("Volume is kept until refreshed", 40f,
+					Float.parseFloat(volumeControl(device.getMultipleStatistics()).getValue().toString()), 0);
+
+			Thread.sleep(3500);
+			assertEquals("Volume is refreshed from the device", 45f,
+					Float.parseFloat(volumeControl(device.getMultipleStatistics()).getValue().toString()), 0);
+
+			// Camera settings are collected in a call only, and so are they refreshed
+			simulator.setResponse("callinfo all", "callinfo all\r\nsystem is not in a call" + Transcripts.LINE_BREAKER);
+			assertFalse("Device is not in a call", ((EndpointStatistics) device.getMultipleStatistics().get(0)).isInCall());
+			long trackingRequests = simulator.getCommandCount("camera near tracking get");
+			ControllableProperty pan = new ControllableProperty();
+			pan.setProperty("Camera#CameraPan");
+			pan.setValue("100");
+			device.controlProperty(pan);
+			Thread.sleep(4000);
+			assertEquals("Camera settings are not refreshed out of a call", trackingRequests, simulator.getCommandCount("camera near tracking get"));
+		}
+	}
+
+	/**
+	 * Validate {@link ResponseCache} time to live and invalidation, and that cached responses are not requested again until
+	 * a control command changes them
+	 */
+	@Test
+	public void test26_ResponseCache() throws Exception {
+		Map<String, Long> ttls = new HashMap<>();
+		ttls.put("volume get", 1000L);
+		ttls.put("mute near get", 1000L);
+		Map<String, String> invalidations = new HashMap<>();
+		invalidations.put("volume set ", "volume get");
+		invalidations.put("mute near on", "mute near get");
+		ResponseCache cache = new ResponseCache(ttls, invalidations);
+		cache.put("volume get", "volume 30", 0);
+		cache.put("mute near get", "mute near off", 0);
+		cache.put("status", "status", 0);
+		assertEquals("Cached response", "volume 30", cache.get("volume get", 999));
+		assertNull("Expired response", cache.get("volume get", 1000));
+		assertNull("Command with no time to live", cache.get("status", 0));
+		cache.invalidate("volume set 40");
+		assertFalse("Response is dropped by the matching set command", cache.contains("volume get", 0));
+		assertTrue("Other responses are kept", cache.contains("mute near get", 0));
+		cache.invalidate("mute near get");
+		assertTrue("Response is not dropped by the same command", cache.contains("mute near get", 0));
+
+		cache = new ResponseCache(PolycomGroupSeries.RESPONSE_CACHE_TTLS, PolycomGroupSeries.RESPONSE_CACHE_INVALIDATIONS);
+		for (String command : Arrays.asList("cameratracking near mode get", "cameratracking near calibrate get", "camera near tracking get",
+				"camera near getposition")) {
+			cache.put(command, command, 0);
+		}
+		cache.invalidate("cameratracking near calibrate on");
+		assertFalse("Calibration is dropped by the calibration command", cache.contains("cameratracking near calibrate get", 0));
+		assertTrue("Tracking mode is kept by the calibration command", cache.contains("cameratracking near mode get", 0));
+		cache.invalidate("camera near setposition 1 2 3");
+		assertFalse("Position is dropped by the position command", cache.contains("camera near getposition", 0));
+		assertTrue("Tracking is kept by the position command", cache.contains("camera near tracking get", 0));
+
+		long readTimestamp = System.currentTimeMillis();
+		Thread.sleep(10);
+		cache.invalidate("volume set 40");
+		cache.put("volume get", "volume 30", readTimestamp);
+		assertFalse("Response read before the value has been changed is not cached", cache.contains("volume get", readTimestamp));
+		cache.put("volume get", "volume 40", System.currentTimeMillis());
+		assertTrue("Response read after the value has been changed is cached", cache.contains("volume get", System.currentTimeMillis()));
+
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setAdaptiveCommandPacing(true);
+				settings.setControlCoalescingWindow(0);
+				settings.setControlRefreshDelay(60000);
+				settings.setResponseCacheEnabled(true);
+			});
+			device.getMultipleStatistics();
+			assertEquals("Mute status is requested once per poll", 1, simulator.getCommandCount("mute near get"));
+			assertEquals("Camera settings are requested", 1, simulator.getCommandCount("camera near tracking get"));
+
+			device.getMultipleStatistics();
+			assertEquals("Cached volume is not requested again", 1, simulator.getCommandCount("volume get"));
+			assertEquals("Cached camera settings are not requested again", 1, simulator.getCommandCount("camera near tracking get"));
+			assertEquals("Call statistics are not cached", 2, simulator.getCommandCount("netstats"));
+
+			ControllableProperty volume = new ControllableProperty();
+			volume.setProperty("Audio#Volume");
+			volume.setValue("40");
+			device.controlProperty(volume);
+			device.getMultipleStatistics();
+			assertEquals("Volume is requested again once set", 2, simulator.getCommandCount("volume get"));
+			assertEquals("Mute status is still cached", 1, simulator.getCommandCount("mute near get"));
+
+			simulator.setErrorRate(1);
+			volume.setValue("50");
+			try {
+				device.controlProperty(volume);
+			} catch (Exception e) {
+				// The command may still have been applied by the device
+			}
+			simulator.setErrorRate(0);
+			device.getMultipleStatistics();
+			assertEquals("Volume is requested again once the set command has failed", 3, simulator.getCommandCount("volume get"));
+		}
+	}
+
+	/**
+	 * Control operations, sent over the dedicated control session, do not wait for a slow statistics poll command on the main session
+	 */
+	@Test
+	public void test27_ControlSession() throws Exception {
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setControlCoalescingWindow(0);
+				settings.setControlRefreshDelay(60000);
+				settings.setControlSessionEnabled(true);
+			});
+			device.getMultipleStatistics();
+			assertEquals("Control session is not established until the first control operation", 1, simulator.getOpenSessions());
+
+			simulator.setLatency("volume get", 3000);
+			CompletableFuture<List<Statistics>> poll = CompletableFuture.supplyAsync(() -> {
+				try {
+					return device.getMultipleStatistics();
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			});
+			Thread.sleep(500);
+			long hangupTimestamp = System.currentTimeMillis();
+			device.hangup(null);
+			device.mute();
+			long controlTime = System.currentTimeMillis() - hangupTimestamp;
+			assertFalse("Statistics poll is still waiting for the slow command", poll.isDone());
+			assertTrue("Control operations do not wait for the statistics poll, took " + controlTime + "ms", controlTime < 2000);
+			assertEquals("Control operations are sent over the dedicated session", 2, simulator.getOpenSessions());
+			assertEquals("Hangup is sent", 1, simulator.getCommandCount("hangup all"));
+			assertEquals("Mute is sent", 1, simulator.getCommandCount("mute near on"));
+			assertNotNull("Statistics poll completes", poll.get(30, TimeUnit.SECONDS));
+
+			simulator.setLatency("mute near off", 10000);
+			CompletableFuture<Void> unmute = CompletableFuture.runAsync(() -> {
+				try {
+					device.unmute();
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			});
+			Thread.sleep(500);
+			long destroyTimestamp = System.currentTimeMillis();
+			device.destroy();
+			assertTrue("Destroy does not wait for the control command in progress", System.currentTimeMillis() - destroyTimestamp < 2000);
+			try {
+				unmute.get(2, TimeUnit.SECONDS);
+				fail("Control command is completed on a closed session");
+			} catch (ExecutionException e) {
+				assertNotNull("Control command fails once the session is closed", e.getCause());
+			}
+		}
+
+		ControlChannel unreachable = new ControlChannel(new ConnectionGovernor(1, 1), "127.0.0.1", 1, user, password, 1000, null, null, null, null,
+				0, 0, false, 60000);
+		assertTrue("Control session is available until it fails", unreachable.isAvailable());
+		try {
+			unreachable.connect();
+			fail("Control session is established with no server");
+		} catch (Exception e) {
+			assertFalse("Control session is not retried within the retry interval", unreachable.isAvailable());
+		}
+		unreachable.close();
+
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setControlRefreshDelay(60000);
+				settings.setControlSessionEnabled(true);
+				settings.setParallelChannels(2);
+				settings.setMaxAdditionalSessions(1);
+			});
+			device.getMultipleStatistics();
+			int openSessions = simulator.getOpenSessions();
+			assertTrue("Parallel channels take the additional session", openSessions > 1);
+			ControllableProperty volume = new ControllableProperty();
+			volume.setProperty("Audio#Volume");
+			volume.setValue("45");
+			device.controlProperty(volume);
+			assertEquals("Control session does not exceed the additional session limit", openSessions, simulator.getOpenSessions());
+			assertEquals("Control operation is sent over the main session", 1, simulator.getCommandCount("volume set 45"));
+		}
+	}
+
+	/**
+	 * Create an adapter, connected to the simulator, and initialize it. The adapter is destroyed once the test is complete.
+	 *
+	 * @param simulator simulator to connect to, started by this method
+	 * @param settings adapter settings, applied before the adapter is initialized
+	 * @return initialized adapter
+	 * @throws Exception if the simulator cannot be started, or the adapter cannot be initialized
+	 */
+	private PolycomGroupSeries connect(DeviceSimulator simulator, Consumer<PolycomGroupSeries> settings) throws Exception {
+		PolycomGroupSeries device = new PolycomGroupSeries();
+		device.setHost("127.0.0.1");
+		device.setPort(simulator.start());
+		device.setLogin(user);
+		device.setPassword(password);
+		settings.accept(device);
+		device.init();
+		simulatedDevices.add(device);
+		return device;
+	}
+
+	private static AdvancedControllableProperty volumeControl(List<Statistics> statistics) {
+		for (Statistics statistic : statistics) {
+			if (statistic instanceof ExtendedStatistics) {
+				for (AdvancedControllableProperty control
+						: ((ExtendedStatistics) statistic).getControllableProperties()) {
+					if ("Audio#Volume".equals(control.getName())) {
+						return control;
+					}
+				}
+			}
+		}
+		fail("Volume control is not reported");
+		return null;
+	}
+
+	private static String mutate(String source, String alphabet, Random random) {
+		StringBuilder mutated = new StringBuilder(source);
+		for (int i = random.nextInt(8); i > 0; i--) {
+			int position = random.nextInt(mutated.length());
+			char c = alphabet.charAt(random.nextInt(alphabet.length()));
+			if (random.nextBoolean()) {
+				mutated.setCharAt(position, c);
+			} else {
+				mutated.insert(position, c);
+			}
+		}
+		return mutated.toString();
+	}
+
+	private static void assertSameStatistics(String networkStats, String advancedStats) {
+		CallStats expectedCall = new CallStats();
+		AudioChannelStats expectedAudio = new AudioChannelStats();
+		VideoChannelStats expectedVideo = new VideoChannelStats();
+		ContentChannelStats expectedContent = new ContentChannelStats();
+		int[] expectedRates = LegacyCallStatisticsParser.parse(networkStats, advancedStats, expectedCall, expectedAudio, expectedVideo, expectedContent);
+
+		CallStats call = new CallStats();
+		AudioChannelStats audio = new AudioChannelStats();
+		VideoChannelStats video = new VideoChannelStats();
+		ContentChannelStats content = new ContentChannelStats();
+		CallStatisticsParser parser = new CallStatisticsParser(call, audio, video, content);
+		parser.parseNetworkStats(networkStats);
+		parser.parseAdvancedStats(advancedStats);
+
+		String message = networkStats + advancedStats;
+		assertEquals(message, Arrays.asList(expectedCall.getProtocol(), expectedCall.getPercentPacketLossTx(), expectedCall.getTotalPacketLossTx()),
+				Arrays.asList(call.getProtocol(), call.getPercentPacketLossTx(), call.getTotalPacketLossTx()));
+		assertEquals(message, Arrays.asList(expectedAudio.getCodec(), expectedAudio.getJitterTx(), expectedAudio.getJitterRx(), expectedAudio.getPacketLossTx(),
+				expectedAudio.getPacketLossRx()),
+				Arrays.asList(audio.getCodec(), audio.getJitterTx(), audio.getJitterRx(), audio.getPacketLossTx(), audio.getPacketLossRx()));
+		assertEquals(message, Arrays.asList(expectedVideo.getCodec(), expectedVideo.getFrameSizeTx(), expectedVideo.getFrameSizeRx(), expectedVideo.getJitterTx(),
+				expectedVideo.getJitterRx(), expectedVideo.getPacketLossTx(), expectedVideo.getPacketLossRx(), expectedVideo.getBitRateTx(),
+				expectedVideo.getBitRateRx(), expectedVideo.getFrameRateTx(), expectedVideo.getFrameRateRx()),
+				Arrays.asList(video.getCodec(), video.getFrameSizeTx(), video.getFrameSizeRx(), video.getJitterTx(), video.getJitterRx(), video.getPacketLossTx(),
+						video.getPacketLossRx(), video.getBitRateTx(), video.getBitRateRx(), video.getFrameRateTx(), video.getFrameRateRx()));
+		assertEquals(message, Arrays.asList(expectedContent.getCodec(), expectedContent.getPacketLossTx(), expectedContent.getPacketLossRx(),
+				expectedContent.getBitRateTx(), expectedContent.getBitRateRx(), expectedContent.getFrameRateTx(), expectedContent.getFrameRateRx()),
+				Arrays.asList(content.getCodec(), content.getPacketLossTx(), content.getPacketLossRx(), content.getBitRateTx(), content.getBitRateRx(),
+						content.getFrameRateTx(), content.getFrameRateRx()));
+		assertEquals(message, Arrays.asList(expectedRates[0], expectedRates[1], expectedRates[2], expectedRates[3], expectedRates[4], expectedRates[5]),
+				Arrays.asList(rate(parser.getAudioTxRate()), rate(parser.getAudioRxRate()), rate(parser.getVideoTxRate()), rate(parser.getVideoRxRate()),
+						rate(parser.getContentTxRate()), rate(parser.getContentRxRate())));
+	}
+
+	private static int rate(Integer rate) {
+		return rate == null ? Integer.MIN_VALUE : rate;
+	}
+
+	/**
+	 * Validate {@link CommandPacer}: a command waits for the remaining part of the gap only, the adaptive gap is decreased while the
+	 * device is healthy, increased on latency spikes and failures, and kept above the failure rate floor. Cooldown settings do not
+	 * depend on the order they are set in.
+	 */
+	@Test
+	public void test28_CommandPacing() throws Exception {
+		CommandPacer fixedPacer = new CommandPacer(20, 100, false);
+		long start = System.currentTimeMillis();
+		assertEquals("First command is not delayed", 0, fixedPacer.reserve());
+		Thread.sleep(60);
+		assertTrue("Remaining part of the gap", fixedPacer.acquire() <= 40);
+		assertTrue("Gap is kept", System.currentTimeMillis() - start >= 100);
+
+		CommandPacer pacer = new CommandPacer(20, 200, true);
+		assertEquals("Initial gap", 200, pacer.getGap());
+		for (int i = 0; i < 20; i++) {
+			pacer.onResponse(50, true);
+		}
+		assertEquals("Gap is decreased to the minimum while the device is healthy", 20, pacer.getGap());
+		pacer.onResponse(500, true);
+		assertEquals("Gap is increased on a latency spike", 30, pacer.getGap());
+		pacer.onResponse(50, false);
+		assertEquals("Gap is increased on a failure", 60, pacer.getGap());
+		for (int i = 0; i < 3; i++) {
+			pacer.onResponse(50, true);
+		}
+		long floor = Math.round(20 + pacer.getFailureRate() * 180);
+		assertTrue("Failure rate floor", floor > 20);
+		assertEquals("Gap is kept above the failure rate floor", floor, pacer.getGap());
+
+		pacer.setGapRange(500, 300);
+		assertEquals("Minimal gap is capped by the maximal one", 300, pacer.getGap());
+
+		PolycomGroupSeries device = new PolycomGroupSeries();
+		device.setMinCommandsCooldownDelay(500);
+		device.setCommandsCooldownDelay(1000);
+		assertEquals("Minimal cooldown set ahead of the maximal one", 500, device.getMinCommandsCooldownDelay());
+		assertEquals("Maximal cooldown", 1000, device.getCommandsCooldownDelay());
+	}
+
+	/**
+	 * Camera command, reported as "only supported" with another camera, is not sent again until the device model or software
+	 * version changes, while a supported command is still sent after a timeout
+	 */
+	@Test
+	public void test29_CameraCapabilities() throws Exception {
+		List<String> commands = new CopyOnWriteArrayList<>();
+		AtomicInteger trackingTimeouts = new AtomicInteger();
+		AtomicReference<String> whoami = new AtomicReference<>(Transcripts.WHOAMI);
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) throws Exception {
+				commands.add(command);
+				if ("whoami".equals(command)) {
+					return whoami.get();
+				}
+				if ("cameratracking near mode get".equals(command)) {
+					return command + "\r\nonly supported with EagleEye Director II" + Transcripts.LINE_BREAKER;
+				}
+				if ("camera near tracking get".equals(command) && trackingTimeouts.getAndDecrement() > 0) {
+					throw new IOException("Read timed out");
+				}
+				return Transcripts.respond(command);
+			}
+		};
+		device.setStaticPollingInterval(0);
+		device.setSlowPollingInterval(0);
+		try {
+			device.getMultipleStatistics();
+			assertTrue("Camera capability is discovered", commands.contains("cameratracking near mode get"));
+
+			commands.clear();
+			trackingTimeouts.set(1);
+			device.getMultipleStatistics();
+			assertFalse("Unsupported command is not sent again", commands.contains("cameratracking near mode get"));
+			assertTrue("Supported command is sent", commands.contains("camera near tracking get"));
+
+			commands.clear();
+			device.getMultipleStatistics();
+			assertTrue("Command is still supported after a timeout", commands.contains("camera near tracking get"));
+			assertFalse("Unsupported command is not sent again", commands.contains("cameratracking near mode get"));
+
+			commands.clear();
+			whoami.set(Transcripts.WHOAMI.replace("Release 6.2.2.3", "Release 6.2.2.4"));
+			device.getMultipleStatistics();
+			assertTrue("Camera capabilities are discovered again once the software version changes", commands.contains("cameratracking near mode get"));
+		} finally {
+			device.destroy();
+		}
+	}
+
+	/**
+	 * Device information and registration status are not requested again while fresh, and the latest values are reported along
+	 * with the time they were collected at
+	 */
+	@Test
+	public void test30_PollGroupFreshness() throws Exception {
+		PollGroup<String> group = new PollGroup<>("Test", 60000);
+		assertNull("Group is not collected yet", group.getIfFresh(0));
+		group.update("value", 1000);
+		assertEquals("Fresh value", "value", group.getIfFresh(2000));
+		assertNull("Expired value", group.getIfFresh(61000));
+		group.invalidate();
+		assertNull("Invalidated value", group.getIfFresh(2000));
+
+		List<String> commands = new CopyOnWriteArrayList<>();
+		PolycomGroupSeries device = new PolycomGroupSeries() {
+			@Override
+			public String send(String command) {
+				commands.add(command);
+				return Transcripts.respond(command);
+			}
+		};
+		try {
+			List<Statistics> statistics = device.getMultipleStatistics();
+			assertTrue("Device information is collected", commands.contains("whoami"));
+			assertTrue("Registration status is collected", commands.contains("status"));
+			Map<String, String> extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+			String deviceInfoTimestamp = extendedStatistics.get("AdapterMetrics#DeviceInfoLastUpdated");
+			String registrationTimestamp = extendedStatistics.get("AdapterMetrics#RegistrationStatusLastUpdated");
+			assertNotNull("Device information timestamp", deviceInfoTimestamp);
+			assertNotNull("Registration status timestamp", registrationTimestamp);
+			RegistrationStatus registration = ((EndpointStatistics) statistics.get(0)).getRegistrationStatus();
+
+			commands.clear();
+			Thread.sleep(10);
+			statistics = device.getMultipleStatistics();
+			assertFalse("Fresh device information is not requested", commands.contains("whoami"));
+			assertFalse("Fresh registration status is not requested", commands.contains("status"));
+			assertTrue("Call state is requested", commands.contains("callinfo all"));
+			extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+			assertEquals("Device model is reported", "Group 500", extendedStatistics.get("Device#Model"));
+			assertEquals("Device information timestamp is kept", deviceInfoTimestamp, extendedStatistics.get("AdapterMetrics#DeviceInfoLastUpdated"));
+			assertEquals("Registration status timestamp is kept", registrationTimestamp,
+					extendedStatistics.get("AdapterMetrics#RegistrationStatusLastUpdated"));
+			assertEquals("Registration status is reported", registration, ((EndpointStatistics) statistics.get(0)).getRegistrationStatus());
+
+			commands.clear();
+			device.setStaticPollingInterval(0);
+			device.setSlowPollingInterval(0);
+			statistics = device.getMultipleStatistics();
+			assertTrue("Expired device information is requested", commands.contains("whoami"));
+			assertTrue("Expired registration status is requested", commands.contains("status"));
+			extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+			assertTrue("Device information timestamp is updated",
+					Instant.parse(extendedStatistics.get("AdapterMetrics#DeviceInfoLastUpdated")).isAfter(Instant.parse(deviceInfoTimestamp)));
+			assertTrue("Registration status timestamp is updated",
+					Instant.parse(extendedStatistics.get("AdapterMetrics#RegistrationStatusLastUpdated")).isAfter(Instant.parse(registrationTimestamp)));
+		} finally {
+			device.destroy();
+		}
+	}
+
+	/**
+	 * Independent command groups are sent concurrently over {@link PolycomGroupSeries#setParallelChannels(int)} channels, and the
+	 * responses are joined into the same statistics. Commands of a failed channel are sent over the main channel.
+	 */
+	@Test
+	public void test31_ParallelChannels() throws Exception {
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			simulator.setLatency("status", 1500);
+			simulator.setLatency("whoami", 1500);
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setParallelChannels(3);
+				settings.setAdaptiveCommandPacing(true);
+				settings.setStaticPollingInterval(0);
+				settings.setSlowPollingInterval(0);
+				settings.setTimeout(3000);
+			});
+
+			// Channels are established by the first poll
+			device.getMultipleStatistics();
+			long startTimestamp = System.currentTimeMillis();
+			List<Statistics> statistics = device.getMultipleStatistics();
+			long elapsed = System.currentTimeMillis() - startTimestamp;
+			assertTrue("Status and device information are collected concurrently: " + elapsed + "ms", elapsed < 3000);
+			assertTrue("Parallel channels are open", simulator.getOpenSessions() > 2);
+
+			EndpointStatistics endpointStatistics = (EndpointStatistics) statistics.get(0);
+			Map<String, String> extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+			assertTrue("Device is in a call", endpointStatistics.isInCall());
+			assertNotNull("Call quality is collected", endpointStatistics.getAudioChannelStats());
+			assertNotNull("Registration status is collected", endpointStatistics.getRegistrationStatus());
+			assertEquals("Device information is collected", "Group 500", extendedStatistics.get("Device#Model"));
+			assertEquals("Volume is collected", 36f, Float.parseFloat(volumeControl(statistics).getValue().toString()), 0);
+
+			simulator.setLatency("whoami", 5000, 1);
+			long whoamiCount = simulator.getCommandCount("whoami");
+			statistics = device.getMultipleStatistics();
+			extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+			assertTrue("Device is in a call", ((EndpointStatistics) statistics.get(0)).isInCall());
+			assertEquals("Device information is collected over the main channel", "Group 500", extendedStatistics.get("Device#Model"));
+			assertEquals("Device information is requested once more", whoamiCount + 1, simulator.getCommandCount("whoami"));
+		}
+	}
+
+	/**
+	 * Batched writes to a device that echoes the whole batch ahead of the responses (typeahead) are not waited for until the
+	 * read times out: batching is suspended, and the commands are sent one by one.
+	 */
+	@Test
+	public void test32_BatchingWithTypeahead() throws Exception {
+		try (DeviceSimulator simulator = new DeviceSimulator(user, password)) {
+			simulator.setTypeahead(true);
+			PolycomGroupSeries device = connect(simulator, settings -> {
+				settings.setCommandBatchingEnabled(true);
+				settings.setStaticPollingInterval(0);
+				settings.setSlowPollingInterval(0);
+				settings.setTimeout(10000);
+			});
+
+			// Typeahead is detected by the first poll, which then falls back to sequential commands
+			for (int i = 0; i < 2; i++) {
+				long statusCount = simulator.getCommandCount("status");
+				long startTimestamp = System.currentTimeMillis();
+				List<Statistics> statistics = device.getMultipleStatistics();
+				long elapsed = System.currentTimeMillis() - startTimestamp;
+				assertTrue("Typeahead echo is detected without waiting for the read timeout: " + elapsed + "ms", elapsed < 10000);
+
+				EndpointStatistics endpointStatistics = (EndpointStatistics) statistics.get(0);
+				Map<String, String> extendedStatistics = ((ExtendedStatistics) statistics.get(1)).getStatistics();
+				assertTrue("Device is in a call", endpointStatistics.isInCall());
+				assertEquals("Video codec", "H.264High", endpointStatistics.getVideoChannelStats().getCodec());
+				assertEquals("Device model", "Group 500", extendedStatistics.get("Device#Model"));
+				assertEquals("Volume", 36f, Float.parseFloat(volumeControl(statistics).getValue().toString()), 0);
+				if (i > 0) {
+					assertEquals("Batching is suspended, status is requested once", statusCount + 1, simulator.getCommandCount("status"));
+				}
+			}
+		}
+	}
+
 	/**
 	 * Testing of dial method when sending different protocols, specifically for bug SYUS-5776
 	 */
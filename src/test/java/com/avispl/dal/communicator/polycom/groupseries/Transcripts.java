@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+
+package com.avispl.dal.communicator.polycom.groupseries;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Transcripts - responses of a Polycom Group Series 500 in a video call, as captured over SSH (command echo included),
+ * used by the tests, the benchmarks and {@link DeviceSimulator} in place of a live codec.
+ *
+ * @author Symphony Dev Team<br>
+ *         Created on Oct 17, 2026
+ * @since 1.1.2
+ */
+final class Transcripts {
+	static final String LINE_BREAKER = "\r\r\n";
+
+	static final String WHOAMI = "whoami\r\n"
+			+ "Hi, my name is : Room 1042" + LINE_BREAKER
+			+ "Model: Group 500" + LINE_BREAKER
+			+ "Software Version: Release 6.2.2.3 - 19Nov2020 04:05" + LINE_BREAKER
+			+ "Build Information: root on ubuntu-bldsvr-3" + LINE_BREAKER
+			+ "Serial Number: 8215390A1B2C3D" + LINE_BREAKER
+			+ "Time In Last Call: 0:12:48" + LINE_BREAKER
+			+ "Total Time In Calls: 212:33:19" + LINE_BREAKER
+			+ "Total Calls: 1379" + LINE_BREAKER
+			+ "SNTP Time Service: auto insync ntp1.avispl.com" + LINE_BREAKER
+			+ "Local Time is: Sat, 17 Oct 2026 10:21:44" + LINE_BREAKER
+			+ "Network Interface: NONE" + LINE_BREAKER
+			+ "IP Video Number: 10.20.30.40" + LINE_BREAKER
+			+ "MP Enabled: True" + LINE_BREAKER
+			+ "H323 Enabled: True" + LINE_BREAKER
+			+ "FTP Enabled: False" + LINE_BREAKER
+			+ "HTTP Enabled: True" + LINE_BREAKER
+			+ "SNMP Enabled: True" + LINE_BREAKER;
+
+	/**
+	 * Login banner, same as the {@link #WHOAMI} output
+	 */
+	static final String BANNER = WHOAMI.substring("whoami\r\n".length());
+
+	static final String STATUS = "status\r\n"
+			+ "inacall online" + LINE_BREAKER
+			+ "autoanswerp2p online" + LINE_BREAKER
+			+ "remotecontrol online" + LINE_BREAKER
+			+ "microphones online" + LINE_BREAKER
+			+ "camera online" + LINE_BREAKER
+			+ "trackablecamera online" + LINE_BREAKER
+			+ "visualboard online" + LINE_BREAKER
+			+ "globaldirectory offline" + LINE_BREAKER
+			+ "ipnetwork online" + LINE_BREAKER
+			+ "gatekeeper online" + LINE_BREAKER
+			+ "sipserver online" + LINE_BREAKER
+			+ "logthreshold offline" + LINE_BREAKER
+			+ "meetingpassword offline" + LINE_BREAKER
+			+ "rpms offline" + LINE_BREAKER
+			+ "calendar online" + LINE_BREAKER
+			+ "provisioning offline" + LINE_BREAKER
+			+ "audio online" + LINE_BREAKER
+			+ "status end" + LINE_BREAKER;
+
+	static final String CALL_INFO = "callinfo all\r\n"
+			+ "callinfo begin" + LINE_BREAKER
+			+ "callinfo:3:Far Site:far.site@avispl.com:1920:connected:notmuted:outgoing:videocall" + LINE_BREAKER
+			+ "callinfo end" + LINE_BREAKER;
+
+	static final String NETWORK_STATS = "netstats\r\n"
+			+ "call:0 txrate:1920 K rxrate:1920 K pktloss:12 %pktloss:0.5 %" + LINE_BREAKER
+			+ "tvp:H.264High rvp:H.264High tvf:1280x720p rvf:1280x720p tap:Siren22Stereo rap:Siren22Stereo tcp:H.323 rcp:H.323" + LINE_BREAKER
+			+ "tcs:H.264 rcs:H.264 rctp:H.264 tctp:---" + LINE_BREAKER;
+
+	static final String ADVANCED_STATS = "advnetstats\r\n"
+			+ "call:0 tar:64 K rar:64 K tvr:1856 K rvr:1856 K" + LINE_BREAKER
+			+ "tvru:1720 K rvru:1698 K tvfr:29.97 rvfr:30 vfe:0" + LINE_BREAKER
+			+ "tapl:0 rapl:3 taj:3 ms raj:4 ms tvpl:0 rvpl:7" + LINE_BREAKER
+			+ "tvj:4 ms rvj:9 ms tcr:0 K rcr:768 K tcru:--- rcru:512 K tcfr:--- rcfr:5 tcpl:0 rcpl:1" + LINE_BREAKER
+			+ "dc:Disabled rsid:7771040001@vnoc1.com ccaps:---" + LINE_BREAKER;
+
+	static final String VOLUME = "volume get\r\nvolume 36" + LINE_BREAKER;
+
+	/**
+	 * Responses of the commands sent during a statistics poll, keyed by command
+	 */
+	static final Map<String, String> RESPONSES = new HashMap<>();
+
+	static {
+		RESPONSES.put("whoami", WHOAMI);
+		RESPONSES.put("status", STATUS);
+		RESPONSES.put("callinfo all", CALL_INFO);
+		RESPONSES.put("netstats", NETWORK_STATS);
+		RESPONSES.put("advnetstats", ADVANCED_STATS);
+		RESPONSES.put("volume get", VOLUME);
+		RESPONSES.put("mute near get", "mute near get\r\nmute near off" + LINE_BREAKER);
+		RESPONSES.put("gatekeeperip get", "gatekeeperip get\r\ngatekeeperip 172.31.254.64" + LINE_BREAKER);
+		RESPONSES.put("systemsetting get sipregistrarserver", "systemsetting get sipregistrarserver\r\nsystemsetting sipregistrarserver 172.31.254.65" + LINE_BREAKER);
+		RESPONSES.put("videomute near get", "videomute near get\r\nvideomute near off" + LINE_BREAKER);
+		RESPONSES.put("camerainvert near get", "camerainvert near get\r\ncamerainvert near off" + LINE_BREAKER);
+		RESPONSES.put("camera near tracking get", "camera near tracking get\r\ncamera near tracking on" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near calibrate get", "cameratracking near calibrate get\r\ncameratracking near calibrate off" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near framing get", "cameratracking near framing get\r\ncameratracking near framing medium" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near mode get", "cameratracking near mode get\r\ncameratracking near mode group" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near participant get", "cameratracking near participant get\r\ncameratracking near participant on" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near pip get", "cameratracking near pip get\r\ncameratracking near pip off" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near wake get", "cameratracking near wake get\r\ncameratracking near wake on" + LINE_BREAKER);
+		RESPONSES.put("cameratracking near speed get", "cameratracking near speed get\r\ncameratracking near speed normal" + LINE_BREAKER);
+		RESPONSES.put("camera near getposition", "camera near getposition\r\ncamera near position -1200 300 4500" + LINE_BREAKER);
+	}
+
+	private Transcripts() {
+	}
+
+	/**
+	 * Retrieves response of the command
+	 *
+	 * @param command command sent
+	 * @return captured response, or the response of an unknown command
+	 */
+	static String respond(String command) {
+		String response = RESPONSES.get(command);
+		return response != null ? response : command + "\r\nerror: command not found" + LINE_BREAKER;
+	}
+}